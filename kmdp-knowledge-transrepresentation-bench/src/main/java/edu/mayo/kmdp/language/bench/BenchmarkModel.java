@@ -0,0 +1,140 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.CMMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.Knowledge_Asset_Surrogate_2_0;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.RDF_XML_Syntax;
+
+import edu.mayo.kmdp.util.FileUtil;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import org.omg.spec.api4kp._20200801.AbstractCarrier;
+import org.omg.spec.api4kp._20200801.AbstractCarrier.Encodings;
+import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
+
+/**
+ * A serialized model used as benchmark input, with its (fully specified) representation.
+ * <p>
+ * Models are identified by a 'spec', which is either the name of one of the sample models
+ * reused from the core test suite, or a synthetic model, specified as 'synthetic-{type}:{size}'
+ * (e.g. 'synthetic-dmn:1000'). See {@link SyntheticModels}.
+ */
+public final class BenchmarkModel {
+
+  public static final Charset CHARSET = Charset.defaultCharset();
+
+  private final String spec;
+  private final KnowledgeRepresentationLanguage language;
+  private final SyntacticRepresentation representation;
+  private final String serialized;
+  private final byte[] encoded;
+
+  private BenchmarkModel(String spec, KnowledgeRepresentationLanguage language,
+      SyntacticRepresentation representation, String serialized) {
+    this.spec = spec;
+    this.language = language;
+    this.representation = representation;
+    this.serialized = serialized;
+    this.encoded = serialized.getBytes(CHARSET);
+  }
+
+  public static BenchmarkModel load(String spec) {
+    switch (spec) {
+      case "dmn12example.dmn":
+        return new BenchmarkModel(spec, DMN_1_2, xml(DMN_1_2), read("/" + spec));
+      case "cmmn11Example.cmmn":
+      case "cmmn/v1_1/MixedCaseModel.cmmn.xml":
+        return new BenchmarkModel(spec, CMMN_1_1, xml(CMMN_1_1), read("/" + spec));
+      case "surr2.xml":
+        return new BenchmarkModel(spec, Knowledge_Asset_Surrogate_2_0,
+            xml(Knowledge_Asset_Surrogate_2_0), read("/" + spec));
+      case "owlExample.rdf":
+        return new BenchmarkModel(spec, OWL_2,
+            rep(OWL_2, RDF_XML_Syntax, XML_1_1, CHARSET, Encodings.DEFAULT), read("/" + spec));
+      default:
+        return synthetic(spec);
+    }
+  }
+
+  private static BenchmarkModel synthetic(String spec) {
+    String[] parts = spec.split(":");
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Unrecognized model " + spec);
+    }
+    int size = Integer.parseInt(parts[1]);
+    switch (parts[0]) {
+      case "synthetic-dmn":
+        return new BenchmarkModel(spec, DMN_1_2, xml(DMN_1_2), SyntheticModels.dmn(size));
+      case "synthetic-cmmn":
+        return new BenchmarkModel(spec, CMMN_1_1, xml(CMMN_1_1), SyntheticModels.cmmn(size));
+      default:
+        throw new IllegalArgumentException("Unrecognized model " + spec);
+    }
+  }
+
+  private static SyntacticRepresentation xml(KnowledgeRepresentationLanguage lang) {
+    return rep(lang, XML_1_1, CHARSET, Encodings.DEFAULT);
+  }
+
+  private static String read(String path) {
+    InputStream is = BenchmarkModel.class.getResourceAsStream(path);
+    if (is == null) {
+      throw new IllegalArgumentException("Missing benchmark resource " + path);
+    }
+    return FileUtil.read(is)
+        .orElseThrow(() -> new IllegalArgumentException("Unable to read " + path));
+  }
+
+  public String getSpec() {
+    return spec;
+  }
+
+  public KnowledgeRepresentationLanguage getLanguage() {
+    return language;
+  }
+
+  public SyntacticRepresentation getRepresentation() {
+    return (SyntacticRepresentation) representation.clone();
+  }
+
+  public String getSerialized() {
+    return serialized;
+  }
+
+  /**
+   * @return a fresh, undeclared carrier for the encoded model, as submitted for detection
+   */
+  public KnowledgeCarrier toUndeclaredCarrier() {
+    return AbstractCarrier.of(encoded);
+  }
+
+  /**
+   * @return a fresh carrier for the encoded model, with its declared representation
+   */
+  public KnowledgeCarrier toEncodedCarrier() {
+    return AbstractCarrier.of(encoded)
+        .withRepresentation(getRepresentation())
+        .withAssetId(SemanticIdentifier.randomId())
+        .withArtifactId(SemanticIdentifier.randomId());
+  }
+
+}
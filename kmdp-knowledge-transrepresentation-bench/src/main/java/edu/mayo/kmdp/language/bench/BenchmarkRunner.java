@@ -0,0 +1,45 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so that throughput is reported together
+ * with the normalized allocation rate (gc.alloc.rate.norm, in bytes per operation).
+ * <p>
+ * Usage: BenchmarkRunner [include regex] [result file]
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+    // main only
+  }
+
+  public static void main(String... args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(args.length > 0 ? args[0] : "edu.mayo.kmdp.language.bench.*")
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result(args.length > 1 ? args[1] : "jmh-result.json")
+        .build();
+    new Runner(options).run();
+  }
+
+}
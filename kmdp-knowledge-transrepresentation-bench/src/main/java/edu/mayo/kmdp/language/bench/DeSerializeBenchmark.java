@@ -0,0 +1,222 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Concrete_Knowledge_Expression;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Encoded_Knowledge_Expression;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Serialized_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.LanguageDeSerializer;
+import edu.mayo.kmdp.language.parsers.cmmn.v1_1.CMMN11Parser;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.parsers.owl2.OWLParser;
+import edu.mayo.kmdp.language.parsers.surrogate.v2.Surrogate2Parser;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link LanguageDeSerializer#applyLift} and {@link LanguageDeSerializer#applyLower}
+ * across every pair of {@link ParsingLevelSeries}.
+ * <p>
+ * The source carriers at each level are prepared once, by lifting the encoded model.
+ * Only the transitions supported by each model are benchmarked: a failure at setup
+ * denotes a regression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeSerializeBenchmark {
+
+  public enum Transition {
+    LIFT_ENCODED_SERIALIZED(Encoded_Knowledge_Expression, Serialized_Knowledge_Expression),
+    LIFT_ENCODED_CONCRETE(Encoded_Knowledge_Expression, Concrete_Knowledge_Expression),
+    LIFT_ENCODED_ABSTRACT(Encoded_Knowledge_Expression, Abstract_Knowledge_Expression),
+    LIFT_SERIALIZED_CONCRETE(Serialized_Knowledge_Expression, Concrete_Knowledge_Expression),
+    LIFT_SERIALIZED_ABSTRACT(Serialized_Knowledge_Expression, Abstract_Knowledge_Expression),
+    LIFT_CONCRETE_ABSTRACT(Concrete_Knowledge_Expression, Abstract_Knowledge_Expression),
+    LOWER_ABSTRACT_CONCRETE(Abstract_Knowledge_Expression, Concrete_Knowledge_Expression),
+    LOWER_ABSTRACT_SERIALIZED(Abstract_Knowledge_Expression, Serialized_Knowledge_Expression),
+    LOWER_ABSTRACT_ENCODED(Abstract_Knowledge_Expression, Encoded_Knowledge_Expression),
+    LOWER_CONCRETE_SERIALIZED(Concrete_Knowledge_Expression, Serialized_Knowledge_Expression),
+    LOWER_CONCRETE_ENCODED(Concrete_Knowledge_Expression, Encoded_Knowledge_Expression),
+    LOWER_SERIALIZED_ENCODED(Serialized_Knowledge_Expression, Encoded_Knowledge_Expression);
+
+    final ParsingLevelSeries from;
+    final ParsingLevelSeries to;
+
+    Transition(ParsingLevelSeries from, ParsingLevelSeries to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    boolean isLift() {
+      return name().startsWith("LIFT");
+    }
+  }
+
+  /**
+   * The supported (model, transition) pairs, as 'model/TRANSITION'.
+   * The XML-based languages support every transition, while the OWL parser
+   * does not have a concrete (parse tree) level.
+   */
+  @Param({
+      "dmn12example.dmn/LIFT_ENCODED_SERIALIZED",
+      "dmn12example.dmn/LIFT_ENCODED_CONCRETE",
+      "dmn12example.dmn/LIFT_ENCODED_ABSTRACT",
+      "dmn12example.dmn/LIFT_SERIALIZED_CONCRETE",
+      "dmn12example.dmn/LIFT_SERIALIZED_ABSTRACT",
+      "dmn12example.dmn/LIFT_CONCRETE_ABSTRACT",
+      "dmn12example.dmn/LOWER_ABSTRACT_CONCRETE",
+      "dmn12example.dmn/LOWER_ABSTRACT_SERIALIZED",
+      "dmn12example.dmn/LOWER_ABSTRACT_ENCODED",
+      "dmn12example.dmn/LOWER_CONCRETE_SERIALIZED",
+      "dmn12example.dmn/LOWER_CONCRETE_ENCODED",
+      "dmn12example.dmn/LOWER_SERIALIZED_ENCODED",
+      "cmmn11Example.cmmn/LIFT_ENCODED_SERIALIZED",
+      "cmmn11Example.cmmn/LIFT_ENCODED_CONCRETE",
+      "cmmn11Example.cmmn/LIFT_ENCODED_ABSTRACT",
+      "cmmn11Example.cmmn/LIFT_SERIALIZED_CONCRETE",
+      "cmmn11Example.cmmn/LIFT_SERIALIZED_ABSTRACT",
+      "cmmn11Example.cmmn/LIFT_CONCRETE_ABSTRACT",
+      "cmmn11Example.cmmn/LOWER_ABSTRACT_CONCRETE",
+      "cmmn11Example.cmmn/LOWER_ABSTRACT_SERIALIZED",
+      "cmmn11Example.cmmn/LOWER_ABSTRACT_ENCODED",
+      "cmmn11Example.cmmn/LOWER_CONCRETE_SERIALIZED",
+      "cmmn11Example.cmmn/LOWER_CONCRETE_ENCODED",
+      "cmmn11Example.cmmn/LOWER_SERIALIZED_ENCODED",
+      "owlExample.rdf/LIFT_ENCODED_SERIALIZED",
+      "owlExample.rdf/LIFT_ENCODED_ABSTRACT",
+      "owlExample.rdf/LIFT_SERIALIZED_ABSTRACT",
+      "owlExample.rdf/LOWER_ABSTRACT_SERIALIZED",
+      "owlExample.rdf/LOWER_ABSTRACT_ENCODED",
+      "owlExample.rdf/LOWER_SERIALIZED_ENCODED",
+      "surr2.xml/LIFT_ENCODED_SERIALIZED",
+      "surr2.xml/LIFT_ENCODED_CONCRETE",
+      "surr2.xml/LIFT_ENCODED_ABSTRACT",
+      "surr2.xml/LIFT_SERIALIZED_CONCRETE",
+      "surr2.xml/LIFT_SERIALIZED_ABSTRACT",
+      "surr2.xml/LIFT_CONCRETE_ABSTRACT",
+      "surr2.xml/LOWER_ABSTRACT_CONCRETE",
+      "surr2.xml/LOWER_ABSTRACT_SERIALIZED",
+      "surr2.xml/LOWER_ABSTRACT_ENCODED",
+      "surr2.xml/LOWER_CONCRETE_SERIALIZED",
+      "surr2.xml/LOWER_CONCRETE_ENCODED",
+      "surr2.xml/LOWER_SERIALIZED_ENCODED",
+      "synthetic-dmn:1000/LIFT_ENCODED_SERIALIZED",
+      "synthetic-dmn:1000/LIFT_ENCODED_CONCRETE",
+      "synthetic-dmn:1000/LIFT_ENCODED_ABSTRACT",
+      "synthetic-dmn:1000/LIFT_SERIALIZED_CONCRETE",
+      "synthetic-dmn:1000/LIFT_SERIALIZED_ABSTRACT",
+      "synthetic-dmn:1000/LIFT_CONCRETE_ABSTRACT",
+      "synthetic-dmn:1000/LOWER_ABSTRACT_CONCRETE",
+      "synthetic-dmn:1000/LOWER_ABSTRACT_SERIALIZED",
+      "synthetic-dmn:1000/LOWER_ABSTRACT_ENCODED",
+      "synthetic-dmn:1000/LOWER_CONCRETE_SERIALIZED",
+      "synthetic-dmn:1000/LOWER_CONCRETE_ENCODED",
+      "synthetic-dmn:1000/LOWER_SERIALIZED_ENCODED",
+      "synthetic-cmmn:1000/LIFT_ENCODED_SERIALIZED",
+      "synthetic-cmmn:1000/LIFT_ENCODED_CONCRETE",
+      "synthetic-cmmn:1000/LIFT_ENCODED_ABSTRACT",
+      "synthetic-cmmn:1000/LIFT_SERIALIZED_CONCRETE",
+      "synthetic-cmmn:1000/LIFT_SERIALIZED_ABSTRACT",
+      "synthetic-cmmn:1000/LIFT_CONCRETE_ABSTRACT",
+      "synthetic-cmmn:1000/LOWER_ABSTRACT_CONCRETE",
+      "synthetic-cmmn:1000/LOWER_ABSTRACT_SERIALIZED",
+      "synthetic-cmmn:1000/LOWER_ABSTRACT_ENCODED",
+      "synthetic-cmmn:1000/LOWER_CONCRETE_SERIALIZED",
+      "synthetic-cmmn:1000/LOWER_CONCRETE_ENCODED",
+      "synthetic-cmmn:1000/LOWER_SERIALIZED_ENCODED"})
+  public String modelTransition;
+
+  private String model;
+
+  private Transition transition;
+
+  private LanguageDeSerializer deserializer;
+
+  private KnowledgeCarrier source;
+
+  private String xAccept;
+
+  @Setup
+  public void setup() {
+    int sep = modelTransition.lastIndexOf('/');
+    model = modelTransition.substring(0, sep);
+    transition = Transition.valueOf(modelTransition.substring(sep + 1));
+
+    deserializer = new LanguageDeSerializer(Arrays.asList(
+        new DMN12Parser(),
+        new CMMN11Parser(),
+        new Surrogate2Parser(),
+        new OWLParser()));
+    BenchmarkModel input = BenchmarkModel.load(model);
+
+    Map<ParsingLevelSeries, KnowledgeCarrier> sources = new EnumMap<>(ParsingLevelSeries.class);
+    KnowledgeCarrier encoded = input.toEncodedCarrier();
+    sources.put(Encoded_Knowledge_Expression, encoded);
+    for (ParsingLevelSeries level : Arrays.asList(Serialized_Knowledge_Expression,
+        Concrete_Knowledge_Expression, Abstract_Knowledge_Expression)) {
+      deserializer.applyLift(encoded, level, null, null)
+          .getOptionalValue()
+          .ifPresent(kc -> sources.put(level, kc));
+    }
+
+    source = sources.get(transition.from);
+    xAccept = transition.isLift() ? null : acceptFor(input.getRepresentation(), transition.to);
+    if (source == null || run().isFailure()) {
+      throw new IllegalStateException("Unsupported " + transition + " for " + model);
+    }
+  }
+
+  @Benchmark
+  public Answer<KnowledgeCarrier> run() {
+    return transition.isLift()
+        ? deserializer.applyLift(source, transition.to, xAccept, null)
+        : deserializer.applyLower(source, transition.to, xAccept, null);
+  }
+
+  private static String acceptFor(SyntacticRepresentation rep, ParsingLevelSeries level) {
+    switch (level) {
+      case Concrete_Knowledge_Expression:
+        return ModelMIMECoder.encode(rep.withCharset((String) null).withEncoding(null));
+      case Serialized_Knowledge_Expression:
+        return ModelMIMECoder.encode(rep.withEncoding(null));
+      default:
+        return ModelMIMECoder.encode(rep);
+    }
+  }
+
+}
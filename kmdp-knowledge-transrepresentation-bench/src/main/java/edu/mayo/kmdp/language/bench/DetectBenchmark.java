@@ -0,0 +1,84 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import edu.mayo.kmdp.language.LanguageDetector;
+import edu.mayo.kmdp.language.detectors.cmmn.v1_1.CMMNDetector;
+import edu.mayo.kmdp.language.detectors.dmn.v1_1.DMN11Detector;
+import edu.mayo.kmdp.language.detectors.dmn.v1_2.DMN12Detector;
+import edu.mayo.kmdp.language.detectors.html.HTMLDetector;
+import edu.mayo.kmdp.language.detectors.owl2.OWLDetector;
+import edu.mayo.kmdp.language.detectors.surrogate.v2.Surrogate2Detector;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link LanguageDetector#applyDetect(KnowledgeCarrier, String)} on undeclared, encoded models,
+ * with the full set of detectors registered
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DetectBenchmark {
+
+  @Param({
+      "dmn12example.dmn",
+      "cmmn11Example.cmmn",
+      "owlExample.rdf",
+      "surr2.xml",
+      "synthetic-dmn:1000",
+      "synthetic-cmmn:1000"})
+  public String model;
+
+  private LanguageDetector detector;
+
+  private BenchmarkModel input;
+
+  @Setup
+  public void setup() {
+    detector = new LanguageDetector(Arrays.asList(
+        new HTMLDetector(),
+        new OWLDetector(),
+        new DMN11Detector(),
+        new DMN12Detector(),
+        new CMMNDetector(),
+        new Surrogate2Detector()));
+    input = BenchmarkModel.load(model);
+    if (detector.applyDetect(input.toUndeclaredCarrier(), null).isFailure()) {
+      throw new IllegalStateException("Unable to detect " + model);
+    }
+  }
+
+  @Benchmark
+  public Answer<KnowledgeCarrier> applyDetect() {
+    return detector.applyDetect(input.toUndeclaredCarrier(), null);
+  }
+
+}
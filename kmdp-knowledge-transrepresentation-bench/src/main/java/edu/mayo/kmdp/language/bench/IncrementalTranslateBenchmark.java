@@ -0,0 +1,95 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.surrogate.SurrogateBuilder.defaultArtifactId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+
+import edu.mayo.kmdp.language.common.dmn.v1_2.DMN12ModelGenerator;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelDiff;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelDiff.ElementHashes;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelIndex;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDef;
+import java.util.concurrent.TimeUnit;
+import org.hl7.fhir.dstu3.model.PlanDefinition;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The re-translation of a DMN model to a PlanDefinition, after a single Decision has been edited:
+ * full translation of the edited model, vs incremental translation diffing the two versions of
+ * the model, vs incremental translation from the retained element hashes of the previous version
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IncrementalTranslateBenchmark {
+
+  @Param({"100", "1000"})
+  public int decisions;
+
+  private final ResourceIdentifier assetId = randomId();
+  private final ResourceIdentifier srcArtifactId = randomId();
+  private final ResourceIdentifier tgtArtifactId =
+      defaultArtifactId(assetId, FHIR_STU3, srcArtifactId.getVersionTag());
+
+  TDefinitions previousModel;
+  ElementHashes previousHashes;
+  PlanDefinition previousPlanDef;
+  TDefinitions editedModel;
+
+  @Setup
+  public void setup() {
+    previousModel = DMN12ModelGenerator.decisionModel(decisions);
+    previousHashes = ElementHashes.of(previousModel);
+    previousPlanDef = new DmnToPlanDef()
+        .transform(assetId, srcArtifactId, tgtArtifactId, previousModel);
+
+    editedModel = DMN12ModelGenerator.decisionModel(decisions);
+    DmnModelIndex.of(editedModel).getDecisions().get(decisions / 2).setName("Edited Decision");
+  }
+
+  @Benchmark
+  public PlanDefinition fullTranslation() {
+    return new DmnToPlanDef().transform(assetId, srcArtifactId, tgtArtifactId, editedModel);
+  }
+
+  @Benchmark
+  public PlanDefinition incrementalTranslation() {
+    return new DmnToPlanDef().transform(assetId, srcArtifactId, tgtArtifactId,
+        previousModel, previousPlanDef, editedModel);
+  }
+
+  @Benchmark
+  public PlanDefinition incrementalTranslationFromHashes() {
+    return new DmnToPlanDef().transform(assetId, srcArtifactId, tgtArtifactId,
+        DmnModelDiff.of(previousHashes, editedModel), previousPlanDef, editedModel);
+  }
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.CMMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Serialized_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.common.cmmn.CMMN11ModelGenerator;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DMN12ModelGenerator;
+import edu.mayo.kmdp.language.common.owl2.SKOSModelGenerator;
+import edu.mayo.kmdp.language.parsers.Lowerer;
+import edu.mayo.kmdp.language.parsers.cmmn.v1_1.CMMN11Parser;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import org.apache.jena.rdf.model.Model;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+
+/**
+ * Scaled-up models, to complement the (small) sample models.
+ * <p>
+ * The models are built by the generators shared with the core scaling tests, and serialized
+ * where the benchmarks need a serialized input.
+ */
+public final class SyntheticModels {
+
+  private SyntheticModels() {
+    // static functions only
+  }
+
+  /**
+   * @param decisions the number of decisions
+   * @return a serialized DMN 1.2 model, as per {@link DMN12ModelGenerator}
+   */
+  public static String dmn(int decisions) {
+    return serialize(new DMN12Parser(),
+        DMN12ModelGenerator.decisionModel(decisions), rep(DMN_1_2));
+  }
+
+  /**
+   * @param tasks the number of tasks
+   * @return a serialized CMMN 1.1 model, as per {@link CMMN11ModelGenerator}
+   */
+  public static String cmmn(int tasks) {
+    return serialize(new CMMN11Parser(),
+        CMMN11ModelGenerator.caseModel(tasks), rep(CMMN_1_1));
+  }
+
+  /**
+   * @param concepts the number of concepts
+   * @param fanOut   the number of narrower concepts per concept
+   * @return a SKOS concept scheme, as per {@link SKOSModelGenerator}
+   */
+  public static Model skos(int concepts, int fanOut) {
+    return SKOSModelGenerator.conceptScheme(concepts, fanOut);
+  }
+
+  private static String serialize(Lowerer serializer, Object ast, SyntacticRepresentation rep) {
+    return serializer
+        .applyLower(ofAst(ast).withRepresentation(rep), Serialized_Knowledge_Expression,
+            null, null)
+        .flatOpt(KnowledgeCarrier::asString)
+        .getOptionalValue()
+        .orElseThrow(() -> new IllegalStateException("Unable to serialize " + rep));
+  }
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.surrogate.SurrogateBuilder.defaultArtifactId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SKOS;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.parsers.Lifter;
+import edu.mayo.kmdp.language.parsers.cmmn.v1_1.CMMN11Parser;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.stu3.CmmnToPlanDef;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDef;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.r4.DmnToPlanDefR4;
+import edu.mayo.kmdp.language.translators.skos.SKOStoCodeSystemTranscreator;
+import java.util.concurrent.TimeUnit;
+import org.hl7.fhir.dstu3.model.PlanDefinition;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The DMN and CMMN to PlanDefinition translations (STU3 and R4), and the SKOS to CodeSystem
+ * transcreation, starting from parsed (abstract) models
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslateBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class DmnModel {
+
+    @Param({"dmn12example.dmn", "synthetic-dmn:100", "synthetic-dmn:1000"})
+    public String dmn;
+
+    TDefinitions decisionModel;
+
+    @Setup
+    public void setup() {
+      decisionModel = lift(new DMN12Parser(), dmn, TDefinitions.class);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class CmmnModel {
+
+    @Param({"cmmn/v1_1/MixedCaseModel.cmmn.xml", "synthetic-cmmn:100", "synthetic-cmmn:1000"})
+    public String cmmn;
+
+    org.omg.spec.cmmn._20151109.model.TDefinitions caseModel;
+
+    @Setup
+    public void setup() {
+      caseModel = lift(new CMMN11Parser(), cmmn,
+          org.omg.spec.cmmn._20151109.model.TDefinitions.class);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class SkosModel {
+
+    @Param({"100", "10000"})
+    public int concepts;
+
+    KnowledgeCarrier carrier;
+
+    @Setup
+    public void setup() {
+      carrier = ofAst(SyntheticModels.skos(concepts, 10))
+          .withRepresentation(rep(OWL_2).withLexicon(SKOS))
+          .withAssetId(randomId())
+          .withArtifactId(randomId());
+    }
+  }
+
+  private final ResourceIdentifier assetId = randomId();
+  private final ResourceIdentifier srcArtifactId = randomId();
+  private final ResourceIdentifier tgtArtifactId =
+      defaultArtifactId(assetId, FHIR_STU3, srcArtifactId.getVersionTag());
+
+  private final SKOStoCodeSystemTranscreator skosTranscreator = new SKOStoCodeSystemTranscreator();
+
+  @Benchmark
+  public PlanDefinition dmnToPlanDef(DmnModel state) {
+    return new DmnToPlanDef().transform(assetId, srcArtifactId, tgtArtifactId,
+        state.decisionModel);
+  }
+
+  @Benchmark
+  public org.hl7.fhir.r4.model.PlanDefinition dmnToPlanDefR4(DmnModel state) {
+    return new DmnToPlanDefR4().transform(assetId, state.decisionModel);
+  }
+
+  @Benchmark
+  public PlanDefinition cmmnToPlanDef(CmmnModel state) {
+    return new CmmnToPlanDef().transform(assetId, srcArtifactId, tgtArtifactId,
+        state.caseModel);
+  }
+
+  @Benchmark
+  public org.hl7.fhir.r4.model.PlanDefinition cmmnToPlanDefR4(CmmnModel state) {
+    return new edu.mayo.kmdp.language.translators.cmmn.v1_1.r4.CmmnToPlanDef()
+        .transform(assetId, state.caseModel);
+  }
+
+  @Benchmark
+  public Answer<KnowledgeCarrier> skosToCodeSystem(SkosModel state) {
+    return skosTranscreator.applyTransrepresent(state.carrier, null, null);
+  }
+
+  static <T> T lift(Lifter parser, String spec, Class<T> type) {
+    BenchmarkModel input = BenchmarkModel.load(spec);
+    return parser.applyLift(input.toEncodedCarrier(), Abstract_Knowledge_Expression,
+            codedRep(input.getLanguage()), null)
+        .flatOpt(kc -> kc.as(type))
+        .getOptionalValue()
+        .orElseThrow(() -> new IllegalStateException("Unable to parse " + spec));
+  }
+
+}
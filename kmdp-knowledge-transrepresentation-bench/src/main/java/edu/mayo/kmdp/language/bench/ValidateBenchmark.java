@@ -0,0 +1,160 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.bench;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.surrogate.SurrogateBuilder.defaultArtifactId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.CMMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.Knowledge_Asset_Surrogate_2_0;
+
+import edu.mayo.kmdp.language.parsers.cmmn.v1_1.CMMN11Parser;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.parsers.surrogate.v2.Surrogate2Parser;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.stu3.CmmnToPlanDef;
+import edu.mayo.kmdp.language.validators.ASCIIValidator;
+import edu.mayo.kmdp.language.validators.AbstractValidator;
+import edu.mayo.kmdp.language.validators.api4kp.v1_0.SurrogateV2Validator;
+import edu.mayo.kmdp.language.validators.cmmn.v1_1.CCPMProfileCMMNValidator;
+import edu.mayo.kmdp.language.validators.dmn.v1_2.CCPMProfileDMNValidator;
+import edu.mayo.kmdp.language.validators.dmn.v1_2.DMN12Validator;
+import edu.mayo.kmdp.language.validators.fhir.stu3.CCPMProfilePlanDefinitionValidator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.omg.spec.api4kp._20200801.AbstractCarrier;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.surrogate.KnowledgeAsset;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Each validator, on the sample model of its language (and on synthetic models, where available).
+ * <p>
+ * The composite validator is not included, since it requires a composite carrier
+ * (its components are covered by the CCPM profile validators).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidateBenchmark {
+
+  public enum Case {
+    ASCII(ASCIIValidator::new,
+        () -> serialized("dmn12example.dmn")),
+    DMN12(DMN12Validator::new,
+        () -> dmn("dmn12example.dmn")),
+    DMN12_SYNTHETIC(DMN12Validator::new,
+        () -> dmn("synthetic-dmn:1000")),
+    CCPM_DMN(CCPMProfileDMNValidator::new,
+        () -> dmn("dmn12example.dmn")),
+    CCPM_DMN_SYNTHETIC(CCPMProfileDMNValidator::new,
+        () -> dmn("synthetic-dmn:1000")),
+    CCPM_CMMN(CCPMProfileCMMNValidator::new,
+        () -> cmmn("cmmn/v1_1/MixedCaseModel.cmmn.xml")),
+    CCPM_CMMN_SYNTHETIC(CCPMProfileCMMNValidator::new,
+        () -> cmmn("synthetic-cmmn:1000")),
+    CCPM_PLANDEF(CCPMProfilePlanDefinitionValidator::new,
+        () -> planDefinition("cmmn/v1_1/MixedCaseModel.cmmn.xml")),
+    SURROGATE_V2(SurrogateV2Validator::new,
+        () -> serialized("surr2.xml")),
+    SURROGATE_V2_AST(SurrogateV2Validator::new,
+        ValidateBenchmark::surrogate);
+
+    final Supplier<AbstractValidator> validator;
+    final Supplier<KnowledgeCarrier> input;
+
+    Case(Supplier<AbstractValidator> validator, Supplier<KnowledgeCarrier> input) {
+      this.validator = validator;
+      this.input = input;
+    }
+  }
+
+  @Param
+  public Case validation;
+
+  private AbstractValidator validator;
+
+  private KnowledgeCarrier carrier;
+
+  @Setup
+  public void setup() {
+    validator = validation.validator.get();
+    carrier = validation.input.get();
+  }
+
+  @Benchmark
+  public Answer<Void> applyValidate() {
+    return validator.applyValidate(carrier, null);
+  }
+
+  private static KnowledgeCarrier serialized(String spec) {
+    BenchmarkModel input = BenchmarkModel.load(spec);
+    return withIds(AbstractCarrier.of(input.getSerialized())
+        .withRepresentation(input.getRepresentation().withEncoding(null)));
+  }
+
+  private static KnowledgeCarrier dmn(String spec) {
+    return withIds(ofAst(TranslateBenchmark.lift(new DMN12Parser(), spec, TDefinitions.class))
+        .withRepresentation(rep(DMN_1_2)));
+  }
+
+  private static KnowledgeCarrier cmmn(String spec) {
+    return withIds(ofAst(TranslateBenchmark.lift(new CMMN11Parser(), spec,
+        org.omg.spec.cmmn._20151109.model.TDefinitions.class))
+        .withRepresentation(rep(CMMN_1_1)));
+  }
+
+  private static KnowledgeCarrier planDefinition(String spec) {
+    ResourceIdentifier assetId = randomId();
+    ResourceIdentifier srcArtifactId = randomId();
+    return withIds(ofAst(new CmmnToPlanDef().transform(
+        assetId, srcArtifactId,
+        defaultArtifactId(assetId, FHIR_STU3, srcArtifactId.getVersionTag()),
+        TranslateBenchmark.lift(new CMMN11Parser(), spec,
+            org.omg.spec.cmmn._20151109.model.TDefinitions.class)))
+        .withRepresentation(rep(FHIR_STU3)));
+  }
+
+  private static KnowledgeCarrier surrogate() {
+    return withIds(ofAst(TranslateBenchmark.lift(new Surrogate2Parser(), "surr2.xml",
+        KnowledgeAsset.class))
+        .withRepresentation(rep(Knowledge_Asset_Surrogate_2_0)));
+  }
+
+  private static KnowledgeCarrier withIds(KnowledgeCarrier carrier) {
+    return carrier
+        .withAssetId(randomId())
+        .withArtifactId(randomId())
+        .withLabel("Benchmark");
+  }
+
+}
@@ -0,0 +1,367 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.KnowledgePlatformOperator;
+import org.omg.spec.api4kp._20200801.id.KeyIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for the Language Service components (detector, de/serializer, validator,
+ * transrepresentator) that dispatch API calls to a set of {@link KnowledgePlatformOperator}s.
+ * <p>
+ * Operators are indexed by their {@link KeyIdentifier}, and by the UUID of their operator id,
+ * so that 'named' operations can look up their target operator in constant time.
+ * <p>
+ * Batches of carriers can be dispatched with {@link #applyBatch(List, int, Function, BiFunction)},
+ * which runs on the same {@link Executor} as the asynchronous operations.
+ * <p>
+ * Operations can also be dispatched asynchronously, with {@link #applyAsync(Supplier, Duration)},
+ * on the {@link Executor} set with {@link #setAsyncExecutor(Executor)}. By default, a virtual
+ * thread is used per task, when supported by the JVM (21+), or a (cached) daemon thread otherwise.
+ *
+ * @param <O> the type of operator dispatched to
+ */
+public abstract class AbstractOperatorDispatcher<O extends KnowledgePlatformOperator<?>> {
+
+  private static final Logger logger = LoggerFactory.getLogger(AbstractOperatorDispatcher.class);
+
+  private static final Executor DEFAULT_ASYNC_EXECUTOR = newDefaultAsyncExecutor();
+
+  private final Map<KeyIdentifier, O> operators;
+
+  private final Map<UUID, O> operatorsByUuid;
+
+  /**
+   * Default number of concurrent tasks for batch operations
+   */
+  public static final int DEFAULT_BATCH_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+  private Executor asyncExecutor = DEFAULT_ASYNC_EXECUTOR;
+
+  private Duration asyncTimeout;
+
+  protected AbstractOperatorDispatcher(List<? extends O> operators) {
+    Map<KeyIdentifier, O> byKey = new LinkedHashMap<>();
+    Map<UUID, O> byUuid = new LinkedHashMap<>();
+    for (O op : operators) {
+      if (byKey.putIfAbsent(op.getOperatorId().asKey(), op) != null) {
+        throw new IllegalStateException("Duplicate operator " + op.getOperatorId());
+      }
+      // in case of multiple versions of the same operator, the first registered one wins
+      byUuid.putIfAbsent(op.getOperatorId().getUuid(), op);
+    }
+    this.operators = Collections.unmodifiableMap(byKey);
+    this.operatorsByUuid = Collections.unmodifiableMap(byUuid);
+  }
+
+  /**
+   * @return all the operators registered with this component, in registration order
+   */
+  protected Collection<O> getOperators() {
+    return operators.values();
+  }
+
+  /**
+   * Looks up an operator by the UUID of its operator id
+   *
+   * @param operatorId the UUID of the operator
+   * @return the operator, if registered with this component
+   */
+  protected Optional<O> getOperator(UUID operatorId) {
+    return operatorId != null
+        ? Optional.ofNullable(operatorsByUuid.get(operatorId))
+        : Optional.empty();
+  }
+
+  /**
+   * Applies an operation to a (routed) subset of the operators, falling back to the other
+   * registered operators if none of the candidates succeeds, so that routing never
+   * fails a request that a scan of all the operators would have satisfied
+   *
+   * @param candidates the routed candidate operators
+   * @param attempt    applies the operation to a set of operators
+   * @param <R>        the type of the result of the operation
+   * @return the first successful Answer, or the failure of the routed candidates
+   */
+  protected <R> Answer<R> applyWithFallback(
+      Collection<O> candidates,
+      Function<Collection<O>, Answer<R>> attempt) {
+    Answer<R> routed = attempt.apply(candidates);
+    if (routed.isSuccess()) {
+      return routed;
+    }
+    List<O> others = getOperators().stream()
+        .filter(op -> !candidates.contains(op))
+        .collect(Collectors.toList());
+    if (others.isEmpty()) {
+      return routed;
+    }
+    Answer<R> fallback = attempt.apply(others);
+    return fallback.isSuccess() ? fallback : routed;
+  }
+
+  /**
+   * Applies an operation to a batch of carriers.
+   * <p>
+   * Carriers are grouped by (representation, level), and the candidate operators are resolved
+   * once per group. Each group is split into up to {@code parallelism} chunks, and the chunks
+   * are processed as (at most) {@code parallelism} concurrent tasks, on the Executor set with
+   * {@link #setAsyncExecutor(Executor)}, so that consecutive carriers handled by the same task
+   * share the same operators.
+   * The failure of an item, including any exception thrown while processing it, does not
+   * affect the other items.
+   *
+   * @param carriers    the carriers to process
+   * @param parallelism the maximum number of concurrent tasks
+   * @param router      resolves the candidate operators for a carrier
+   * @param operation   processes a carrier, given its candidate operators
+   * @param <R>         the type of the result of the operation
+   * @return one Answer per carrier, in the same order as the carriers
+   */
+  protected <R> List<Answer<R>> applyBatch(
+      List<KnowledgeCarrier> carriers,
+      int parallelism,
+      Function<KnowledgeCarrier, Collection<O>> router,
+      BiFunction<Collection<O>, KnowledgeCarrier, Answer<R>> operation) {
+    if (carriers == null || carriers.isEmpty()) {
+      return Collections.emptyList();
+    }
+    int workers = Math.max(1, parallelism);
+
+    Map<String, List<Integer>> groups = new LinkedHashMap<>();
+    for (int j = 0; j < carriers.size(); j++) {
+      groups.computeIfAbsent(groupKey(carriers.get(j)), k -> new ArrayList<>()).add(j);
+    }
+
+    List<List<Integer>> chunks = new ArrayList<>();
+    Map<List<Integer>, Collection<O>> candidates = new IdentityHashMap<>();
+    for (List<Integer> group : groups.values()) {
+      KnowledgeCarrier first = carriers.get(group.get(0));
+      Collection<O> ops = first != null ? router.apply(first) : Collections.emptyList();
+      int chunkSize = (group.size() + workers - 1) / workers;
+      for (int j = 0; j < group.size(); j += chunkSize) {
+        List<Integer> chunk = group.subList(j, Math.min(group.size(), j + chunkSize));
+        chunks.add(chunk);
+        candidates.put(chunk, ops);
+      }
+    }
+
+    List<Answer<R>> results = new ArrayList<>(
+        Collections.<Answer<R>>nCopies(carriers.size(), null));
+    if (workers == 1 || chunks.size() == 1) {
+      chunks.forEach(chunk ->
+          processChunk(chunk, candidates.get(chunk), carriers, operation, results));
+      return results;
+    }
+
+    Semaphore permits = new Semaphore(workers);
+    List<Future<?>> futures = new ArrayList<>(chunks.size());
+    try {
+      for (List<Integer> chunk : chunks) {
+        permits.acquire();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+          try {
+            processChunk(chunk, candidates.get(chunk), carriers, operation, results);
+          } finally {
+            permits.release();
+          }
+        }, null);
+        futures.add(task);
+        try {
+          asyncExecutor.execute(task);
+        } catch (RuntimeException e) {
+          // e.g. the executor has been shut down
+          task.run();
+        }
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      return failRemaining(results, e);
+    } catch (ExecutionException e) {
+      return failRemaining(results, e);
+    }
+    return results;
+  }
+
+  private <R> void processChunk(
+      List<Integer> chunk,
+      Collection<O> ops,
+      List<KnowledgeCarrier> carriers,
+      BiFunction<Collection<O>, KnowledgeCarrier, Answer<R>> operation,
+      List<Answer<R>> results) {
+    for (Integer j : chunk) {
+      KnowledgeCarrier carrier = carriers.get(j);
+      Answer<R> result;
+      try {
+        result = carrier != null
+            ? operation.apply(ops, carrier)
+            : Answer.failed(new IllegalArgumentException("Missing carrier at position " + j));
+      } catch (RuntimeException e) {
+        result = Answer.failed(e);
+      }
+      // each position is written by exactly one worker
+      synchronized (results) {
+        results.set(j, result);
+      }
+    }
+  }
+
+  /**
+   * Fails the items that have not been processed. Returns a snapshot, since the tasks that are
+   * still running on the (shared) executor may complete later.
+   */
+  private <R> List<Answer<R>> failRemaining(List<Answer<R>> results, Exception e) {
+    synchronized (results) {
+      for (int j = 0; j < results.size(); j++) {
+        if (results.get(j) == null) {
+          results.set(j, Answer.failed(e));
+        }
+      }
+      return new ArrayList<>(results);
+    }
+  }
+
+  private String groupKey(KnowledgeCarrier carrier) {
+    if (carrier == null) {
+      return "null";
+    }
+    if (carrier.getRepresentation() == null) {
+      return "";
+    }
+    return codedRep(carrier.getRepresentation())
+        + (carrier.getLevel() != null ? "|" + carrier.getLevel().getTag() : "");
+  }
+
+  /**
+   * Sets the Executor used to run asynchronous operations
+   *
+   * @param asyncExecutor the executor, or null to restore the default one
+   */
+  public void setAsyncExecutor(Executor asyncExecutor) {
+    this.asyncExecutor = asyncExecutor != null ? asyncExecutor : DEFAULT_ASYNC_EXECUTOR;
+  }
+
+  /**
+   * Sets the default timeout of asynchronous operations
+   *
+   * @param asyncTimeout the timeout, or null for no timeout
+   */
+  public void setAsyncTimeout(Duration asyncTimeout) {
+    this.asyncTimeout = asyncTimeout;
+  }
+
+  /**
+   * Runs an operation asynchronously, with the default timeout
+   *
+   * @see #applyAsync(Supplier, Duration)
+   */
+  protected <R> CompletableFuture<Answer<R>> applyAsync(Supplier<Answer<R>> operation) {
+    return applyAsync(operation, asyncTimeout);
+  }
+
+  /**
+   * Runs an operation asynchronously.
+   * <p>
+   * Exceptions thrown by the operation are reported as failed Answers. If the returned future is
+   * cancelled, or times out (completing exceptionally with a
+   * {@link java.util.concurrent.TimeoutException}), the operation is interrupted, if still
+   * running, or not started at all.
+   *
+   * @param operation the operation to run
+   * @param timeout   the timeout, or null for no timeout
+   * @param <R>       the type of the result of the operation
+   * @return a future for the result of the operation
+   */
+  protected <R> CompletableFuture<Answer<R>> applyAsync(
+      Supplier<Answer<R>> operation,
+      Duration timeout) {
+    CompletableFuture<Answer<R>> future = new CompletableFuture<>();
+    FutureTask<Void> task = new FutureTask<>(() -> {
+      Answer<R> result;
+      try {
+        result = operation.get();
+      } catch (RuntimeException e) {
+        result = Answer.failed(e);
+      } catch (Error e) {
+        future.completeExceptionally(e);
+        throw e;
+      }
+      future.complete(result);
+      return null;
+    });
+    future.whenComplete((result, error) -> {
+      if (error != null) {
+        task.cancel(true);
+      }
+    });
+    if (timeout != null) {
+      future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    try {
+      asyncExecutor.execute(task);
+    } catch (RuntimeException e) {
+      // e.g. the executor has been shut down
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private static Executor newDefaultAsyncExecutor() {
+    try {
+      Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (Executor) virtual.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      logger.debug("Virtual threads not available : {}", e.getMessage());
+      return Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "kmdp-language-async");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+  }
+
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language;
+
+import static org.omg.spec.api4kp._20200801.contrastors.ParsingLevelContrastor.detectLevel;
+import static org.omg.spec.api4kp._20200801.contrastors.ParsingLevelContrastor.theLevelContrastor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DeserializeApiInternal._applyLift;
+import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DeserializeApiInternal._applyLower;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormat;
+import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries;
+
+/**
+ * Precomputed routing index used by the {@link LanguageDeSerializer} to dispatch lift and lower
+ * requests only to the operators that can actually handle them.
+ * <p>
+ * Operators are indexed by (language, source level, target level, format), using the languages
+ * and formats declared in {@link DeserializeApiOperator#getFrom()} (lift) and
+ * {@link DeserializeApiOperator#getInto()} (lower). Each operator is registered for every level
+ * transition that is consistent with the direction of the operation, and under a 'any format'
+ * key, so that requests that do not specify a format (or specify one that no operator declares)
+ * are still routed on language and levels.
+ * <p>
+ * The table is built once, and is read-only afterwards. Lookups return an empty Optional when a
+ * request cannot be routed, in which case clients are expected to fall back to a full scan.
+ */
+class DeserializerRoutingTable {
+
+  private final Map<RouteKey, List<DeserializeApiOperator>> liftRoutes = new HashMap<>();
+  private final Map<RouteKey, List<DeserializeApiOperator>> lowerRoutes = new HashMap<>();
+
+  DeserializerRoutingTable(Collection<DeserializeApiOperator> operators) {
+    for (DeserializeApiOperator op : operators) {
+      if (op instanceof _applyLift) {
+        index(liftRoutes, op, op.getFrom(), theLevelContrastor::isNarrowerOrEqual);
+      }
+      if (op instanceof _applyLower) {
+        index(lowerRoutes, op, op.getInto(), theLevelContrastor::isBroaderOrEqual);
+      }
+    }
+  }
+
+  /**
+   * Routes a lift request
+   *
+   * @param source the carrier to be lifted
+   * @param into   the target parsing level
+   * @return the candidate operators, in registration order, if the request can be routed
+   */
+  Optional<List<DeserializeApiOperator>> routeLift(KnowledgeCarrier source, ParsingLevel into) {
+    if (source.getRepresentation() == null) {
+      return Optional.empty();
+    }
+    return route(liftRoutes, source, into, source.getRepresentation().getFormat());
+  }
+
+  /**
+   * Routes a lower request
+   *
+   * @param source the carrier to be lowered
+   * @param into   the target parsing level
+   * @param target the (optional) target representation
+   * @return the candidate operators, in registration order, if the request can be routed
+   */
+  Optional<List<DeserializeApiOperator>> routeLower(KnowledgeCarrier source, ParsingLevel into,
+      SyntacticRepresentation target) {
+    return route(lowerRoutes, source, into, target != null ? target.getFormat() : null);
+  }
+
+  private Optional<List<DeserializeApiOperator>> route(
+      Map<RouteKey, List<DeserializeApiOperator>> routes,
+      KnowledgeCarrier source,
+      ParsingLevel into,
+      SerializationFormat format) {
+    if (source.getRepresentation() == null
+        || source.getRepresentation().getLanguage() == null
+        || into == null) {
+      return Optional.empty();
+    }
+    KnowledgeRepresentationLanguage lang = source.getRepresentation().getLanguage();
+    ParsingLevel sourceLevel = detectLevel(source);
+
+    List<DeserializeApiOperator> candidates = null;
+    if (format != null) {
+      candidates = routes.get(new RouteKey(lang, sourceLevel, into, format));
+    }
+    if (candidates == null) {
+      candidates = routes.get(new RouteKey(lang, sourceLevel, into, null));
+    }
+    return Optional.ofNullable(candidates);
+  }
+
+  private void index(
+      Map<RouteKey, List<DeserializeApiOperator>> routes,
+      DeserializeApiOperator op,
+      List<SyntacticRepresentation> supportedReps,
+      BiPredicate<ParsingLevel, ParsingLevel> levelTest) {
+    for (SyntacticRepresentation rep : supportedReps) {
+      if (rep.getLanguage() == null) {
+        continue;
+      }
+      for (ParsingLevelSeries src : ParsingLevelSeries.values()) {
+        for (ParsingLevelSeries tgt : ParsingLevelSeries.values()) {
+          if (levelTest.test(src, tgt)) {
+            register(routes, new RouteKey(rep.getLanguage(), src, tgt, null), op);
+            if (rep.getFormat() != null) {
+              register(routes, new RouteKey(rep.getLanguage(), src, tgt, rep.getFormat()), op);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private void register(
+      Map<RouteKey, List<DeserializeApiOperator>> routes,
+      RouteKey key,
+      DeserializeApiOperator op) {
+    List<DeserializeApiOperator> ops = routes.computeIfAbsent(key, k -> new ArrayList<>(2));
+    if (!ops.contains(op)) {
+      ops.add(op);
+    }
+  }
+
+  /**
+   * Routing key: (language, source level, target level, format).
+   * Concepts are compared by UUID, since carriers may hold different instances
+   * of the same controlled term.
+   */
+  static final class RouteKey {
+
+    private final UUID language;
+    private final ParsingLevelSeries sourceLevel;
+    private final ParsingLevelSeries targetLevel;
+    private final UUID format;
+
+    RouteKey(KnowledgeRepresentationLanguage language,
+        ParsingLevel sourceLevel,
+        ParsingLevel targetLevel,
+        SerializationFormat format) {
+      this.language = language.getUuid();
+      this.sourceLevel = ParsingLevelSeries.asEnum(sourceLevel);
+      this.targetLevel = ParsingLevelSeries.asEnum(targetLevel);
+      this.format = format != null ? format.getUuid() : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      RouteKey other = (RouteKey) o;
+      return language.equals(other.language)
+          && sourceLevel == other.sourceLevel
+          && targetLevel == other.targetLevel
+          && Objects.equals(format, other.format);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(language, sourceLevel, targetLevel, format);
+    }
+  }
+}
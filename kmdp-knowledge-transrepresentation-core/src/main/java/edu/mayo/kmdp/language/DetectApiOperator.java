@@ -2,6 +2,8 @@ package edu.mayo.kmdp.language;
 
 import static org.omg.spec.api4kp._20200801.contrastors.SyntacticRepresentationContrastor.theRepContrastor;
 
+import edu.mayo.kmdp.language.detectors.SniffedContent;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
 import edu.mayo.kmdp.util.Util;
 import java.util.List;
 import org.omg.spec.api4kp._20200801.KnowledgePlatformOperator;
@@ -29,4 +31,16 @@ public interface DetectApiOperator
         .orElse(false);
   }
 
+  /**
+   * Pre-screens a (sniffed) artifact, before any attempt to fully parse it.
+   * Detectors should only return {@link Match#UNLIKELY} on positive evidence that the artifact
+   * is not in their language, since unlikely detectors will not be tried.
+   *
+   * @param content a summary of the head of the artifact
+   * @return the likelihood that this detector will recognize the artifact
+   */
+  default Match match(SniffedContent content) {
+    return Match.POSSIBLE;
+  }
+
 }
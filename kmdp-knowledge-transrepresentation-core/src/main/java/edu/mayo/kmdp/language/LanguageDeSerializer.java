@@ -19,35 +19,40 @@ import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.Knowledg
 import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.KnowledgeProcessingOperationSeries.Lowering_Task;
 
 import edu.mayo.kmdp.language.exceptions.ParsingException;
+import edu.mayo.kmdp.util.Util;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.inject.Named;
 import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.KnowledgePlatformComponent;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DeserializeApiInternal;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DiscoveryApiInternal;
-import org.omg.spec.api4kp._20200801.id.KeyIdentifier;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPOperation;
 import org.omg.spec.api4kp._20200801.services.KPServer;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
 import org.omg.spec.api4kp._20200801.services.transrepresentation.DeserializationOperator;
 import org.omg.spec.api4kp._20200801.services.transrepresentation.Deserializer;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder;
 import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @Named
 @KPServer
-public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserializer>,
+public class LanguageDeSerializer extends AbstractOperatorDispatcher<DeserializeApiOperator>
+    implements KnowledgePlatformComponent<Deserializer>,
     DeserializeApiInternal, DiscoveryApiInternal._getDeserializationComponent, DiscoveryApiInternal._listDeserializationComponents {
 
   private UUID id = UUID.randomUUID();
   private Deserializer descriptor;
 
-  Map<KeyIdentifier, DeserializeApiOperator> deserializers;
+  private final DeserializerRoutingTable routes;
 
   @Named
   public LanguageDeSerializer(@Autowired(required = false)
@@ -55,11 +60,8 @@ public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserial
   @KPOperation(Lowering_Task)
       List<DeserializeApiOperator> deserializers) {
 
-    this.deserializers = deserializers.stream()
-        .collect(Collectors.toMap(
-            det -> det.getOperatorId().asKey(),
-            det -> det
-        ));
+    super(deserializers);
+    this.routes = new DeserializerRoutingTable(deserializers);
 
     this.descriptor = toKPComponent(getComponentId());
   }
@@ -77,31 +79,72 @@ public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserial
   @Override
   public Answer<KnowledgeCarrier> applyLift(KnowledgeCarrier sourceArtifact,
       ParsingLevel levelTag, String xAccept, String config) {
-    return anyDo(
+    return lift(routeLift(sourceArtifact, levelTag), sourceArtifact, levelTag, xAccept, config);
+  }
+
+  /**
+   * Lifts a batch of carriers to the same parsing level
+   *
+   * @param sourceArtifacts the carriers to lift
+   * @param levelTag        the target parsing level
+   * @param xAccept         the (encoded) target representation
+   * @param config          the configuration, shared by all the carriers
+   * @return one Answer per carrier, in order
+   * @see #applyBatchLift(List, ParsingLevel, String, String, int)
+   */
+  public List<Answer<KnowledgeCarrier>> applyBatchLift(List<KnowledgeCarrier> sourceArtifacts,
+      ParsingLevel levelTag, String xAccept, String config) {
+    return applyBatchLift(sourceArtifacts, levelTag, xAccept, config, DEFAULT_BATCH_PARALLELISM);
+  }
+
+  /**
+   * Lifts a batch of carriers to the same parsing level.
+   * The lifters are routed once per source representation, and the carriers are processed
+   * with bounded parallelism. Each carrier is processed as in
+   * {@link #applyLift(KnowledgeCarrier, ParsingLevel, String, String)}, and the failure
+   * of one carrier does not affect the others.
+   *
+   * @param sourceArtifacts the carriers to lift
+   * @param levelTag        the target parsing level
+   * @param xAccept         the (encoded) target representation
+   * @param config          the configuration, shared by all the carriers
+   * @param parallelism     the maximum number of carriers processed concurrently
+   * @return one Answer per carrier, in order
+   */
+  public List<Answer<KnowledgeCarrier>> applyBatchLift(List<KnowledgeCarrier> sourceArtifacts,
+      ParsingLevel levelTag, String xAccept, String config, int parallelism) {
+    return applyBatch(sourceArtifacts, parallelism,
+        kc -> routeLift(kc, levelTag),
+        (ops, kc) -> lift(ops, kc, levelTag, xAccept, config));
+  }
+
+  private Answer<KnowledgeCarrier> lift(Collection<DeserializeApiOperator> candidates,
+      KnowledgeCarrier sourceArtifact, ParsingLevel levelTag, String xAccept, String config) {
+    return applyWithFallback(candidates, ops -> anyDo(
         getOperations(
-            deserializers.values(),
+            ops,
             DeserializeApiOperator::can_applyLift,
             DeserializeApiOperator::as_applyLift),
         a -> a.applyLift(sourceArtifact, levelTag, xAccept, config),
-        () -> Answer.failed(new ParsingException(sourceArtifact)));
+        () -> Answer.failed(new ParsingException(sourceArtifact))));
   }
 
   @Override
   public Answer<KnowledgeCarrier> applyLower(KnowledgeCarrier sourceArtifact,
       ParsingLevel levelTag, String xAccept, String config) {
-    return anyDo(
+    return applyWithFallback(routeLower(sourceArtifact, levelTag, xAccept), ops -> anyDo(
         getOperations(
-            deserializers.values(),
+            ops,
             DeserializeApiOperator::can_applyLower,
             DeserializeApiOperator::as_applyLower),
         a -> a.applyLower(sourceArtifact, levelTag, xAccept, config),
-        () -> Answer.failed(new ParsingException(sourceArtifact)));
+        () -> Answer.failed(new ParsingException(sourceArtifact))));
   }
 
   @Override
   public Answer<KnowledgeCarrier> applyNamedLift(UUID operatorId, KnowledgeCarrier sourceArtifact,
       ParsingLevel levelTag, String xAccept, String config) {
-    return Answer.of(getDeserializer(operatorId))
+    return Answer.of(getOperator(operatorId))
         .flatOpt(DeserializeApiOperator::as_applyNamedLift)
         .flatMap(a -> a.applyNamedLift(operatorId, sourceArtifact, levelTag, xAccept, config));
   }
@@ -109,17 +152,129 @@ public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserial
   @Override
   public Answer<KnowledgeCarrier> applyNamedLower(UUID operatorId, KnowledgeCarrier sourceArtifact,
       ParsingLevel levelTag, String xAccept, String config) {
-    return Answer.of(getDeserializer(operatorId))
+    return Answer.of(getOperator(operatorId))
         .flatOpt(DeserializeApiOperator::as_applyNamedLower)
         .flatMap(a -> a.applyNamedLower(operatorId, sourceArtifact, levelTag, xAccept, config));
   }
 
 
 
+  /**
+   * Asynchronous variant of {@link #applyLift(KnowledgeCarrier, ParsingLevel, String, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyLiftAsync(
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config) {
+    return applyAsync(() -> applyLift(sourceArtifact, levelTag, xAccept, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyLift(KnowledgeCarrier, ParsingLevel, String, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyLiftAsync(
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyLift(sourceArtifact, levelTag, xAccept, config), timeout);
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyLower(KnowledgeCarrier, ParsingLevel, String, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyLowerAsync(
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config) {
+    return applyAsync(() -> applyLower(sourceArtifact, levelTag, xAccept, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyLower(KnowledgeCarrier, ParsingLevel, String, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyLowerAsync(
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyLower(sourceArtifact, levelTag, xAccept, config), timeout);
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedLift(UUID, KnowledgeCarrier, ParsingLevel, String, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedLiftAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config) {
+    return applyAsync(() -> applyNamedLift(operatorId, sourceArtifact, levelTag, xAccept, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedLift(UUID, KnowledgeCarrier, ParsingLevel, String, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedLiftAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyNamedLift(operatorId, sourceArtifact, levelTag, xAccept, config), timeout);
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedLower(UUID, KnowledgeCarrier, ParsingLevel, String, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedLowerAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config) {
+    return applyAsync(() -> applyNamedLower(operatorId, sourceArtifact, levelTag, xAccept, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedLower(UUID, KnowledgeCarrier, ParsingLevel, String, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedLowerAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag,
+      String xAccept,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyNamedLower(operatorId, sourceArtifact, levelTag, xAccept, config), timeout);
+  }
+
   @Override
   public Answer<DeserializationOperator> getLiftOperator(UUID operatorId) {
     return Answer.of(
-        getDeserializer(operatorId)
+        getOperator(operatorId)
             .filter(op -> op instanceof _applyLift)
             .map(DeserializeApiOperator::getDescriptor)
     );
@@ -128,7 +283,7 @@ public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserial
   @Override
   public Answer<DeserializationOperator> getLowerOperator(UUID operatorId) {
     return Answer.of(
-        getDeserializer(operatorId)
+        getOperator(operatorId)
             .filter(op -> op instanceof _applyLower)
             .map(DeserializeApiOperator::getDescriptor)
     );
@@ -137,7 +292,7 @@ public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserial
   @Override
   public Answer<List<DeserializationOperator>> listLiftOperators(String from, String into) {
     return Answer.of(
-        deserializers.values().stream()
+        getOperators().stream()
             .filter(op -> op instanceof _applyLift)
             .filter(op -> op.consumes(from))
             .filter(op -> op.produces(into))
@@ -148,7 +303,7 @@ public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserial
   @Override
   public Answer<List<DeserializationOperator>> listLowerOperators(String from, String into) {
     return Answer.of(
-        deserializers.values().stream()
+        getOperators().stream()
             .filter(op -> op instanceof _applyLower)
             .filter(op -> op.consumes(from))
             .filter(op -> op.produces(into))
@@ -172,11 +327,30 @@ public class LanguageDeSerializer implements KnowledgePlatformComponent<Deserial
     return descriptor;
   }
 
-  private Optional<DeserializeApiOperator> getDeserializer(UUID operatorId) {
-    return deserializers.keySet().stream()
-        .filter(key -> key.getUuid().equals(operatorId))
-        .findFirst()
-        .map(deserializers::get);
+  /**
+   * Selects the candidate lifters, using the precomputed routing table.
+   * Falls back to the full set of deserializers if the request cannot be routed.
+   * If none of the routed lifters succeeds, the others are tried as well
+   */
+  private Collection<DeserializeApiOperator> routeLift(KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag) {
+    Optional<List<DeserializeApiOperator>> routed = routes.routeLift(sourceArtifact, levelTag);
+    return routed.isPresent() ? routed.get() : getOperators();
+  }
+
+  /**
+   * Selects the candidate lowerers, using the precomputed routing table.
+   * Falls back to the full set of deserializers if the request cannot be routed.
+   * If none of the routed lowerers succeeds, the others are tried as well
+   */
+  private Collection<DeserializeApiOperator> routeLower(KnowledgeCarrier sourceArtifact,
+      ParsingLevel levelTag, String xAccept) {
+    SyntacticRepresentation target = Util.isEmpty(xAccept)
+        ? null
+        : ModelMIMECoder.decode(xAccept).orElse(null);
+    Optional<List<DeserializeApiOperator>> routed =
+        routes.routeLower(sourceArtifact, levelTag, target);
+    return routed.isPresent() ? routed.get() : getOperators();
   }
 
 }
@@ -16,46 +16,50 @@ package edu.mayo.kmdp.language;
 import static java.util.Collections.singletonList;
 import static org.omg.spec.api4kp._20200801.Answer.anyDo;
 
+import edu.mayo.kmdp.language.detectors.DetectionCache;
+import edu.mayo.kmdp.language.detectors.SniffedContent;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.inject.Named;
 import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.KnowledgePlatformComponent;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DetectApiInternal;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DiscoveryApiInternal;
-import org.omg.spec.api4kp._20200801.id.KeyIdentifier;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPOperation;
 import org.omg.spec.api4kp._20200801.services.KPServer;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
 import org.omg.spec.api4kp._20200801.services.transrepresentation.DetectionOperator;
 import org.omg.spec.api4kp._20200801.services.transrepresentation.Detector;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder;
 import org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.KnowledgeProcessingOperationSeries;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @Named
 @KPServer
-public class LanguageDetector implements KnowledgePlatformComponent<Detector>,
+public class LanguageDetector extends AbstractOperatorDispatcher<DetectApiOperator>
+    implements KnowledgePlatformComponent<Detector>,
     DetectApiInternal, DiscoveryApiInternal._getDetectComponent, DiscoveryApiInternal._listDetectComponents {
 
   private UUID id = UUID.randomUUID();
   private Detector descriptor;
 
-  Map<KeyIdentifier,DetectApiOperator> detectors;
+  private DetectionCache cache;
 
   @Named
   public LanguageDetector(@Autowired(required = false)
   @KPOperation(KnowledgeProcessingOperationSeries.Language_Information_Detection_Task)
       List<DetectApiOperator> detectors) {
 
-    this.detectors = detectors.stream()
-        .collect(Collectors.toMap(
-            det -> det.getOperatorId().asKey(),
-            det -> det
-        ));
+    super(detectors);
 
     this.descriptor = toKPComponent(getComponentId());
   }
@@ -70,11 +74,52 @@ public class LanguageDetector implements KnowledgePlatformComponent<Detector>,
     return Answer.of(singletonList(getDescriptor()));
   }
 
+  /**
+   * Enables caching of detection results, keyed by the content of the artifacts,
+   * their declared representation, and the detection configuration
+   *
+   * @param cache the cache to use
+   * @return this component
+   */
+  public LanguageDetector withCache(DetectionCache cache) {
+    this.cache = cache;
+    return this;
+  }
+
   @Override
   public Answer<KnowledgeCarrier> applyDetect(KnowledgeCarrier sourceArtifact, String config) {
+    if (cache == null) {
+      return detectAny(sourceArtifact, config);
+    }
+    String qualifier = (sourceArtifact.getRepresentation() != null
+        ? ModelMIMECoder.encode(sourceArtifact.getRepresentation())
+        : "") + "|" + (config != null ? config : "");
+    Optional<SyntacticRepresentation> cached = cache.getIfPresent(sourceArtifact, qualifier);
+    if (cached.isPresent()) {
+      return Answer.of(withDetectedRepresentation(sourceArtifact, cached.get()));
+    }
+    // only successful detections are cached, failures are returned with their explanation
+    Answer<KnowledgeCarrier> detected = detectAny(sourceArtifact, config);
+    if (detected.isSuccess()) {
+      cache.put(sourceArtifact, qualifier, detected.get().getRepresentation());
+    }
+    return detected;
+  }
+
+  /**
+   * Applies a cached detection result to a copy of the source artifact, which is not modified
+   */
+  private KnowledgeCarrier withDetectedRepresentation(KnowledgeCarrier sourceArtifact,
+      SyntacticRepresentation rep) {
+    KnowledgeCarrier copy = new KnowledgeCarrier();
+    sourceArtifact.copyTo(copy);
+    return copy.withRepresentation(rep);
+  }
+
+  private Answer<KnowledgeCarrier> detectAny(KnowledgeCarrier sourceArtifact, String config) {
     return anyDo(
         getOperations(
-            detectors.values(),
+            getCandidates(sourceArtifact),
             Operator::can_applyDetect,
             DetectApiOperator::as_applyDetect),
         a -> a.applyDetect(sourceArtifact, config));
@@ -83,26 +128,92 @@ public class LanguageDetector implements KnowledgePlatformComponent<Detector>,
   @Override
   public Answer<KnowledgeCarrier> applyNamedDetect(UUID operatorId,
       KnowledgeCarrier sourceArtifact, String config) {
-    return Answer.of(getDetector(operatorId))
+    return Answer.of(getOperator(operatorId))
         .flatOpt(DetectApiOperator::as_applyNamedDetect)
         .flatMap(a -> a.applyNamedDetect(operatorId, sourceArtifact, config));
   }
 
+  /**
+   * Asynchronous variant of {@link #applyDetect(KnowledgeCarrier, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyDetectAsync(
+      KnowledgeCarrier sourceArtifact,
+      String config) {
+    return applyAsync(() -> applyDetect(sourceArtifact, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyDetect(KnowledgeCarrier, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyDetectAsync(
+      KnowledgeCarrier sourceArtifact,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyDetect(sourceArtifact, config), timeout);
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedDetect(UUID, KnowledgeCarrier, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedDetectAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      String config) {
+    return applyAsync(() -> applyNamedDetect(operatorId, sourceArtifact, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedDetect(UUID, KnowledgeCarrier, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedDetectAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyNamedDetect(operatorId, sourceArtifact, config), timeout);
+  }
+
   @Override
   public Answer<DetectionOperator> getDetectionOperator(UUID operatorId) {
-    return Answer.of(getDetector(operatorId)
+    return Answer.of(getOperator(operatorId)
         .map(DetectApiOperator::getDescriptor));
   }
 
   @Override
   public Answer<List<DetectionOperator>> listDetectionOperators(String into) {
-    return Answer.of(detectors.values().stream()
+    return Answer.of(getOperators().stream()
         .filter(op -> op.produces(into))
         .map(DetectApiOperator::getDescriptor)
         .collect(Collectors.toList()));
   }
 
 
+  /**
+   * Sniffs the head of the artifact (if serialized or encoded), and uses the result to rank
+   * the detectors, skipping the ones that are unlikely to recognize it.
+   * Detectors of equal rank are tried in registration order.
+   *
+   * @param sourceArtifact the artifact to detect
+   * @return the detectors to try, in order
+   */
+  private Collection<DetectApiOperator> getCandidates(KnowledgeCarrier sourceArtifact) {
+    return SniffedContent.sniff(sourceArtifact)
+        .filter(SniffedContent::isKnown)
+        .<Collection<DetectApiOperator>>map(content -> getOperators().stream()
+            .filter(op -> op.match(content) != Match.UNLIKELY)
+            .sorted(Comparator.comparing(op -> op.match(content)))
+            .collect(Collectors.toList()))
+        .orElseGet(this::getOperators);
+  }
+
   @Override
   public UUID getComponentUuid() {
     return id;
@@ -119,10 +230,4 @@ public class LanguageDetector implements KnowledgePlatformComponent<Detector>,
     return descriptor;
   }
 
-  private Optional<DetectApiOperator> getDetector(UUID operatorId) {
-    return detectors.keySet().stream()
-        .filter(key -> key.getUuid().equals(operatorId))
-        .findFirst()
-        .map(detectors::get);
-  }
 }
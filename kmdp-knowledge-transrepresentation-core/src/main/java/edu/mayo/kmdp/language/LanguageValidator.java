@@ -16,20 +16,21 @@
 package edu.mayo.kmdp.language;
 
 import static java.util.Collections.singletonList;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
 import static org.omg.spec.api4kp._20200801.Answer.anyDo;
 import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.KnowledgeProcessingOperationSeries.Well_Formedness_Check_Task;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.inject.Named;
 import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.KnowledgePlatformComponent;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DiscoveryApiInternal;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.ValidateApiInternal;
-import org.omg.spec.api4kp._20200801.id.KeyIdentifier;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPOperation;
 import org.omg.spec.api4kp._20200801.services.KPServer;
@@ -40,24 +41,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 @Named
 @KPServer
-public class LanguageValidator implements KnowledgePlatformComponent<Validator>,
+public class LanguageValidator extends AbstractOperatorDispatcher<ValidateApiOperator>
+    implements KnowledgePlatformComponent<Validator>,
     ValidateApiInternal, DiscoveryApiInternal._getValidationComponent, DiscoveryApiInternal._listValidationComponents {
 
   private UUID id = UUID.randomUUID();
   private Validator descriptor;
 
-  Map<KeyIdentifier,ValidateApiOperator> validators;
-
   @Named
   public LanguageValidator(@Autowired(required = false)
   @KPOperation(Well_Formedness_Check_Task)
       List<ValidateApiOperator> validators) {
 
-    this.validators = validators.stream()
-        .collect(Collectors.toMap(
-            det -> det.getOperatorId().asKey(),
-            det -> det
-        ));
+    super(validators);
 
     this.descriptor = toKPComponent(getComponentId());
   }
@@ -75,13 +71,13 @@ public class LanguageValidator implements KnowledgePlatformComponent<Validator>,
 
   @Override
   public Answer<ValidationOperator> getValidationOperator(UUID operatorId) {
-    return Answer.of(getValidator(operatorId)
+    return Answer.of(getOperator(operatorId)
         .map(ValidateApiOperator::getDescriptor));
   }
 
   @Override
   public Answer<List<ValidationOperator>> listValidationOperators(String from) {
-    return Answer.of(validators.values().stream()
+    return Answer.of(getOperators().stream()
         .filter(op -> op.consumes(from))
         .map(ValidateApiOperator::getDescriptor)
         .collect(Collectors.toList()));
@@ -89,23 +85,124 @@ public class LanguageValidator implements KnowledgePlatformComponent<Validator>,
 
   @Override
   public Answer<Void> applyValidate(KnowledgeCarrier sourceArtifact, String config) {
-    return anyDo(
+    return validate(getOperators(), sourceArtifact, config);
+  }
+
+  /**
+   * Validates a batch of carriers
+   *
+   * @param sourceArtifacts the carriers to validate
+   * @param config          the configuration, shared by all the carriers
+   * @return one Answer per carrier, in order
+   * @see #applyBatchValidate(List, String, int)
+   */
+  public List<Answer<Void>> applyBatchValidate(List<KnowledgeCarrier> sourceArtifacts,
+      String config) {
+    return applyBatchValidate(sourceArtifacts, config, DEFAULT_BATCH_PARALLELISM);
+  }
+
+  /**
+   * Validates a batch of carriers.
+   * The validators are resolved once per representation, and the carriers are processed
+   * with bounded parallelism. Each carrier is processed as in
+   * {@link #applyValidate(KnowledgeCarrier, String)}, and the failure of one carrier
+   * does not affect the others.
+   *
+   * @param sourceArtifacts the carriers to validate
+   * @param config          the configuration, shared by all the carriers
+   * @param parallelism     the maximum number of carriers processed concurrently
+   * @return one Answer per carrier, in order
+   */
+  public List<Answer<Void>> applyBatchValidate(List<KnowledgeCarrier> sourceArtifacts,
+      String config, int parallelism) {
+    return applyBatch(sourceArtifacts, parallelism,
+        this::routeValidate,
+        (ops, kc) -> validate(ops, kc, config));
+  }
+
+  private Answer<Void> validate(Collection<ValidateApiOperator> candidates,
+      KnowledgeCarrier sourceArtifact, String config) {
+    return applyWithFallback(candidates, ops -> anyDo(
         getOperations(
-            validators.values(),
+            ops,
             ValidateApiOperator::can_applyValidate,
             ValidateApiOperator::as_applyValidate),
-        a -> a.applyValidate(sourceArtifact, config));
+        a -> a.applyValidate(sourceArtifact, config)));
   }
 
   @Override
   public Answer<Void> applyNamedValidate(UUID operatorId,
       KnowledgeCarrier sourceArtifact, String config) {
-    return Answer.of(getValidator(operatorId))
+    return Answer.of(getOperator(operatorId))
         .flatOpt(ValidateApiOperator::as_applyNamedValidate)
         .flatMap(v -> v.applyNamedValidate(operatorId, sourceArtifact, config));
   }
 
 
+  /**
+   * Asynchronous variant of {@link #applyValidate(KnowledgeCarrier, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<Void>> applyValidateAsync(
+      KnowledgeCarrier sourceArtifact,
+      String config) {
+    return applyAsync(() -> applyValidate(sourceArtifact, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyValidate(KnowledgeCarrier, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<Void>> applyValidateAsync(
+      KnowledgeCarrier sourceArtifact,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyValidate(sourceArtifact, config), timeout);
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedValidate(UUID, KnowledgeCarrier, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<Void>> applyNamedValidateAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      String config) {
+    return applyAsync(() -> applyNamedValidate(operatorId, sourceArtifact, config));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedValidate(UUID, KnowledgeCarrier, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<Void>> applyNamedValidateAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      String config,
+      Duration timeout) {
+    return applyAsync(() -> applyNamedValidate(operatorId, sourceArtifact, config), timeout);
+  }
+
+  /**
+   * Selects the validators that declare to consume the representation of a carrier.
+   * Falls back to the full set of validators if none does.
+   * If none of the routed validators succeeds, the others are tried as well
+   */
+  private Collection<ValidateApiOperator> routeValidate(KnowledgeCarrier sourceArtifact) {
+    if (sourceArtifact.getRepresentation() == null) {
+      return getOperators();
+    }
+    String from = codedRep(sourceArtifact.getRepresentation());
+    List<ValidateApiOperator> routed = getOperators().stream()
+        .filter(op -> op.consumes(from))
+        .collect(Collectors.toList());
+    return routed.isEmpty() ? getOperators() : routed;
+  }
+
   @Override
   public UUID getComponentUuid() {
     return id;
@@ -122,12 +219,5 @@ public class LanguageValidator implements KnowledgePlatformComponent<Validator>,
     return descriptor;
   }
 
-
-  private Optional<ValidateApiOperator> getValidator(UUID operatorId) {
-    return validators.keySet().stream()
-        .filter(key -> key.getUuid().equals(operatorId))
-        .findFirst()
-        .map(validators::get);
-  }
 }
 
@@ -14,14 +14,21 @@
 package edu.mayo.kmdp.language;
 
 import static java.util.Collections.singletonList;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
 import static org.omg.spec.api4kp._20200801.Answer.anyDo;
+import static org.omg.spec.api4kp._20200801.contrastors.ParsingLevelContrastor.detectLevel;
+import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.KnowledgeProcessingOperationSeries.Lifting_Task;
+import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.KnowledgeProcessingOperationSeries.Lowering_Task;
 import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.KnowledgeProcessingOperationSeries.Syntactic_Translation_Task;
 import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.KnowledgeProcessingOperationSeries.Transcreation_Task;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.inject.Named;
 import org.omg.spec.api4kp._20200801.Answer;
@@ -29,38 +36,54 @@ import org.omg.spec.api4kp._20200801.KnowledgePlatformComponent;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DiscoveryApiInternal._getTxComponent;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DiscoveryApiInternal._listTxComponents;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.TransxionApiInternal;
-import org.omg.spec.api4kp._20200801.id.KeyIdentifier;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPOperation;
 import org.omg.spec.api4kp._20200801.services.KPServer;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder;
 import org.omg.spec.api4kp._20200801.services.transrepresentation.TransrepresentationOperator;
 import org.omg.spec.api4kp._20200801.services.transrepresentation.Transrepresentator;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
 import org.springframework.beans.factory.annotation.Autowired;
 
+/**
+ * Dispatches transrepresentation requests to the registered translators.
+ *
+ * Requests that no single translator can handle are satisfied, when possible, by chaining
+ * translators with the lifts and lowers of the registered parsers
+ * (see {@link TransrepresentationPlanner}).
+ */
 @Named
 @KPServer
-public class TransrepresentationExecutor implements KnowledgePlatformComponent<Transrepresentator>,
+public class TransrepresentationExecutor extends AbstractOperatorDispatcher<TransionApiOperator>
+    implements KnowledgePlatformComponent<Transrepresentator>,
     TransxionApiInternal, _getTxComponent, _listTxComponents {
 
   private UUID id = UUID.randomUUID();
   private Transrepresentator descriptor;
+  private TransrepresentationPlanner planner;
 
-  private Map<KeyIdentifier, TransionApiOperator> translators;
+  public TransrepresentationExecutor(List<TransionApiOperator> translators) {
+    this(translators, Collections.emptyList());
+  }
 
   @Named
+  @Autowired
   public TransrepresentationExecutor(
       @Autowired(required = false)
       @KPOperation(Transcreation_Task)
       @KPOperation(Syntactic_Translation_Task)
-          List<TransionApiOperator> translators) {
+          List<TransionApiOperator> translators,
+      @Autowired(required = false)
+      @KPOperation(Lifting_Task)
+      @KPOperation(Lowering_Task)
+          List<DeserializeApiOperator> parsers) {
 
-    this.translators = translators.stream()
-        .collect(Collectors.toMap(
-            tx -> tx.getOperatorId().asKey(),
-            tx -> tx
-        ));
+    super(translators);
 
+    this.planner = new TransrepresentationPlanner(
+        getOperators(),
+        parsers != null ? parsers : Collections.emptyList());
     this.descriptor = toKPComponent(getComponentId());
   }
 
@@ -76,31 +99,193 @@ public class TransrepresentationExecutor implements KnowledgePlatformComponent<T
 
   @Override
   public Answer<KnowledgeCarrier> applyTransrepresent(KnowledgeCarrier sourceArtifact, String xAccept, String cfg) {
-    return anyDo(
-        getOperations(
-            translators.values(),
-            TransionApiOperator::can_applyTransrepresent,
-            TransionApiOperator::as_applyTransrepresent),
-        a -> a.applyTransrepresent(sourceArtifact, xAccept, cfg));
+    return transrepresent(getOperators(), sourceArtifact, xAccept, cfg);
+  }
+
+  /**
+   * Transrepresents a batch of carriers into the same target representation
+   *
+   * @param sourceArtifacts the carriers to transrepresent
+   * @param xAccept         the (encoded) target representation
+   * @param cfg             the configuration, shared by all the carriers
+   * @return one Answer per carrier, in order
+   * @see #applyBatchTransrepresent(List, String, String, int)
+   */
+  public List<Answer<KnowledgeCarrier>> applyBatchTransrepresent(
+      List<KnowledgeCarrier> sourceArtifacts, String xAccept, String cfg) {
+    return applyBatchTransrepresent(sourceArtifacts, xAccept, cfg, DEFAULT_BATCH_PARALLELISM);
+  }
+
+  /**
+   * Transrepresents a batch of carriers into the same target representation.
+   * The translators are resolved once per source representation, and the carriers are
+   * processed with bounded parallelism. Each carrier is processed as in
+   * {@link #applyTransrepresent(KnowledgeCarrier, String, String)}, and the failure of
+   * one carrier does not affect the others.
+   *
+   * @param sourceArtifacts the carriers to transrepresent
+   * @param xAccept         the (encoded) target representation
+   * @param cfg             the configuration, shared by all the carriers
+   * @param parallelism     the maximum number of carriers processed concurrently
+   * @return one Answer per carrier, in order
+   */
+  public List<Answer<KnowledgeCarrier>> applyBatchTransrepresent(
+      List<KnowledgeCarrier> sourceArtifacts, String xAccept, String cfg, int parallelism) {
+    return applyBatch(sourceArtifacts, parallelism,
+        kc -> routeTransrepresent(kc, xAccept),
+        (ops, kc) -> transrepresent(ops, kc, xAccept, cfg));
+  }
+
+  private Answer<KnowledgeCarrier> transrepresent(Collection<TransionApiOperator> candidates,
+      KnowledgeCarrier sourceArtifact, String xAccept, String cfg) {
+    Answer<KnowledgeCarrier> direct;
+    try {
+      direct = applyWithFallback(candidates, ops -> anyDo(
+          getOperations(
+              ops,
+              TransionApiOperator::can_applyTransrepresent,
+              TransionApiOperator::as_applyTransrepresent),
+          a -> a.applyTransrepresent(sourceArtifact, xAccept, cfg)));
+    } catch (UnsupportedOperationException e) {
+      return executeChain(sourceArtifact, xAccept, cfg)
+          .orElseThrow(() -> e);
+    }
+    if (direct.isSuccess() || isSupported(sourceArtifact, xAccept)) {
+      // the rejection of a supported request is not retried through a chain
+      return direct;
+    }
+    // if the chain fails too, the failure of the direct translation is more informative
+    return executeChain(sourceArtifact, xAccept, cfg)
+        .filter(Answer::isSuccess)
+        .orElse(direct);
+  }
+
+  /**
+   * Selects the translators that declare to consume the representation of a carrier,
+   * and produce the requested one, if any.
+   * Falls back to the full set of translators if none does.
+   * If none of the routed translators succeeds, the others are tried as well
+   */
+  private Collection<TransionApiOperator> routeTransrepresent(KnowledgeCarrier sourceArtifact,
+      String xAccept) {
+    if (sourceArtifact.getRepresentation() == null) {
+      return getOperators();
+    }
+    List<TransionApiOperator> routed = capableOf(sourceArtifact, xAccept);
+    return routed.isEmpty() ? getOperators() : routed;
+  }
+
+  /**
+   * @return the translators that declare to consume the representation of a carrier,
+   * and produce the requested one
+   */
+  private List<TransionApiOperator> capableOf(KnowledgeCarrier sourceArtifact, String xAccept) {
+    if (sourceArtifact == null || sourceArtifact.getRepresentation() == null) {
+      return Collections.emptyList();
+    }
+    String from = codedRep(sourceArtifact.getRepresentation());
+    return getOperators().stream()
+        .filter(op -> op.consumes(from))
+        .filter(op -> xAccept == null || op.produces(xAccept))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return true if a translator declares to consume the representation of a carrier, at its
+   * parsing level, and produce the requested one
+   */
+  private boolean isSupported(KnowledgeCarrier sourceArtifact, String xAccept) {
+    if (sourceArtifact == null || sourceArtifact.getRepresentation() == null) {
+      return false;
+    }
+    ParsingLevel level = detectLevel(sourceArtifact);
+    return capableOf(sourceArtifact, xAccept).stream()
+        .anyMatch(op -> op.getFrom().stream()
+            .anyMatch(from -> level.sameAs(detectLevel(from))));
+  }
+
+  /**
+   * Plans and executes a chain of (at least two) operations, to be used when no single
+   * translator can handle a request
+   */
+  private Optional<Answer<KnowledgeCarrier>> executeChain(KnowledgeCarrier sourceArtifact,
+      String xAccept, String cfg) {
+    if (sourceArtifact == null || xAccept == null) {
+      return Optional.empty();
+    }
+    return ModelMIMECoder.decode(xAccept)
+        .flatMap(into -> planner.executeChain(sourceArtifact, into, xAccept, cfg));
   }
 
   @Override
   public Answer<KnowledgeCarrier> applyNamedTransrepresent(UUID operatorId,
       KnowledgeCarrier sourceArtifact, String xAccept, String cfg) {
-    return Answer.of(getTransrepresentator(operatorId))
+    return Answer.of(getOperator(operatorId))
         .flatOpt(TransionApiOperator::as_applyNamedTransrepresent)
         .flatMap(a -> a.applyNamedTransrepresent(operatorId, sourceArtifact, xAccept, cfg));
   }
 
+  /**
+   * Asynchronous variant of {@link #applyTransrepresent(KnowledgeCarrier, String, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyTransrepresentAsync(
+      KnowledgeCarrier sourceArtifact,
+      String xAccept,
+      String cfg) {
+    return applyAsync(() -> applyTransrepresent(sourceArtifact, xAccept, cfg));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyTransrepresent(KnowledgeCarrier, String, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyTransrepresentAsync(
+      KnowledgeCarrier sourceArtifact,
+      String xAccept,
+      String cfg,
+      Duration timeout) {
+    return applyAsync(() -> applyTransrepresent(sourceArtifact, xAccept, cfg), timeout);
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedTransrepresent(UUID, KnowledgeCarrier, String, String)},
+   * with the default timeout
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedTransrepresentAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      String xAccept,
+      String cfg) {
+    return applyAsync(() -> applyNamedTransrepresent(operatorId, sourceArtifact, xAccept, cfg));
+  }
+
+  /**
+   * Asynchronous variant of {@link #applyNamedTransrepresent(UUID, KnowledgeCarrier, String, String)}.
+   *
+   * @param timeout the timeout, or null for no timeout
+   * @return a future for the result, which interrupts the operation if cancelled or timed out
+   */
+  public CompletableFuture<Answer<KnowledgeCarrier>> applyNamedTransrepresentAsync(
+      UUID operatorId,
+      KnowledgeCarrier sourceArtifact,
+      String xAccept,
+      String cfg,
+      Duration timeout) {
+    return applyAsync(() -> applyNamedTransrepresent(operatorId, sourceArtifact, xAccept, cfg), timeout);
+  }
+
   @Override
   public Answer<TransrepresentationOperator> getTxionOperator(UUID operatorId) {
-    return Answer.of(getTransrepresentator(operatorId)
+    return Answer.of(getOperator(operatorId)
         .map(TransionApiOperator::getDescriptor));
   }
 
   @Override
   public Answer<List<TransrepresentationOperator>> listTxionOperators(String from, String into) {
-    return Answer.of(translators.values().stream()
+    return Answer.of(getOperators().stream()
         .filter(op -> op.consumes(from))
         .filter(op -> op.produces(into))
         .map(TransionApiOperator::getDescriptor)
@@ -124,11 +309,4 @@ public class TransrepresentationExecutor implements KnowledgePlatformComponent<T
     return descriptor;
   }
 
-  private Optional<TransionApiOperator> getTransrepresentator(UUID operatorId) {
-    return translators.keySet().stream()
-        .filter(key -> key.getUuid().equals(operatorId))
-        .findFirst()
-        .map(translators::get);
-  }
-
 }
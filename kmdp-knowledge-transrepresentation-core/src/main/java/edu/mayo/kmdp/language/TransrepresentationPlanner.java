@@ -0,0 +1,394 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.contrastors.ParsingLevelContrastor.detectLevel;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.translators.AbstractSimpleTranslator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries;
+
+/**
+ * Plans and executes chains of operations, used by the {@link TransrepresentationExecutor}
+ * to satisfy transrepresentation requests that no single translator can handle.
+ * <p>
+ * The planner works on a graph whose nodes are (language, parsing level) pairs, and whose edges
+ * are the translations declared by the {@link TransionApiOperator}s (from each of their source
+ * representations to each of their target representations), and the lifts and lowers declared by
+ * the {@link DeserializeApiOperator}s (between the serialized forms of a language and its
+ * abstract form). {@link AbstractSimpleTranslator}s can also produce the abstract form of their
+ * target language, so that intermediate results are handed over in memory, as ASTs, rather
+ * than serialized and re-parsed.
+ * <p>
+ * Plans are the cheapest paths between the source and the target node, where the cost of each
+ * edge is the (exponentially weighted) average latency of the operation, as measured by previous
+ * executions. Operations that have never been executed are assumed to be cheap, so that they are
+ * tried (and measured) at least once. Failures are recorded with a large penalty, rather than
+ * their latency, so that operations that fail fast are not preferred over working ones.
+ * When a step of a chain fails, the chain is re-planned without that step.
+ * <p>
+ * The graph is built once, and is read-only afterwards, except for the latencies.
+ */
+class TransrepresentationPlanner {
+
+  /**
+   * Assumed cost (in ms) of operations that have not been measured yet
+   */
+  static final double DEFAULT_COST = 1.0;
+
+  /**
+   * Cost (in ms) recorded for the executions of operations that fail
+   */
+  static final double FAILURE_PENALTY = 60_000.0;
+
+  /**
+   * Weight of the most recent measurement in the average latency of an operation
+   */
+  private static final double SMOOTHING = 0.2;
+
+  private final Map<Node, List<Step>> outgoing = new HashMap<>();
+
+  TransrepresentationPlanner(
+      Collection<TransionApiOperator> translators,
+      Collection<DeserializeApiOperator> parsers) {
+    for (TransionApiOperator op : translators) {
+      op.as_applyTransrepresent().ifPresent(tx -> {
+        for (SyntacticRepresentation from : op.getFrom()) {
+          for (SyntacticRepresentation into : op.getInto()) {
+            if (from.getLanguage() == null || into.getLanguage() == null
+                || from.getLanguage().sameAs(into.getLanguage())) {
+              continue;
+            }
+            Operation translate = tx::applyTransrepresent;
+            if (op instanceof AbstractSimpleTranslator) {
+              register(new Step(op, from, rep(into.getLanguage()), translate));
+            }
+            register(new Step(op, from, into, translate));
+          }
+        }
+      });
+    }
+    for (DeserializeApiOperator op : parsers) {
+      op.as_applyLift().ifPresent(lift -> {
+        for (SyntacticRepresentation from : op.getFrom()) {
+          if (from.getLanguage() != null) {
+            register(new Step(op, from, rep(from.getLanguage()),
+                (kc, target, cfg) -> lift.applyLift(kc, Abstract_Knowledge_Expression, target, cfg)));
+          }
+        }
+      });
+      op.as_applyLower().ifPresent(lower -> {
+        for (SyntacticRepresentation into : op.getInto()) {
+          if (into.getLanguage() != null) {
+            ParsingLevel level = detectLevel(into);
+            register(new Step(op, rep(into.getLanguage()), into,
+                (kc, target, cfg) -> lower.applyLower(kc, level, target, cfg)));
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Plans the transrepresentation of a carrier
+   *
+   * @param source the carrier to transrepresent
+   * @param into   the target representation
+   * @return the cheapest sequence of steps, if any, or empty if the carrier is already
+   * in the target language and level
+   */
+  Optional<List<Step>> plan(KnowledgeCarrier source, SyntacticRepresentation into) {
+    return plan(source, into, Collections.emptySet());
+  }
+
+  /**
+   * Plans the transrepresentation of a carrier, without using some of the steps
+   *
+   * @param source   the carrier to transrepresent
+   * @param into     the target representation
+   * @param excluded the steps that the plan must not use
+   * @return the cheapest sequence of steps, if any, or empty if the carrier is already
+   * in the target language and level
+   */
+  Optional<List<Step>> plan(KnowledgeCarrier source, SyntacticRepresentation into,
+      Set<Step> excluded) {
+    if (source.getRepresentation() == null
+        || source.getRepresentation().getLanguage() == null
+        || into == null
+        || into.getLanguage() == null) {
+      return Optional.empty();
+    }
+    Node start = new Node(source.getRepresentation().getLanguage(), detectLevel(source));
+    Node goal = new Node(into.getLanguage(), detectLevel(into));
+
+    Map<Node, Double> distance = new HashMap<>();
+    Map<Node, Step> via = new HashMap<>();
+    PriorityQueue<Visit> queue = new PriorityQueue<>();
+    distance.put(start, 0.0);
+    queue.add(new Visit(start, 0.0));
+
+    while (!queue.isEmpty()) {
+      Visit visit = queue.poll();
+      if (visit.cost > distance.get(visit.node)) {
+        // stale entry
+        continue;
+      }
+      if (visit.node.equals(goal)) {
+        return visit.node.equals(start)
+            ? Optional.empty()
+            : Optional.of(pathTo(goal, start, via));
+      }
+      for (Step step : outgoing.getOrDefault(visit.node, Collections.emptyList())) {
+        if (excluded.contains(step)) {
+          continue;
+        }
+        double cost = visit.cost + step.getCost();
+        Double known = distance.get(step.to);
+        if (known == null || cost < known) {
+          distance.put(step.to, cost);
+          via.put(step.to, step);
+          queue.add(new Visit(step.to, cost));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Plans and executes a chain of (at least two) operations.
+   * When a step fails, the chain is re-planned without that step, until a chain succeeds,
+   * or no other chain is available.
+   *
+   * @param source  the carrier to transrepresent
+   * @param into    the target representation
+   * @param xAccept the (encoded) target representation
+   * @param cfg     the configuration, passed to each step
+   * @return the result of the first successful chain, or the failure of the first chain,
+   * or empty if no chain is available
+   */
+  Optional<Answer<KnowledgeCarrier>> executeChain(
+      KnowledgeCarrier source,
+      SyntacticRepresentation into,
+      String xAccept,
+      String cfg) {
+    Set<Step> excluded = new HashSet<>();
+    Answer<KnowledgeCarrier> firstFailure = null;
+    Optional<List<Step>> plan = plan(source, into, excluded);
+    while (plan.isPresent()) {
+      if (plan.get().size() < 2) {
+        // single operations are not chains
+        excluded.addAll(plan.get());
+      } else {
+        Answer<KnowledgeCarrier> result = execute(plan.get(), source, xAccept, cfg, excluded);
+        if (result.isSuccess()) {
+          return Optional.of(result);
+        }
+        if (firstFailure == null) {
+          firstFailure = result;
+        }
+      }
+      plan = plan(source, into, excluded);
+    }
+    return Optional.ofNullable(firstFailure);
+  }
+
+  /**
+   * Executes a plan. Intermediate steps produce the representations of the planned nodes,
+   * the last step produces the requested representation.
+   *
+   * @param plan    the steps to execute
+   * @param source  the carrier to transrepresent
+   * @param xAccept the (encoded) target representation
+   * @param cfg     the configuration, passed to each step
+   * @return the result of the last step, or the first failure
+   */
+  Answer<KnowledgeCarrier> execute(
+      List<Step> plan,
+      KnowledgeCarrier source,
+      String xAccept,
+      String cfg) {
+    return execute(plan, source, xAccept, cfg, new HashSet<>());
+  }
+
+  private Answer<KnowledgeCarrier> execute(
+      List<Step> plan,
+      KnowledgeCarrier source,
+      String xAccept,
+      String cfg,
+      Set<Step> failed) {
+    Answer<KnowledgeCarrier> current = Answer.of(source);
+    for (int j = 0; j < plan.size(); j++) {
+      Step step = plan.get(j);
+      String target = j == plan.size() - 1 ? xAccept : codedRep(step.target);
+      current = current.flatMap(kc -> step.apply(kc, target, cfg));
+      if (!current.isSuccess()) {
+        failed.add(step);
+        break;
+      }
+    }
+    return current;
+  }
+
+  private List<Step> pathTo(Node goal, Node start, Map<Node, Step> via) {
+    LinkedList<Step> path = new LinkedList<>();
+    Node node = goal;
+    while (!node.equals(start)) {
+      Step step = via.get(node);
+      path.addFirst(step);
+      node = step.from;
+    }
+    return new ArrayList<>(path);
+  }
+
+  private void register(Step step) {
+    if (step.from.equals(step.to)) {
+      return;
+    }
+    outgoing.computeIfAbsent(step.from, k -> new ArrayList<>(2)).add(step);
+  }
+
+
+  @FunctionalInterface
+  interface Operation {
+
+    Answer<KnowledgeCarrier> apply(KnowledgeCarrier source, String target, String cfg);
+  }
+
+  /**
+   * A single operation in a plan, with the average latency of its past executions,
+   * where failed executions count as {@link #FAILURE_PENALTY}
+   */
+  static final class Step {
+
+    private final Object operator;
+    private final Node from;
+    private final Node to;
+    private final SyntacticRepresentation target;
+    private final Operation operation;
+
+    private double latency = -1;
+
+    Step(Object operator,
+        SyntacticRepresentation source,
+        SyntacticRepresentation target,
+        Operation operation) {
+      this.operator = operator;
+      this.from = new Node(source.getLanguage(), detectLevel(source));
+      this.to = new Node(target.getLanguage(), detectLevel(target));
+      this.target = target;
+      this.operation = operation;
+    }
+
+    Object getOperator() {
+      return operator;
+    }
+
+    SyntacticRepresentation getTarget() {
+      return target;
+    }
+
+    synchronized double getCost() {
+      return latency < 0 ? DEFAULT_COST : latency;
+    }
+
+    Answer<KnowledgeCarrier> apply(KnowledgeCarrier source, String target, String cfg) {
+      long start = System.nanoTime();
+      boolean succeeded = false;
+      try {
+        Answer<KnowledgeCarrier> result = operation.apply(source, target, cfg);
+        succeeded = result.isSuccess();
+        return result;
+      } catch (UnsupportedOperationException e) {
+        return Answer.failed(e);
+      } finally {
+        record(succeeded ? (System.nanoTime() - start) / 1_000_000.0 : FAILURE_PENALTY);
+      }
+    }
+
+    private synchronized void record(double millis) {
+      latency = latency < 0
+          ? millis
+          : (1 - SMOOTHING) * latency + SMOOTHING * millis;
+    }
+  }
+
+  /**
+   * Graph node: (language, parsing level).
+   * Languages are compared by UUID, since representations may hold different instances
+   * of the same controlled term.
+   */
+  static final class Node {
+
+    private final UUID language;
+    private final ParsingLevelSeries level;
+
+    Node(KnowledgeRepresentationLanguage language, ParsingLevel level) {
+      this.language = language.getUuid();
+      this.level = ParsingLevelSeries.asEnum(level);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Node other = (Node) o;
+      return language.equals(other.language) && level == other.level;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(language, level);
+    }
+  }
+
+  private static final class Visit implements Comparable<Visit> {
+
+    private final Node node;
+    private final double cost;
+
+    private Visit(Node node, double cost) {
+      this.node = node;
+      this.cost = cost;
+    }
+
+    @Override
+    public int compareTo(Visit other) {
+      return Double.compare(cost, other.cost);
+    }
+  }
+}
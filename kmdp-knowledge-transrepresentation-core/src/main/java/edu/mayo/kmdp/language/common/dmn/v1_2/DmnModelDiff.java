@@ -0,0 +1,221 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.common.dmn.v1_2;
+
+import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.asId;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import edu.mayo.kmdp.language.common.jaxb.JaxbPool;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import org.omg.spec.api4kp._20200801.surrogate.Annotation;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Element-level difference between two versions of a DMN model.
+ * <p>
+ * The DRG elements of both versions are matched by normalized id
+ * (see {@link DMN12Utils#asId(String)}), and compared by a hash of their (XML) content, so that
+ * any change to an element, including its requirements and extension elements, is detected.
+ * Elements without an id cannot be referenced, and are not considered.
+ * Elements that cannot be serialized are conservatively reported as modified.
+ * <p>
+ * The diff only covers the DRG elements: model-level attributes (e.g. the name) are not compared.
+ * <p>
+ * Hashing requires serializing every DRG element. When a model is edited repeatedly, the
+ * {@link ElementHashes} of the current version (see {@link #getCurrentHashes()}) can be retained
+ * and used as the previous version in the next diff, so that each model is only hashed once.
+ */
+public final class DmnModelDiff {
+
+  private static final Logger logger = LoggerFactory.getLogger(DmnModelDiff.class);
+
+  private static final HashFunction HASH = Hashing.murmur3_128();
+
+  private final Set<String> added = new HashSet<>();
+  private final Set<String> removed = new HashSet<>();
+  private final Set<String> modified = new HashSet<>();
+
+  private final ElementHashes currentHashes;
+
+  private DmnModelDiff(ElementHashes previous, ElementHashes current) {
+    this.currentHashes = current;
+    Map<String, Optional<HashCode>> before = previous.hashes;
+    Map<String, Optional<HashCode>> after = current.hashes;
+
+    after.forEach((id, hash) -> {
+      if (!before.containsKey(id)) {
+        added.add(id);
+      } else if (hash.isEmpty() || !hash.equals(before.get(id))) {
+        modified.add(id);
+      }
+    });
+    before.keySet().stream()
+        .filter(id -> !after.containsKey(id))
+        .forEach(removed::add);
+  }
+
+  /**
+   * Compares two versions of a DMN model
+   *
+   * @param previous the previous version of the model
+   * @param current  the current version of the model
+   * @return the diff
+   */
+  public static DmnModelDiff of(TDefinitions previous, TDefinitions current) {
+    Optional<Marshaller> marshaller = newMarshaller();
+    return new DmnModelDiff(
+        new ElementHashes(hashElements(previous, marshaller)),
+        new ElementHashes(hashElements(current, marshaller)));
+  }
+
+  /**
+   * Compares a DMN model with a previous version, which has already been hashed
+   *
+   * @param previous the element hashes of the previous version of the model
+   * @param current  the current version of the model
+   * @return the diff
+   */
+  public static DmnModelDiff of(ElementHashes previous, TDefinitions current) {
+    return new DmnModelDiff(previous, ElementHashes.of(current));
+  }
+
+  /**
+   * @return the element hashes of the current model, to be used in the diff with its next version
+   */
+  public ElementHashes getCurrentHashes() {
+    return currentHashes;
+  }
+
+  /**
+   * @return the (normalized) ids of the elements that only exist in the current model
+   */
+  public Set<String> getAddedIds() {
+    return Collections.unmodifiableSet(added);
+  }
+
+  /**
+   * @return the (normalized) ids of the elements that only exist in the previous model
+   */
+  public Set<String> getRemovedIds() {
+    return Collections.unmodifiableSet(removed);
+  }
+
+  /**
+   * @return the (normalized) ids of the elements whose content differs between the two models
+   */
+  public Set<String> getModifiedIds() {
+    return Collections.unmodifiableSet(modified);
+  }
+
+  /**
+   * @return the (normalized) ids of the elements that were added, removed or modified
+   */
+  public Set<String> getChangedIds() {
+    Set<String> changed = new HashSet<>(added);
+    changed.addAll(removed);
+    changed.addAll(modified);
+    return changed;
+  }
+
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty() && modified.isEmpty();
+  }
+
+  private static Map<String, Optional<HashCode>> hashElements(
+      TDefinitions model, Optional<Marshaller> marshaller) {
+    Map<String, Optional<HashCode>> hashes = new HashMap<>();
+    for (JAXBElement<? extends TDRGElement> element : model.getDrgElement()) {
+      String id = element.getValue().getId();
+      if (id == null) {
+        continue;
+      }
+      Optional<HashCode> hash = marshaller.flatMap(m -> hash(element, m));
+      // duplicate ids: any change to any of the occurrences is a change
+      hashes.merge(asId(id), hash, (h1, h2) -> h1.isPresent() && h2.isPresent()
+          ? Optional.of(Hashing.combineOrdered(Arrays.asList(h1.get(), h2.get())))
+          : Optional.empty());
+    }
+    return hashes;
+  }
+
+  private static Optional<HashCode> hash(JAXBElement<? extends TDRGElement> element,
+      Marshaller marshaller) {
+    Hasher hasher = HASH.newHasher();
+    try {
+      marshaller.marshal(element, Funnels.asOutputStream(hasher));
+      return Optional.of(hasher.hash());
+    } catch (JAXBException e) {
+      logger.debug(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<Marshaller> newMarshaller() {
+    return JaxbPool.of(Arrays.asList(TDefinitions.class, Annotation.class))
+        .flatMap(pool -> {
+          try {
+            Marshaller marshaller = pool.getContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            return Optional.of(marshaller);
+          } catch (JAXBException e) {
+            logger.error(e.getMessage(), e);
+            return Optional.empty();
+          }
+        });
+  }
+
+  /**
+   * The hashes of the (XML) content of the DRG elements of a DMN model, by normalized id
+   */
+  public static final class ElementHashes {
+
+    private final Map<String, Optional<HashCode>> hashes;
+
+    private ElementHashes(Map<String, Optional<HashCode>> hashes) {
+      this.hashes = Collections.unmodifiableMap(hashes);
+    }
+
+    /**
+     * @param model a DMN model
+     * @return the hashes of the DRG elements of the model
+     */
+    public static ElementHashes of(TDefinitions model) {
+      return new ElementHashes(hashElements(model, newMarshaller()));
+    }
+
+    /**
+     * @return the number of (distinct) DRG elements that have been hashed
+     */
+    public int size() {
+      return hashes.size();
+    }
+  }
+
+}
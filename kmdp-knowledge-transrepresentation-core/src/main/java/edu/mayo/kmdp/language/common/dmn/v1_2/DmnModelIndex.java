@@ -0,0 +1,315 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.common.dmn.v1_2;
+
+import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.asId;
+import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.refToId;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.bind.JAXBElement;
+import org.omg.spec.dmn._20180521.model.TBusinessKnowledgeModel;
+import org.omg.spec.dmn._20180521.model.TDMNElementReference;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
+import org.omg.spec.dmn._20180521.model.TDecision;
+import org.omg.spec.dmn._20180521.model.TDecisionService;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.omg.spec.dmn._20180521.model.TInformationRequirement;
+import org.omg.spec.dmn._20180521.model.TInputData;
+import org.omg.spec.dmn._20180521.model.TKnowledgeSource;
+
+/**
+ * Id-based index of the DRG elements of a DMN model.
+ * <p>
+ * The DRG elements are unwrapped and partitioned by type once, into maps keyed by
+ * normalized id (see {@link DMN12Utils#asId(String)}), so that references can be resolved
+ * in constant time, rather than with a scan of the model as in {@link DMN12Utils}.
+ * The index is a snapshot: changes to the model after its construction are not reflected.
+ * Elements are listed in document order; references to duplicate ids resolve to the first
+ * occurrence, consistently with the {@link DMN12Utils} lookups.
+ * <p>
+ * The index also holds the Decision to Decision information requirement graph, and memoizes
+ * the transitive closures over that graph. Indexes are meant to be used within the scope of a
+ * single operation (e.g. a translation), and are not thread safe.
+ */
+public final class DmnModelIndex {
+
+  private final TDefinitions model;
+
+  private final List<TDecision> decisionList = new ArrayList<>();
+  private final List<TInputData> inputList = new ArrayList<>();
+  private final List<TBusinessKnowledgeModel> bkmList = new ArrayList<>();
+  private final List<TDecisionService> decisionServiceList = new ArrayList<>();
+  private final List<TKnowledgeSource> knowledgeSourceList = new ArrayList<>();
+
+  private final Map<String, TDecision> decisions = new HashMap<>();
+  private final Map<String, TInputData> inputs = new HashMap<>();
+  private final Map<String, TBusinessKnowledgeModel> bkms = new HashMap<>();
+  private final Map<String, TDecisionService> decisionServices = new HashMap<>();
+  private final Map<String, TKnowledgeSource> knowledgeSources = new HashMap<>();
+
+  private final Set<String> serviceScopedDecisions = new HashSet<>();
+
+  private final Map<TDecision, List<TDecision>> adjacency = new IdentityHashMap<>();
+  private final Map<TDecision, List<TDecision>> closures = new IdentityHashMap<>();
+
+  private DmnModelIndex(TDefinitions model) {
+    this.model = model;
+    for (JAXBElement<? extends TDRGElement> element : model.getDrgElement()) {
+      TDRGElement drg = element.getValue();
+      if (drg instanceof TDecision) {
+        add((TDecision) drg, decisionList, decisions);
+      } else if (drg instanceof TInputData) {
+        add((TInputData) drg, inputList, inputs);
+      } else if (drg instanceof TBusinessKnowledgeModel) {
+        add((TBusinessKnowledgeModel) drg, bkmList, bkms);
+      } else if (drg instanceof TDecisionService) {
+        add((TDecisionService) drg, decisionServiceList, decisionServices);
+      } else if (drg instanceof TKnowledgeSource) {
+        add((TKnowledgeSource) drg, knowledgeSourceList, knowledgeSources);
+      }
+    }
+    for (TDecisionService ds : decisionServiceList) {
+      addRefs(ds.getOutputDecision(), serviceScopedDecisions);
+      addRefs(ds.getEncapsulatedDecision(), serviceScopedDecisions);
+      addRefs(ds.getInputDecision(), serviceScopedDecisions);
+    }
+  }
+
+  /**
+   * Indexes a DMN model
+   *
+   * @param model the model to index
+   * @return the index
+   */
+  public static DmnModelIndex of(TDefinitions model) {
+    return new DmnModelIndex(model);
+  }
+
+  public TDefinitions getModel() {
+    return model;
+  }
+
+  public List<TDecision> getDecisions() {
+    return Collections.unmodifiableList(decisionList);
+  }
+
+  public List<TInputData> getInputs() {
+    return Collections.unmodifiableList(inputList);
+  }
+
+  public List<TBusinessKnowledgeModel> getBKMs() {
+    return Collections.unmodifiableList(bkmList);
+  }
+
+  public List<TDecisionService> getDecisionServices() {
+    return Collections.unmodifiableList(decisionServiceList);
+  }
+
+  public List<TKnowledgeSource> getKnowledgeSources() {
+    return Collections.unmodifiableList(knowledgeSourceList);
+  }
+
+
+  public Optional<TDecision> findDecision(TDMNElementReference ref) {
+    return findDecision(ref.getHref());
+  }
+
+  public Optional<TDecision> findDecision(URI ref) {
+    return lookup(decisions, ref);
+  }
+
+  public Optional<TDecision> findDecision(String href) {
+    return lookup(decisions, href);
+  }
+
+  public Optional<TInputData> findInput(TDMNElementReference ref) {
+    return findInput(ref.getHref());
+  }
+
+  public Optional<TInputData> findInput(URI ref) {
+    return lookup(inputs, ref);
+  }
+
+  public Optional<TInputData> findInput(String href) {
+    return lookup(inputs, href);
+  }
+
+  public Optional<TBusinessKnowledgeModel> findBKM(TDMNElementReference ref) {
+    return findBKM(ref.getHref());
+  }
+
+  public Optional<TBusinessKnowledgeModel> findBKM(URI ref) {
+    return lookup(bkms, ref);
+  }
+
+  public Optional<TBusinessKnowledgeModel> findBKM(String href) {
+    return lookup(bkms, href);
+  }
+
+  public Optional<TDecisionService> findDecisionService(TDMNElementReference ref) {
+    return findDecisionService(ref.getHref());
+  }
+
+  public Optional<TDecisionService> findDecisionService(URI ref) {
+    return lookup(decisionServices, ref);
+  }
+
+  public Optional<TDecisionService> findDecisionService(String href) {
+    return lookup(decisionServices, href);
+  }
+
+  public Optional<TKnowledgeSource> findKnowledgeSource(TDMNElementReference ref) {
+    return findKnowledgeSource(ref.getHref());
+  }
+
+  public Optional<TKnowledgeSource> findKnowledgeSource(URI ref) {
+    return lookup(knowledgeSources, ref);
+  }
+
+  public Optional<TKnowledgeSource> findKnowledgeSource(String href) {
+    return lookup(knowledgeSources, href);
+  }
+
+
+  /**
+   * The information requirement graph is materialized lazily, one Decision at a time,
+   * so that unresolvable references only fail when (and if) they are traversed.
+   *
+   * @param dec a Decision
+   * @return the Decisions directly required by the given Decision
+   * @see DMN12Utils#getSubDecisions(TDecision, TDefinitions)
+   */
+  public Stream<TDecision> getSubDecisions(TDecision dec) {
+    return requiredDecisions(dec).stream();
+  }
+
+  /**
+   * Closures are computed with a single, iterative depth first visit, which reuses the
+   * closures computed for previous queries, and are memoized.
+   *
+   * @param dec a Decision
+   * @return the given Decision, followed by the Decisions it (transitively) requires,
+   * without duplicates, in (pre-order) visit order
+   * @see DMN12Utils#getSubDecisionsClosure(TDecision, TDefinitions)
+   */
+  public Stream<TDecision> getSubDecisionsClosure(TDecision dec) {
+    List<TDecision> closure = closures.get(dec);
+    if (closure == null) {
+      closure = computeClosure(dec);
+      closures.put(dec, closure);
+    }
+    return closure.stream();
+  }
+
+  /**
+   * @param dec a Decision
+   * @return true if the Decision is an output, encapsulated or input Decision
+   * of some Decision Service in the model
+   */
+  public boolean isDecisionServiceScoped(TDecision dec) {
+    return dec.getId() != null && serviceScopedDecisions.contains(asId(dec.getId()));
+  }
+
+
+  private List<TDecision> requiredDecisions(TDecision dec) {
+    List<TDecision> required = adjacency.get(dec);
+    if (required == null) {
+      required = dec.getInformationRequirement().stream()
+          .map(TInformationRequirement::getRequiredDecision) // exclude inputs
+          .filter(Objects::nonNull)
+          .map(ref -> findDecision(ref).orElseThrow())
+          .collect(Collectors.toList());
+      adjacency.put(dec, required);
+    }
+    return required;
+  }
+
+  private List<TDecision> computeClosure(TDecision root) {
+    Set<TDecision> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<TDecision> closure = new ArrayList<>();
+    Deque<Iterator<TDecision>> stack = new ArrayDeque<>();
+
+    visited.add(root);
+    closure.add(root);
+    stack.push(requiredDecisions(root).iterator());
+    while (!stack.isEmpty()) {
+      Iterator<TDecision> frontier = stack.peek();
+      if (!frontier.hasNext()) {
+        stack.pop();
+        continue;
+      }
+      TDecision next = frontier.next();
+      if (!visited.add(next)) {
+        continue;
+      }
+      List<TDecision> known = closures.get(next);
+      if (known != null) {
+        // the closure of 'next' starts with 'next' itself
+        closure.add(next);
+        known.stream()
+            .filter(visited::add)
+            .forEach(closure::add);
+      } else {
+        closure.add(next);
+        stack.push(requiredDecisions(next).iterator());
+      }
+    }
+    return Collections.unmodifiableList(closure);
+  }
+
+  private static <T extends TDRGElement> void add(T element, List<T> all, Map<String, T> byId) {
+    all.add(element);
+    if (element.getId() != null) {
+      byId.putIfAbsent(asId(element.getId()), element);
+    }
+  }
+
+  private static <T extends TDRGElement> Optional<T> lookup(Map<String, T> index, String href) {
+    if (href == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(index.get(refToId(href)));
+  }
+
+  private static <T extends TDRGElement> Optional<T> lookup(Map<String, T> index, URI ref) {
+    if (ref == null || ref.getFragment() == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(index.get(asId(ref.getFragment())));
+  }
+
+  private static void addRefs(List<TDMNElementReference> refs, Set<String> ids) {
+    refs.stream()
+        .map(TDMNElementReference::getHref)
+        .filter(Objects::nonNull)
+        .map(DMN12Utils::refToId)
+        .forEach(ids::add);
+  }
+
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.common.jaxb;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Node;
+
+/**
+ * Shared JAXB infrastructure for the XML-based parsers and detectors.
+ * <p>
+ * One {@link JAXBContext} is created per set of bound classes, and reused across components
+ * and calls: context creation for the (large) OMG schemas is expensive, while contexts are
+ * thread safe. {@link Unmarshaller}s are not thread safe, but can be reused sequentially:
+ * each pool keeps a bounded number of idle unmarshallers, which are borrowed for the duration
+ * of a single unmarshal. Unmarshallers are created on demand when the pool is empty,
+ * and discarded when it is full.
+ * <p>
+ * Marshalling is left to JaxbUtil, which interprets the full JaxbConfig.
+ * <p>
+ * Serialized XML is read through a StAX parser that does not support DTDs or external entities.
+ */
+public final class JaxbPool {
+
+  private static final Logger logger = LoggerFactory.getLogger(JaxbPool.class);
+
+  static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = newInputFactory();
+
+  private static final Map<Set<Class<?>>, JaxbPool> pools = new ConcurrentHashMap<>();
+
+  private final JAXBContext context;
+
+  private final BlockingQueue<Unmarshaller> unmarshallers = new ArrayBlockingQueue<>(MAX_IDLE);
+
+  private JaxbPool(JAXBContext context) {
+    this.context = context;
+  }
+
+  /**
+   * Returns the (shared) pool for a JAXB context
+   *
+   * @param classContext the classes to be bound
+   * @return the pool, or empty if the context cannot be created
+   */
+  public static Optional<JaxbPool> of(Collection<? extends Class<?>> classContext) {
+    Set<Class<?>> key = Set.copyOf(classContext);
+    JaxbPool pool = pools.get(key);
+    if (pool == null) {
+      try {
+        pool = pools.computeIfAbsent(key, JaxbPool::newPool);
+      } catch (IllegalStateException e) {
+        logger.error(e.getMessage(), e);
+        return Optional.empty();
+      }
+    }
+    return Optional.of(pool);
+  }
+
+  public JAXBContext getContext() {
+    return context;
+  }
+
+  public <T> Optional<T> unmarshall(Class<T> type, String xml) {
+    try {
+      return unmarshall(type, XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml)));
+    } catch (XMLStreamException e) {
+      logger.debug(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Unmarshals bytes directly, letting the XML parser handle
+   * the byte order marks and the declared encoding
+   */
+  public <T> Optional<T> unmarshall(Class<T> type, byte[] xml) {
+    try {
+      return unmarshall(type,
+          XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(xml)));
+    } catch (XMLStreamException e) {
+      logger.debug(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  public <T> Optional<T> unmarshall(Class<T> type, Node node) {
+    try {
+      Unmarshaller unmarshaller = borrowUnmarshaller();
+      T value = unmarshaller.unmarshal(node, type).getValue();
+      releaseUnmarshaller(unmarshaller);
+      return Optional.ofNullable(value);
+    } catch (JAXBException | RuntimeException e) {
+      logger.debug(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  private <T> Optional<T> unmarshall(Class<T> type, XMLStreamReader reader) {
+    try {
+      Unmarshaller unmarshaller = borrowUnmarshaller();
+      T value = unmarshaller.unmarshal(reader, type).getValue();
+      releaseUnmarshaller(unmarshaller);
+      return Optional.ofNullable(value);
+    } catch (JAXBException | RuntimeException e) {
+      logger.debug(e.getMessage(), e);
+      return Optional.empty();
+    } finally {
+      close(reader);
+    }
+  }
+
+  Unmarshaller borrowUnmarshaller() throws JAXBException {
+    Unmarshaller unmarshaller = unmarshallers.poll();
+    return unmarshaller != null ? unmarshaller : context.createUnmarshaller();
+  }
+
+  /**
+   * Returns an unmarshaller to the pool, after a successful unmarshal.
+   * Unmarshallers that failed are discarded instead, since their state is not guaranteed.
+   */
+  void releaseUnmarshaller(Unmarshaller unmarshaller) {
+    unmarshallers.offer(unmarshaller);
+  }
+
+  int idleUnmarshallers() {
+    return unmarshallers.size();
+  }
+
+  private static void close(XMLStreamReader reader) {
+    try {
+      reader.close();
+    } catch (XMLStreamException e) {
+      logger.trace(e.getMessage(), e);
+    }
+  }
+
+  private static JaxbPool newPool(Set<Class<?>> classContext) {
+    try {
+      return new JaxbPool(JAXBContext.newInstance(classContext.toArray(new Class<?>[0])));
+    } catch (JAXBException e) {
+      throw new IllegalStateException(
+          "Unable to create JAXB context for " + classContext, e);
+    }
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    return factory;
+  }
+
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.common.owl2;
+
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Functional_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Manchester_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_XML_Serialization;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.RDF_XML_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
+
+import edu.mayo.kmdp.language.detectors.SniffedContent;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.apache.jena.vocabulary.OWL2;
+import org.apache.jena.vocabulary.RDF;
+import org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerialization;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSourceBase;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Format-hinted loading of OWL ontologies.
+ * <p>
+ * Without a hint, the OWLAPI tries each of its parsers in turn, until one succeeds, buffering the
+ * document for each retry. Here, the serialization declared by the client, or sniffed from the
+ * head of the document, is mapped to an {@link OWLDocumentFormat} (and MIME type), so that only
+ * the matching parser is used. If the hinted parser fails (e.g. the declared serialization is
+ * wrong), the document is loaded again without a hint.
+ */
+public final class OWLDocumentSources {
+
+  private static final Logger logger = LoggerFactory.getLogger(OWLDocumentSources.class);
+
+  private static final String DOCUMENT_IRI_PREFIX = "inputstream:ontology";
+
+  private OWLDocumentSources() {
+    // static functions only
+  }
+
+  /**
+   * Loads an ontology from its bytes
+   *
+   * @param manager       the manager to load the ontology with
+   * @param bytes         the ontology document
+   * @param serialization the declared serialization, if any
+   * @return the loaded ontology
+   * @throws OWLOntologyCreationException if the ontology cannot be loaded
+   */
+  public static OWLOntology loadOntology(
+      OWLOntologyManager manager,
+      byte[] bytes,
+      KnowledgeRepresentationLanguageSerialization serialization)
+      throws OWLOntologyCreationException {
+    Optional<KnowledgeRepresentationLanguageSerialization> hint =
+        serialization != null && toDocumentFormat(serialization).isPresent()
+            ? Optional.of(serialization)
+            : sniff(bytes);
+    if (hint.isPresent()) {
+      try {
+        return manager.loadOntologyFromOntologyDocument(new StreamDocumentSource(
+            new ByteArrayInputStream(bytes),
+            OWLOntologyDocumentSourceBase.getNextDocumentIRI(DOCUMENT_IRI_PREFIX),
+            toDocumentFormat(hint.get()).orElse(null),
+            toMimeType(hint.get()).orElse(null)));
+      } catch (OWLOntologyCreationException e) {
+        logger.debug("Unable to load ontology as {}, retrying with all parsers : {}",
+            hint.get().getTag(), e.getMessage());
+      }
+    }
+    return manager.loadOntologyFromOntologyDocument(new ByteArrayInputStream(bytes));
+  }
+
+  /**
+   * Maps a serialization to the corresponding OWLAPI document format
+   *
+   * @param serialization the serialization
+   * @return the document format, if the serialization is supported by the OWLAPI
+   */
+  public static Optional<OWLDocumentFormat> toDocumentFormat(
+      KnowledgeRepresentationLanguageSerialization serialization) {
+    if (serialization == null) {
+      return Optional.empty();
+    }
+    if (RDF_XML_Syntax.sameAs(serialization)) {
+      return Optional.of(new RDFXMLDocumentFormat());
+    } else if (Turtle.sameAs(serialization)) {
+      return Optional.of(new TurtleDocumentFormat());
+    } else if (OWL_Functional_Syntax.sameAs(serialization)) {
+      return Optional.of(new FunctionalSyntaxDocumentFormat());
+    } else if (OWL_Manchester_Syntax.sameAs(serialization)) {
+      return Optional.of(new ManchesterSyntaxDocumentFormat());
+    } else if (OWL_XML_Serialization.sameAs(serialization)) {
+      return Optional.of(new OWLXMLDocumentFormat());
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @param serialization the serialization
+   * @return the MIME type of the serialization, if supported by the OWLAPI
+   */
+  public static Optional<String> toMimeType(
+      KnowledgeRepresentationLanguageSerialization serialization) {
+    if (serialization == null) {
+      return Optional.empty();
+    }
+    if (RDF_XML_Syntax.sameAs(serialization)) {
+      return Optional.of("application/rdf+xml");
+    } else if (Turtle.sameAs(serialization)) {
+      return Optional.of("text/turtle");
+    } else if (OWL_Functional_Syntax.sameAs(serialization)) {
+      return Optional.of("text/owl-functional");
+    } else if (OWL_Manchester_Syntax.sameAs(serialization)) {
+      return Optional.of("text/owl-manchester");
+    } else if (OWL_XML_Serialization.sameAs(serialization)) {
+      return Optional.of("application/owl+xml");
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Infers the serialization of an ontology document from its head
+   *
+   * @param bytes the ontology document
+   * @return the serialization, if it can be established from the head of the document
+   */
+  public static Optional<KnowledgeRepresentationLanguageSerialization> sniff(byte[] bytes) {
+    SniffedContent content = SniffedContent.sniff(bytes);
+    switch (content.getKind()) {
+      case TURTLE:
+        return Optional.of(Turtle);
+      case XML:
+        String root = content.getRootName().orElse("");
+        String ns = content.getRootNamespace().orElse("");
+        if ("RDF".equals(root) && RDF.uri.equals(ns)) {
+          return Optional.of(RDF_XML_Syntax);
+        } else if ("Ontology".equals(root) && OWL2.NS.equals(ns)) {
+          return Optional.of(OWL_XML_Serialization);
+        }
+        return Optional.empty();
+      case UNKNOWN:
+        return sniffKeywordSyntax(bytes);
+      default:
+        return Optional.empty();
+    }
+  }
+
+  /**
+   * Distinguishes the Functional and Manchester syntaxes, which both start with
+   * 'Prefix' or 'Ontology' declarations, followed by '(' and ':' respectively
+   */
+  private static Optional<KnowledgeRepresentationLanguageSerialization> sniffKeywordSyntax(
+      byte[] bytes) {
+    if (bytes == null) {
+      return Optional.empty();
+    }
+    String head = new String(bytes, 0, Math.min(bytes.length, SniffedContent.SNIFF_WINDOW),
+        StandardCharsets.UTF_8);
+    if (head.startsWith("\uFEFF")) {
+      head = head.substring(1);
+    }
+    for (String line : head.split("\n")) {
+      String trimmed = line.trim();
+      if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+        continue;
+      }
+      String keyword = trimmed.startsWith("Prefix") ? "Prefix"
+          : trimmed.startsWith("Ontology") ? "Ontology"
+              : null;
+      if (keyword == null) {
+        return Optional.empty();
+      }
+      String rest = trimmed.substring(keyword.length()).trim();
+      if (rest.startsWith("(")) {
+        return Optional.of(OWL_Functional_Syntax);
+      } else if (rest.startsWith(":")) {
+        return Optional.of(OWL_Manchester_Syntax);
+      }
+      return Optional.empty();
+    }
+    return Optional.empty();
+  }
+
+}
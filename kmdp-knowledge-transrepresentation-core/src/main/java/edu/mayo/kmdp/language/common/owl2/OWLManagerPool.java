@@ -0,0 +1,236 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.common.owl2;
+
+import edu.mayo.kmdp.util.Util;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.jena.vocabulary.DCTerms;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyFactory;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLStorerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyManagerImpl;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
+
+/**
+ * Shared OWLAPI infrastructure for the OWL parsers and detectors.
+ * <p>
+ * {@link OWLManager#createOWLOntologyManager()} discovers the parser, storer and ontology
+ * factories every time it is invoked, which makes managers expensive to create. The factories
+ * are stateless, so they are discovered once, and shared by all the managers created with
+ * {@link #newManager()}.
+ * <p>
+ * Managers are also pooled, by loader configuration (imports ignored or silently missing, and
+ * XML catalog, if any): each pool keeps a bounded number of idle, pre-configured managers,
+ * which are borrowed for the duration of a single task (see {@link #apply(Function)}).
+ * The ontologies loaded by a task are removed from the manager before it is returned to the pool,
+ * so they must not be used after the task completes. Ontologies that outlive the operation that
+ * loads them (e.g. the ASTs returned by the parsers) should be loaded with a dedicated manager
+ * instead, since they keep a reference to it.
+ */
+public final class OWLManagerPool {
+
+  private static final Logger logger = LoggerFactory.getLogger(OWLManagerPool.class);
+
+  private static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+  private static final Map<PoolKey, OWLManagerPool> pools = new ConcurrentHashMap<>();
+
+  private final PoolKey key;
+
+  private final BlockingQueue<OWLOntologyManager> managers = new ArrayBlockingQueue<>(MAX_IDLE);
+
+  private OWLManagerPool(PoolKey key) {
+    this.key = key;
+  }
+
+  /**
+   * Returns the (shared) pool for a loader configuration
+   *
+   * @param ignoreImports if true, imports are not resolved, otherwise missing imports are ignored
+   * @param catalog       the URL of an XML catalog used to resolve the ontology IRIs, if any
+   * @return the pool
+   */
+  public static OWLManagerPool of(boolean ignoreImports, String catalog) {
+    return pools.computeIfAbsent(
+        new PoolKey(ignoreImports, Util.isEmpty(catalog) ? null : catalog),
+        OWLManagerPool::new);
+  }
+
+  /**
+   * Creates a new manager, sharing the (cached) parser, storer and ontology factories
+   *
+   * @return a new manager, with the default loader configuration
+   */
+  public static OWLOntologyManager newManager() {
+    OWLOntologyManager manager = new OWLOntologyManagerImpl(
+        OWLManager.getOWLDataFactory(), new NoOpReadWriteLock());
+    manager.setOntologyFactories(Factories.ONTOLOGY_FACTORIES);
+    manager.setOntologyParsers(Factories.PARSERS);
+    manager.setOntologyStorers(Factories.STORERS);
+    return manager;
+  }
+
+  /**
+   * Creates a new manager, sharing the (cached) factories, and configured for this pool.
+   * The manager is not pooled, and can be used to load ontologies that outlive the operation
+   *
+   * @return a new manager
+   */
+  public OWLOntologyManager newConfiguredManager() {
+    OWLOntologyManager manager = newManager();
+    manager.setOntologyLoaderConfiguration(loaderConfiguration(key.ignoreImports));
+    if (key.catalog != null) {
+      manager.setIRIMappers(Collections.singleton(new CatalogBasedIRIMapper(key.catalog)));
+    }
+    return manager;
+  }
+
+  /**
+   * Runs a task with a pooled manager.
+   * The ontologies loaded by the task are removed from the manager when the task completes.
+   *
+   * @param task the task, which must not leak the manager, or the ontologies it loads
+   * @param <T>  the type of the result of the task
+   * @return the result of the task
+   */
+  public <T> Optional<T> apply(Function<OWLOntologyManager, Optional<T>> task) {
+    OWLOntologyManager manager = borrow();
+    try {
+      return task.apply(manager);
+    } finally {
+      release(manager);
+    }
+  }
+
+  /**
+   * @param ignoreImports if true, all imports are ignored, otherwise missing imports are ignored
+   * @return the loader configuration
+   */
+  public static OWLOntologyLoaderConfiguration loaderConfiguration(boolean ignoreImports) {
+    return ignoreImports
+        ? LoaderConfigurations.IGNORE_IMPORTS
+        : LoaderConfigurations.SILENT_MISSING_IMPORTS;
+  }
+
+  private OWLOntologyManager borrow() {
+    OWLOntologyManager manager = managers.poll();
+    return manager != null ? manager : newConfiguredManager();
+  }
+
+  /**
+   * Clears a manager, and returns it to the pool.
+   * Managers that cannot be cleared are discarded, since their state is not guaranteed.
+   */
+  private void release(OWLOntologyManager manager) {
+    try {
+      List<OWLOntology> loaded = manager.ontologies().collect(Collectors.toList());
+      loaded.forEach(manager::removeOntology);
+      managers.offer(manager);
+    } catch (RuntimeException e) {
+      logger.debug(e.getMessage(), e);
+    }
+  }
+
+
+  /**
+   * Lazily discovered factories, shared by all the managers
+   */
+  private static final class Factories {
+
+    private static final Set<OWLOntologyFactory> ONTOLOGY_FACTORIES = new LinkedHashSet<>();
+    private static final Set<OWLParserFactory> PARSERS = new LinkedHashSet<>();
+    private static final Set<OWLStorerFactory> STORERS = new LinkedHashSet<>();
+
+    static {
+      OWLOntologyManager template = OWLManager.createOWLOntologyManager();
+      template.getOntologyFactories().forEach(ONTOLOGY_FACTORIES::add);
+      template.getOntologyParsers().forEach(PARSERS::add);
+      template.getOntologyStorers().forEach(STORERS::add);
+    }
+
+    private Factories() {
+    }
+  }
+
+  private static final class LoaderConfigurations {
+
+    private static final OWLOntologyLoaderConfiguration IGNORE_IMPORTS =
+        new OWLOntologyLoaderConfiguration() {
+          @Override
+          public boolean isIgnoredImport(IRI iri) {
+            return true;
+          }
+
+          @Override
+          public MissingImportHandlingStrategy getMissingImportHandlingStrategy() {
+            return MissingImportHandlingStrategy.SILENT;
+          }
+        };
+
+    private static final OWLOntologyLoaderConfiguration SILENT_MISSING_IMPORTS =
+        new OWLOntologyLoaderConfiguration()
+            .setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT)
+            .addIgnoredImport(IRI.create(DCTerms.getURI()));
+
+    private LoaderConfigurations() {
+    }
+  }
+
+  private static final class PoolKey {
+
+    private final boolean ignoreImports;
+    private final String catalog;
+
+    private PoolKey(boolean ignoreImports, String catalog) {
+      this.ignoreImports = ignoreImports;
+      this.catalog = catalog;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PoolKey other = (PoolKey) o;
+      return ignoreImports == other.ignoreImports && Objects.equals(catalog, other.catalog);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(ignoreImports, catalog);
+    }
+  }
+}
@@ -4,8 +4,11 @@ import static org.omg.spec.api4kp._20200801.contrastors.SyntacticRepresentationC
 import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.asEnum;
 
 import edu.mayo.kmdp.language.DetectApiOperator;
+import edu.mayo.kmdp.util.PropertiesUtil;
+import edu.mayo.kmdp.util.Util;
 import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.UUID;
 import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.api.transrepresentation.v4.server.DetectApiInternal._applyDetect;
@@ -19,6 +22,8 @@ public abstract class AbstractLanguageDetector
 
   protected ResourceIdentifier operatorId;
 
+  private DetectionCache cache;
+
   @Override
   public Answer<KnowledgeCarrier> applyNamedDetect(UUID uuid, KnowledgeCarrier knowledgeCarrier, String config) {
     return uuid.equals(getOperatorId().getUuid())
@@ -30,7 +35,7 @@ public abstract class AbstractLanguageDetector
   public Answer<KnowledgeCarrier> applyDetect(KnowledgeCarrier sourceArtifact, String config) {
     try {
       return Answer.of(
-          detect(sourceArtifact)
+          detect(sourceArtifact, config)
               .map(rep -> applyDetectedRepresentation(rep, sourceArtifact)));
     } catch (Exception e) {
       return Answer.failed(e);
@@ -42,16 +47,54 @@ public abstract class AbstractLanguageDetector
     return getSupportedRepresentations();
   }
 
+  /**
+   * Enables caching of detection results, keyed by the content of the artifacts
+   *
+   * @param cache the cache to use (may be shared across detectors)
+   * @return this detector
+   */
+  public AbstractLanguageDetector withCache(DetectionCache cache) {
+    this.cache = cache;
+    return this;
+  }
+
   protected Optional<SyntacticRepresentation> detect(KnowledgeCarrier sourceArtifact) {
+    return detect(sourceArtifact, null);
+  }
+
+  /**
+   * Detects the representation of an artifact, using the client-provided configuration
+   *
+   * @param sourceArtifact the artifact
+   * @param config         the (serialized) detection configuration, if any
+   * @return the detected representation
+   */
+  protected Optional<SyntacticRepresentation> detect(KnowledgeCarrier sourceArtifact,
+      String config) {
+    Properties props = Util.isEmpty(config)
+        ? new Properties()
+        : PropertiesUtil.parseProperties(config);
+    if (cache == null) {
+      return detectByLevel(sourceArtifact, props);
+    }
+    String qualifier = (getOperatorId() != null
+        ? getOperatorId().getUuid().toString()
+        : getClass().getName())
+        + (Util.isEmpty(config) ? "" : "|" + config);
+    return cache.detect(sourceArtifact, qualifier, () -> detectByLevel(sourceArtifact, props));
+  }
+
+  private Optional<SyntacticRepresentation> detectByLevel(KnowledgeCarrier sourceArtifact,
+      Properties config) {
     switch (asEnum(sourceArtifact.getLevel())) {
       case Encoded_Knowledge_Expression:
-        return sourceArtifact.asBinary().flatMap(this::detectBinary);
+        return sourceArtifact.asBinary().flatMap(bytes -> detectBinary(bytes, config));
       case Serialized_Knowledge_Expression:
-        return sourceArtifact.asString().flatMap(this::detectString);
+        return sourceArtifact.asString().flatMap(str -> detectString(str, config));
       case Concrete_Knowledge_Expression:
-        return detectTree(sourceArtifact.getExpression());
+        return detectTree(sourceArtifact.getExpression(), config);
       case Abstract_Knowledge_Expression:
-        return detectAST(sourceArtifact.getExpression());
+        return detectAST(sourceArtifact.getExpression(), config);
       default:
         return Optional.empty();
     }
@@ -94,6 +137,27 @@ public abstract class AbstractLanguageDetector
 
   protected abstract Optional<SyntacticRepresentation> detectAST(Object ast);
 
+  /*
+   * Configurable variants of the detection functions.
+   * Detectors that do not support any configuration can ignore them.
+   */
+
+  protected Optional<SyntacticRepresentation> detectBinary(byte[] bytes, Properties config) {
+    return detectBinary(bytes);
+  }
+
+  protected Optional<SyntacticRepresentation> detectString(String string, Properties config) {
+    return detectString(string);
+  }
+
+  protected Optional<SyntacticRepresentation> detectTree(Object parseTree, Properties config) {
+    return detectTree(parseTree);
+  }
+
+  protected Optional<SyntacticRepresentation> detectAST(Object ast, Properties config) {
+    return detectAST(ast);
+  }
+
 
   public ResourceIdentifier getOperatorId() {
     return operatorId;
@@ -0,0 +1,190 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.detectors;
+
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.asEnum;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import edu.mayo.kmdp.language.detectors.DetectionCacheConfig.DetectionCacheParams;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries;
+
+/**
+ * Opt-in, size bounded cache of language detection results.
+ * <p>
+ * Serialized and encoded artifacts are keyed by a (128 bit) hash of their content, their level,
+ * and a qualifier provided by the client (e.g. the declared representation, or the detector).
+ * Parsed artifacts are not cached, since they are not necessarily immutable.
+ * Both positive and negative results are retained; the least recently used entries are evicted
+ * first once the configured maximum size is reached.
+ * Hit, miss and eviction counts are available via {@link #getStats()}.
+ */
+public class DetectionCache {
+
+  private static final HashFunction HASH = Hashing.murmur3_128();
+
+  private final Cache<Key, Optional<SyntacticRepresentation>> cache;
+
+  public DetectionCache() {
+    this(new DetectionCacheConfig());
+  }
+
+  public DetectionCache(DetectionCacheConfig cfg) {
+    int maxSize = cfg.getTyped(DetectionCacheParams.MAX_SIZE);
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the cached result of a detection, or performs (and caches) the detection
+   *
+   * @param carrier   the artifact to detect
+   * @param qualifier additional key component, to discriminate detections of the same content
+   * @param detection the detection to perform in case of a miss
+   * @return the (possibly cached) detected representation
+   */
+  public Optional<SyntacticRepresentation> detect(
+      KnowledgeCarrier carrier,
+      String qualifier,
+      Supplier<Optional<SyntacticRepresentation>> detection) {
+    Optional<Key> key = keyOf(carrier, qualifier);
+    if (key.isEmpty()) {
+      return detection.get();
+    }
+    Optional<SyntacticRepresentation> cached = cache.getIfPresent(key.get());
+    if (cached != null) {
+      return cached.map(DetectionCache::copy);
+    }
+    Optional<SyntacticRepresentation> detected = detection.get();
+    cache.put(key.get(), detected.map(DetectionCache::copy));
+    return detected;
+  }
+
+  /**
+   * Looks up a cached, positive detection result
+   *
+   * @param carrier   the artifact to detect
+   * @param qualifier additional key component, to discriminate detections of the same content
+   * @return the cached representation, if any
+   */
+  public Optional<SyntacticRepresentation> getIfPresent(
+      KnowledgeCarrier carrier,
+      String qualifier) {
+    return keyOf(carrier, qualifier)
+        .map(cache::getIfPresent)
+        .flatMap(cached -> cached.map(DetectionCache::copy));
+  }
+
+  /**
+   * Caches a positive detection result.
+   * Results for artifacts that cannot be keyed (e.g. parsed artifacts) are not cached
+   *
+   * @param carrier   the detected artifact
+   * @param qualifier additional key component, to discriminate detections of the same content
+   * @param detected  the detected representation
+   */
+  public void put(
+      KnowledgeCarrier carrier,
+      String qualifier,
+      SyntacticRepresentation detected) {
+    if (detected != null) {
+      keyOf(carrier, qualifier)
+          .ifPresent(key -> cache.put(key, Optional.of(copy(detected))));
+    }
+  }
+
+  /**
+   * @return hit/miss/eviction counts
+   */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private Optional<Key> keyOf(KnowledgeCarrier carrier, String qualifier) {
+    if (carrier == null || carrier.getLevel() == null) {
+      return Optional.empty();
+    }
+    ParsingLevelSeries level = asEnum(carrier.getLevel());
+    switch (level) {
+      case Encoded_Knowledge_Expression:
+        return carrier.asBinary()
+            .map(bytes -> new Key(HASH.hashBytes(bytes), level, qualifier));
+      case Serialized_Knowledge_Expression:
+        return carrier.asString()
+            .map(str -> new Key(HASH.hashString(str, StandardCharsets.UTF_8), level, qualifier));
+      default:
+        return Optional.empty();
+    }
+  }
+
+  /**
+   * Cached representations are copied in and out, since carriers do not treat them as immutable
+   */
+  private static SyntacticRepresentation copy(SyntacticRepresentation rep) {
+    return (SyntacticRepresentation) rep.clone();
+  }
+
+  private static final class Key {
+
+    private final HashCode contentHash;
+    private final ParsingLevelSeries level;
+    private final String qualifier;
+
+    Key(HashCode contentHash, ParsingLevelSeries level, String qualifier) {
+      this.contentHash = contentHash;
+      this.level = level;
+      this.qualifier = qualifier;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key other = (Key) o;
+      return contentHash.equals(other.contentHash)
+          && level == other.level
+          && Objects.equals(qualifier, other.qualifier);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(contentHash, level, qualifier);
+    }
+  }
+
+}
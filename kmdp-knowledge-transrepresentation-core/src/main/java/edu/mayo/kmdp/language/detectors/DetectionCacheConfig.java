@@ -0,0 +1,62 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.detectors;
+
+import edu.mayo.kmdp.ConfigProperties;
+import edu.mayo.kmdp.Opt;
+import edu.mayo.kmdp.Option;
+import edu.mayo.kmdp.language.detectors.DetectionCacheConfig.DetectionCacheParams;
+import java.util.Properties;
+
+@SuppressWarnings("unchecked")
+public class DetectionCacheConfig extends
+    ConfigProperties<DetectionCacheConfig, DetectionCacheParams> {
+
+  private static final Properties DEFAULTS = defaulted(DetectionCacheParams.class);
+
+  public DetectionCacheConfig() {
+    super(DEFAULTS);
+  }
+
+  public DetectionCacheConfig(Properties defaults) {
+    super(defaults);
+  }
+
+  @Override
+  public DetectionCacheParams[] properties() {
+    return DetectionCacheParams.values();
+  }
+
+  public enum DetectionCacheParams implements Option<DetectionCacheParams> {
+
+    MAX_SIZE(Opt.of(
+        "maxSize",
+        "1000",
+        "Maximum number of detection results retained, least recently used ones are evicted first",
+        Integer.class,
+        false));
+
+    private Opt<DetectionCacheParams> opt;
+
+    DetectionCacheParams(Opt<DetectionCacheParams> opt) {
+      this.opt = opt;
+    }
+
+    @Override
+    public Opt<DetectionCacheParams> getOption() {
+      return opt;
+    }
+
+  }
+}
@@ -19,6 +19,8 @@ import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.JSON;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Kind;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
 import edu.mayo.kmdp.util.JSonUtil;
 import java.nio.charset.Charset;
 import java.util.Arrays;
@@ -39,6 +41,11 @@ public abstract class JsonBasedLanguageDetector<T>
         rep(getSupportedLanguage(), JSON));
   }
 
+  @Override
+  public Match match(SniffedContent content) {
+    return content.matchKind(Kind.JSON);
+  }
+
   @Override
   protected Optional<SyntacticRepresentation> detectBinary(byte[] bytes) {
     if (JSonUtil.tryParseJson(new String(bytes), root).isPresent()) {
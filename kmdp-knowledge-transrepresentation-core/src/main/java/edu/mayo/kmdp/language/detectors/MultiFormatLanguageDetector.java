@@ -15,6 +15,7 @@
  */
 package edu.mayo.kmdp.language.detectors;
 
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +46,13 @@ public abstract class MultiFormatLanguageDetector<T>
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Match match(SniffedContent content) {
+    Match xmlMatch = xmlDetector.match(content);
+    Match jsonMatch = jsonDetector.match(content);
+    return xmlMatch.compareTo(jsonMatch) <= 0 ? xmlMatch : jsonMatch;
+  }
+
   @Override
   protected Optional<SyntacticRepresentation> detectBinary(byte[] bytes) {
     return xmlDetector.detectBinary(bytes)
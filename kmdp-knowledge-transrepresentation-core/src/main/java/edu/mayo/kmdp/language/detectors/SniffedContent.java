@@ -0,0 +1,388 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.detectors;
+
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.asEnum;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+
+/**
+ * Lightweight summary of the head of a serialized artifact, used to pre-select the detectors that
+ * are worth trying before any of them attempts a full parse.
+ * <p>
+ * Only the first {@link #SNIFF_WINDOW} characters are inspected. Depending on the syntax, the
+ * sniffer extracts the XML root element (local name and namespace), the top-level JSON keys, the
+ * Turtle/SPARQL-style prefix declarations, or the (HTML) doctype.
+ * Anything that cannot be established within the window is left unknown: detectors should only
+ * rule themselves out on positive evidence.
+ */
+public final class SniffedContent {
+
+  /**
+   * Number of characters (or bytes) inspected
+   */
+  public static final int SNIFF_WINDOW = 4096;
+
+  private static final String XHTML_NS = "http://www.w3.org/1999/xhtml";
+
+  /**
+   * The coarse syntax family of the artifact
+   */
+  public enum Kind {
+    XML, JSON, TURTLE, HTML, UNKNOWN
+  }
+
+  /**
+   * The likelihood that a detector will recognize the sniffed content
+   */
+  public enum Match {
+    LIKELY, POSSIBLE, UNLIKELY
+  }
+
+  private static final SniffedContent UNKNOWN_CONTENT = new SniffedContent(Kind.UNKNOWN);
+
+  private final Kind kind;
+  private String rootName;
+  private String rootNamespace;
+  private String doctype;
+  private final Set<String> jsonKeys = new LinkedHashSet<>();
+  private final Map<String, String> prefixes = new LinkedHashMap<>();
+
+  private SniffedContent(Kind kind) {
+    this.kind = kind;
+  }
+
+  /**
+   * Sniffs the content of a carrier, if in a serialized or encoded form
+   *
+   * @param carrier the carrier to be inspected
+   * @return the sniffed content, or empty if the carrier does not hold a (byte) string
+   */
+  public static Optional<SniffedContent> sniff(KnowledgeCarrier carrier) {
+    if (carrier == null || carrier.getLevel() == null) {
+      return Optional.empty();
+    }
+    switch (asEnum(carrier.getLevel())) {
+      case Encoded_Knowledge_Expression:
+        return carrier.asBinary().map(SniffedContent::sniff);
+      case Serialized_Knowledge_Expression:
+        return carrier.asString().map(SniffedContent::sniff);
+      default:
+        return Optional.empty();
+    }
+  }
+
+  public static SniffedContent sniff(byte[] bytes) {
+    if (bytes == null || bytes.length == 0) {
+      return UNKNOWN_CONTENT;
+    }
+    int len = Math.min(bytes.length, SNIFF_WINDOW);
+    if (len >= 2 && (bytes[0] == (byte) 0xFE && bytes[1] == (byte) 0xFF)) {
+      return sniff(new String(bytes, 2, len - 2, StandardCharsets.UTF_16BE));
+    }
+    if (len >= 2 && (bytes[0] == (byte) 0xFF && bytes[1] == (byte) 0xFE)) {
+      return sniff(new String(bytes, 2, len - 2, StandardCharsets.UTF_16LE));
+    }
+    // a truncated multi-byte sequence at the end of the window is harmless here
+    return sniff(new String(bytes, 0, len, StandardCharsets.UTF_8));
+  }
+
+  public static SniffedContent sniff(String str) {
+    if (str == null) {
+      return UNKNOWN_CONTENT;
+    }
+    String head = str.length() > SNIFF_WINDOW ? str.substring(0, SNIFF_WINDOW) : str;
+    int start = skipBlanks(head, head.startsWith("\uFEFF") ? 1 : 0);
+    if (start >= head.length()) {
+      return UNKNOWN_CONTENT;
+    }
+    char first = head.charAt(start);
+    if (first == '<') {
+      return sniffMarkup(head, start);
+    } else if (first == '{' || first == '[') {
+      return sniffJson(head, start);
+    } else {
+      return sniffTurtle(head, start);
+    }
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return the local name of the root element, if XML (or HTML)
+   */
+  public Optional<String> getRootName() {
+    return Optional.ofNullable(rootName);
+  }
+
+  /**
+   * @return the namespace of the root element, if XML and declared within the window
+   */
+  public Optional<String> getRootNamespace() {
+    return Optional.ofNullable(rootNamespace);
+  }
+
+  public Optional<String> getDoctype() {
+    return Optional.ofNullable(doctype);
+  }
+
+  /**
+   * @return the keys of the top level JSON object, as far as they could be read
+   */
+  public Set<String> getJsonKeys() {
+    return Collections.unmodifiableSet(jsonKeys);
+  }
+
+  /**
+   * @return the prefix declarations (XML namespace declarations on the root element, or
+   * Turtle @prefix/PREFIX directives), keyed by prefix
+   */
+  public Map<String, String> getPrefixes() {
+    return Collections.unmodifiableMap(prefixes);
+  }
+
+  public boolean isKnown() {
+    return kind != Kind.UNKNOWN;
+  }
+
+  /**
+   * Matches the root element of XML content against an expected namespace
+   *
+   * @param namespace the expected namespace
+   * @return LIKELY if the namespaces match, UNLIKELY if the content is not XML, or the root
+   * namespace is known and different, POSSIBLE otherwise
+   */
+  public Match matchXmlNamespace(String namespace) {
+    if (!isKnown()) {
+      return Match.POSSIBLE;
+    }
+    if (kind != Kind.XML) {
+      return Match.UNLIKELY;
+    }
+    if (namespace == null || rootNamespace == null) {
+      return Match.POSSIBLE;
+    }
+    return namespace.equals(rootNamespace) ? Match.LIKELY : Match.UNLIKELY;
+  }
+
+  /**
+   * Matches the content against a given syntax family
+   *
+   * @param expected the expected kind
+   * @return LIKELY if the kinds match, UNLIKELY if the content is known to be of a different
+   * kind, POSSIBLE otherwise
+   */
+  public Match matchKind(Kind expected) {
+    if (!isKnown()) {
+      return Match.POSSIBLE;
+    }
+    return kind == expected ? Match.LIKELY : Match.UNLIKELY;
+  }
+
+
+  private static SniffedContent sniffMarkup(String head, int start) {
+    int pos = start;
+    String doctype = null;
+    while (pos < head.length()) {
+      pos = skipBlanks(head, pos);
+      if (head.startsWith("<?", pos)) {
+        pos = skipPast(head, pos, "?>");
+      } else if (head.startsWith("<!--", pos)) {
+        pos = skipPast(head, pos, "-->");
+      } else if (head.regionMatches(true, pos, "<!DOCTYPE", 0, 9)) {
+        int nameStart = skipBlanks(head, pos + 9);
+        int nameEnd = scanName(head, nameStart);
+        doctype = head.substring(nameStart, nameEnd);
+        int subset = head.indexOf('[', nameEnd);
+        pos = subset >= 0 && subset < head.indexOf('>', nameEnd)
+            ? skipPast(head, subset, "]>")
+            : skipPast(head, nameEnd, ">");
+      } else if (head.startsWith("<!", pos)) {
+        // CDATA or other declarations are not expected before the root element
+        return UNKNOWN_CONTENT;
+      } else if (head.startsWith("<", pos)) {
+        return sniffRootElement(head, pos + 1, doctype);
+      } else {
+        break;
+      }
+    }
+    if (doctype != null) {
+      SniffedContent sc = new SniffedContent(
+          "html".equalsIgnoreCase(doctype) ? Kind.HTML : Kind.XML);
+      sc.doctype = doctype;
+      return sc;
+    }
+    return UNKNOWN_CONTENT;
+  }
+
+  private static SniffedContent sniffRootElement(String head, int pos, String doctype) {
+    int end = scanName(head, pos);
+    if (end == pos) {
+      return UNKNOWN_CONTENT;
+    }
+    String qName = head.substring(pos, end);
+    int colon = qName.indexOf(':');
+    String prefix = colon > 0 ? qName.substring(0, colon) : "";
+    String localName = colon > 0 ? qName.substring(colon + 1) : qName;
+
+    Map<String, String> nsDecls = new LinkedHashMap<>();
+    int tagEnd = head.indexOf('>', end);
+    scanNamespaceDeclarations(head, end, tagEnd >= 0 ? tagEnd : head.length(), nsDecls);
+    String ns = nsDecls.get(prefix);
+
+    boolean isHtml = "html".equalsIgnoreCase(doctype)
+        || ("html".equalsIgnoreCase(localName) && (ns == null || XHTML_NS.equals(ns)));
+    SniffedContent sc = new SniffedContent(isHtml ? Kind.HTML : Kind.XML);
+    sc.doctype = doctype;
+    sc.rootName = localName;
+    // if the start tag is truncated, a declaration may be missing
+    sc.rootNamespace = ns != null || tagEnd < 0 ? ns : "";
+    sc.prefixes.putAll(nsDecls);
+    return sc;
+  }
+
+  private static void scanNamespaceDeclarations(String head, int from, int to,
+      Map<String, String> nsDecls) {
+    int pos = from;
+    while (pos < to) {
+      int attr = head.indexOf("xmlns", pos);
+      if (attr < 0 || attr >= to) {
+        return;
+      }
+      int eq = head.indexOf('=', attr);
+      if (eq < 0 || eq >= to) {
+        return;
+      }
+      String name = head.substring(attr, eq).trim();
+      int q = skipBlanks(head, eq + 1);
+      if (q >= to || (head.charAt(q) != '"' && head.charAt(q) != '\'')) {
+        return;
+      }
+      int close = head.indexOf(head.charAt(q), q + 1);
+      if (close < 0 || close > to) {
+        return;
+      }
+      if ("xmlns".equals(name)) {
+        nsDecls.put("", head.substring(q + 1, close));
+      } else if (name.startsWith("xmlns:")) {
+        nsDecls.put(name.substring(6), head.substring(q + 1, close));
+      }
+      pos = close + 1;
+    }
+  }
+
+  private static SniffedContent sniffJson(String head, int start) {
+    SniffedContent sc = new SniffedContent(Kind.JSON);
+    if (head.charAt(start) != '{') {
+      return sc;
+    }
+    int depth = 0;
+    String lastString = null;
+    int pos = start;
+    while (pos < head.length()) {
+      char c = head.charAt(pos);
+      if (c == '"') {
+        int close = pos + 1;
+        while (close < head.length() && head.charAt(close) != '"') {
+          close += head.charAt(close) == '\\' ? 2 : 1;
+        }
+        if (close >= head.length()) {
+          break;
+        }
+        lastString = head.substring(pos + 1, close);
+        pos = close + 1;
+        continue;
+      }
+      if (c == '{' || c == '[') {
+        depth++;
+      } else if (c == '}' || c == ']') {
+        depth--;
+      } else if (c == ':' && depth == 1 && lastString != null) {
+        sc.jsonKeys.add(lastString);
+      }
+      if (!Character.isWhitespace(c)) {
+        lastString = null;
+      }
+      pos++;
+    }
+    return sc;
+  }
+
+  private static SniffedContent sniffTurtle(String head, int start) {
+    SniffedContent sc = null;
+    int pos = start;
+    while (pos < head.length()) {
+      pos = skipBlanks(head, pos);
+      int eol = head.indexOf('\n', pos);
+      String line = head.substring(pos, eol >= 0 ? eol : head.length()).trim();
+      boolean isComment = line.isEmpty() || line.startsWith("#");
+      if (line.startsWith("@prefix") || line.regionMatches(true, 0, "PREFIX ", 0, 7)) {
+        sc = sc != null ? sc : new SniffedContent(Kind.TURTLE);
+        addTurtlePrefix(sc, line);
+      } else if (line.startsWith("@base") || line.regionMatches(true, 0, "BASE ", 0, 5)) {
+        sc = sc != null ? sc : new SniffedContent(Kind.TURTLE);
+      } else if (!isComment) {
+        break;
+      }
+      if (eol < 0) {
+        break;
+      }
+      pos = eol + 1;
+    }
+    return sc != null ? sc : UNKNOWN_CONTENT;
+  }
+
+  private static void addTurtlePrefix(SniffedContent sc, String line) {
+    int colon = line.indexOf(':');
+    int open = line.indexOf('<');
+    int close = line.indexOf('>');
+    int space = line.indexOf(' ');
+    if (colon > space && space > 0 && open > colon && close > open) {
+      sc.prefixes.put(line.substring(space, colon).trim(), line.substring(open + 1, close));
+    }
+  }
+
+  private static int skipBlanks(String s, int pos) {
+    while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static int skipPast(String s, int pos, String token) {
+    int idx = s.indexOf(token, pos);
+    return idx >= 0 ? idx + token.length() : s.length();
+  }
+
+  private static int scanName(String s, int pos) {
+    while (pos < s.length()) {
+      char c = s.charAt(pos);
+      if (Character.isWhitespace(c) || c == '>' || c == '/' || c == '[') {
+        break;
+      }
+      pos++;
+    }
+    return pos;
+  }
+
+}
@@ -16,22 +16,62 @@ package edu.mayo.kmdp.language.detectors;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
 
-import edu.mayo.kmdp.util.JaxbUtil;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
+import edu.mayo.kmdp.language.common.jaxb.JaxbPool;
 import edu.mayo.kmdp.util.Util;
+import java.beans.Introspector;
 import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchema;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 
+/**
+ * Base class for the detection of XML-based languages bound to JAXB classes.
+ * <p>
+ * By default, detection is streaming: only the prolog and the root start element of a document
+ * are read, and the root element's qualified name is matched against the names bound to the
+ * {@link #root} class, either via {@link XmlRootElement} or via {@link XmlElementDecl} factory
+ * methods in the root's ObjectFactory.
+ * A full unmarshal of the document is used instead when {@link #withFullUnmarshal(boolean)} is
+ * set, or when no root element names can be derived from the bindings.
+ */
 public abstract class XMLBasedLanguageDetector<T>
     extends AbstractLanguageDetector {
 
+  private static final Logger logger = LoggerFactory.getLogger(XMLBasedLanguageDetector.class);
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = newInputFactory();
+
   protected Class<T> root;
 
+  protected boolean fullUnmarshal = false;
+
+  private Set<QName> rootElementNames;
+
   @Override
   public List<SyntacticRepresentation> getSupportedRepresentations() {
     return Arrays.asList(
@@ -39,10 +79,58 @@ public abstract class XMLBasedLanguageDetector<T>
         rep(getSupportedLanguage(), XML_1_1));
   }
 
+  /**
+   * @param fullUnmarshal if true, detection requires the whole document to be unmarshalled
+   * @return this detector
+   */
+  public XMLBasedLanguageDetector<T> withFullUnmarshal(boolean fullUnmarshal) {
+    this.fullUnmarshal = fullUnmarshal;
+    return this;
+  }
+
+  @Override
+  public Match match(SniffedContent content) {
+    return content.matchXmlNamespace(getRootNamespace());
+  }
+
+  /**
+   * @return the namespace of the root element, as declared by the JAXB bindings, if any
+   */
+  protected String getRootNamespace() {
+    Set<String> namespaces = new LinkedHashSet<>();
+    getRootElementNames().forEach(qn -> namespaces.add(qn.getNamespaceURI()));
+    if (namespaces.size() == 1) {
+      return namespaces.iterator().next();
+    }
+    if (root == null || !namespaces.isEmpty()) {
+      return null;
+    }
+    XmlSchema schema = root.getPackage() != null
+        ? root.getPackage().getAnnotation(XmlSchema.class)
+        : null;
+    return schema != null && !Util.isEmpty(schema.namespace())
+        ? schema.namespace()
+        : null;
+  }
+
+  /**
+   * @return the qualified names of the elements bound to the root class
+   */
+  protected Set<QName> getRootElementNames() {
+    if (rootElementNames == null) {
+      rootElementNames = root != null
+          ? Collections.unmodifiableSet(lookupRootElementNames(root))
+          : Collections.emptySet();
+    }
+    return rootElementNames;
+  }
+
   @Override
   protected Optional<SyntacticRepresentation> detectBinary(byte[] bytes) {
     if (Arrays.equals("<".getBytes(), Arrays.copyOfRange(bytes, 0, 1))
-        && JaxbUtil.unmarshall(root, root, new ByteArrayInputStream(bytes)).isPresent()) {
+        && (isStreaming()
+        ? isRootElement(readRootElement(bytes))
+        : unmarshall(pool -> pool.unmarshall(root, bytes)))) {
       return Optional.of(rep(getSupportedLanguage(), XML_1_1, Charset.defaultCharset()));
     } else {
       return Optional.empty();
@@ -52,7 +140,9 @@ public abstract class XMLBasedLanguageDetector<T>
   @Override
   protected Optional<SyntacticRepresentation> detectString(String str) {
     if (!Util.isEmpty(str) && str.charAt(0) == '<'
-        && JaxbUtil.unmarshall(root, root, str).isPresent()) {
+        && (isStreaming()
+        ? isRootElement(readRootElement(str))
+        : unmarshall(pool -> pool.unmarshall(root, str)))) {
       return Optional.of(rep(getSupportedLanguage(), XML_1_1, Charset.defaultCharset()));
     } else {
       return Optional.empty();
@@ -61,8 +151,16 @@ public abstract class XMLBasedLanguageDetector<T>
 
   @Override
   protected Optional<SyntacticRepresentation> detectAST(Object dox) {
-    if (dox instanceof Document
-        && JaxbUtil.unmarshall(root, root, (Document) dox).isPresent()) {
+    if (!(dox instanceof Document)) {
+      return Optional.empty();
+    }
+    Element docElement = ((Document) dox).getDocumentElement();
+    boolean namespaceAware = docElement != null && docElement.getLocalName() != null;
+    if ((isStreaming() && namespaceAware)
+        ? isRootElement(Optional.of(new QName(
+            Util.isEmpty(docElement.getNamespaceURI()) ? "" : docElement.getNamespaceURI(),
+            docElement.getLocalName())))
+        : unmarshall(pool -> pool.unmarshall(root, (Document) dox))) {
       return Optional.of(rep(getSupportedLanguage(), XML_1_1));
     } else {
       return Optional.empty();
@@ -78,4 +176,105 @@ public abstract class XMLBasedLanguageDetector<T>
     }
   }
 
-}
\ No newline at end of file
+  private boolean unmarshall(Function<JaxbPool, Optional<T>> unmarshaller) {
+    return JaxbPool.of(Collections.singletonList(root))
+        .flatMap(unmarshaller)
+        .isPresent();
+  }
+
+  private boolean isStreaming() {
+    return !fullUnmarshal && !getRootElementNames().isEmpty();
+  }
+
+  private boolean isRootElement(Optional<QName> rootElement) {
+    return rootElement.map(getRootElementNames()::contains).orElse(false);
+  }
+
+  private Optional<QName> readRootElement(byte[] bytes) {
+    try {
+      return readRootElement(
+          XML_INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(bytes)));
+    } catch (XMLStreamException e) {
+      logger.trace(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  private Optional<QName> readRootElement(String str) {
+    try {
+      return readRootElement(XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(str)));
+    } catch (XMLStreamException e) {
+      logger.trace(e.getMessage(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Advances a reader up to the first start element, then stops
+   */
+  private Optional<QName> readRootElement(XMLStreamReader reader) throws XMLStreamException {
+    try {
+      while (reader.hasNext()) {
+        if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+          String ns = reader.getNamespaceURI();
+          return Optional.of(new QName(ns != null ? ns : "", reader.getLocalName()));
+        }
+      }
+      return Optional.empty();
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static Set<QName> lookupRootElementNames(Class<?> root) {
+    Set<QName> names = new LinkedHashSet<>();
+    String defaultNamespace = Optional.ofNullable(root.getPackage())
+        .map(p -> p.getAnnotation(XmlSchema.class))
+        .map(XmlSchema::namespace)
+        .orElse("");
+
+    XmlRootElement rootElement = root.getAnnotation(XmlRootElement.class);
+    if (rootElement != null) {
+      names.add(new QName(
+          "##default".equals(rootElement.namespace()) ? defaultNamespace : rootElement.namespace(),
+          "##default".equals(rootElement.name())
+              ? Introspector.decapitalize(root.getSimpleName())
+              : rootElement.name()));
+    }
+
+    try {
+      Class<?> factory = Class.forName(
+          root.getPackage().getName() + ".ObjectFactory", false, root.getClassLoader());
+      for (Method m : factory.getMethods()) {
+        XmlElementDecl decl = m.getAnnotation(XmlElementDecl.class);
+        if (decl != null && decl.scope() == XmlElementDecl.GLOBAL.class && isFactoryOf(m, root)) {
+          names.add(new QName(
+              "##default".equals(decl.namespace()) ? defaultNamespace : decl.namespace(),
+              decl.name()));
+        }
+      }
+    } catch (ClassNotFoundException | RuntimeException e) {
+      logger.trace(e.getMessage(), e);
+    }
+    return names;
+  }
+
+  private static boolean isFactoryOf(Method m, Class<?> root) {
+    Type type = m.getGenericReturnType();
+    if (!(type instanceof ParameterizedType)
+        || ((ParameterizedType) type).getRawType() != JAXBElement.class) {
+      return false;
+    }
+    Type arg = ((ParameterizedType) type).getActualTypeArguments()[0];
+    return arg == root;
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    return factory;
+  }
+
+}
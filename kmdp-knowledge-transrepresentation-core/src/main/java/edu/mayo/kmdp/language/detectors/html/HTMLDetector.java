@@ -22,6 +22,8 @@ import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeReprese
 
 import edu.mayo.kmdp.language.DetectApiOperator;
 import edu.mayo.kmdp.language.detectors.AbstractLanguageDetector;
+import edu.mayo.kmdp.language.detectors.SniffedContent;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -72,6 +74,25 @@ public class HTMLDetector
         rep(HTML,TXT));
   }
 
+  @Override
+  public Match match(SniffedContent content) {
+    switch (content.getKind()) {
+      case HTML:
+        return Match.LIKELY;
+      case JSON:
+      case TURTLE:
+        return Match.UNLIKELY;
+      case XML:
+        // fragments like <p>..</p> are valid HTML, but namespaced (non XHTML) documents are not
+        return content.getRootNamespace()
+            .filter(ns -> !ns.isEmpty())
+            .map(ns -> Match.UNLIKELY)
+            .orElse(Match.POSSIBLE);
+      default:
+        return Match.POSSIBLE;
+    }
+  }
+
   @Override
   protected Optional<SyntacticRepresentation> detectBinary(byte[] bytes) {
     return detectString(new String(bytes));
@@ -20,11 +20,6 @@ import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.Knowledg
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
-import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_DL;
-import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_EL;
-import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_Full;
-import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_QL;
-import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_RL;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Functional_Syntax;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Manchester_Syntax;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_XML_Serialization;
@@ -33,22 +28,26 @@ import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRe
 import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.asEnum;
 
 import edu.mayo.kmdp.language.DetectApiOperator;
-import edu.mayo.kmdp.language.common.owl2.CatalogBasedIRIMapper;
+import edu.mayo.kmdp.language.common.owl2.OWLDocumentSources;
+import edu.mayo.kmdp.language.common.owl2.OWLManagerPool;
 import edu.mayo.kmdp.language.detectors.AbstractLanguageDetector;
+import edu.mayo.kmdp.language.detectors.SniffedContent;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
 import edu.mayo.kmdp.language.detectors.owl2.OWLDetectorConfig.DetectorParams;
-import edu.mayo.kmdp.util.Util;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import javax.inject.Named;
+import org.apache.jena.vocabulary.OWL2;
+import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.SKOS;
 import org.omg.spec.api4kp._20200801.AbstractCarrier.Encodings;
 import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
@@ -62,22 +61,15 @@ import org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationL
 import org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerialization;
 import org.omg.spec.api4kp._20200801.taxonomy.lexicon.Lexicon;
 import org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries;
-import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
 import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormat;
 import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
 import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
 import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
 import org.semanticweb.owlapi.model.IRI;
-import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
-import org.semanticweb.owlapi.profiles.OWL2DLProfile;
-import org.semanticweb.owlapi.profiles.OWL2ELProfile;
-import org.semanticweb.owlapi.profiles.OWL2QLProfile;
-import org.semanticweb.owlapi.profiles.OWL2RLProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -122,25 +114,55 @@ public class OWLDetector
       case Encoded_Knowledge_Expression:
       case Concrete_Knowledge_Expression:
         return sourceArtifact.asBinary()
-            .map(ByteArrayInputStream::new)
-            .flatMap(this::loadOntology);
+            .flatMap(bytes -> loadOntology(
+                getManagerPool(new OWLDetectorConfig()).newConfiguredManager(),
+                bytes,
+                sourceArtifact.getRepresentation() != null
+                    ? sourceArtifact.getRepresentation().getSerialization()
+                    : null));
       default:
         return Optional.empty();
     }
   }
 
 
+  @Override
+  public Match match(SniffedContent content) {
+    switch (content.getKind()) {
+      case TURTLE:
+        return Match.LIKELY;
+      case HTML:
+        return Match.UNLIKELY;
+      case XML:
+        return content.getRootNamespace()
+            .filter(ns -> !ns.isEmpty())
+            .map(ns -> RDF.uri.equals(ns) || OWL2.NS.equals(ns) ? Match.LIKELY : Match.UNLIKELY)
+            .orElse(Match.POSSIBLE);
+      default:
+        // includes JSON(-LD), Manchester and Functional syntaxes
+        return Match.POSSIBLE;
+    }
+  }
+
   @Override
   protected Optional<SyntacticRepresentation> detectBinary(byte[] bytes) {
-    return loadOntology(new ByteArrayInputStream(bytes))
-        .map(o -> rep(
-            OWL_2,
-            detectProfile(o),
-            detectSerialization(o),
-            detectFormat(o),
-            Charset.defaultCharset(),
-            Encodings.DEFAULT,
-            detectLexicon(o)));
+    return detectBinary(bytes, new Properties());
+  }
+
+  @Override
+  protected Optional<SyntacticRepresentation> detectBinary(byte[] bytes, Properties config) {
+    OWLDetectorConfig params = new OWLDetectorConfig().from(config);
+    // the ontology is only inspected here, so a pooled manager can be used
+    return getManagerPool(params).apply(manager ->
+        loadOntology(manager, bytes, null)
+            .map(o -> rep(
+                OWL_2,
+                detectProfile(o, params).orElse(null),
+                detectSerialization(o),
+                detectFormat(o),
+                Charset.defaultCharset(),
+                Encodings.DEFAULT,
+                detectLexicon(o))));
   }
 
   @Override
@@ -148,16 +170,35 @@ public class OWLDetector
     return detectBinary(string.getBytes());
   }
 
+  @Override
+  protected Optional<SyntacticRepresentation> detectString(String string, Properties config) {
+    return detectBinary(string.getBytes(), config);
+  }
+
   @Override
   protected Optional<SyntacticRepresentation> detectTree(Object parseTree) {
     return detectAST(parseTree);
   }
 
+  @Override
+  protected Optional<SyntacticRepresentation> detectTree(Object parseTree, Properties config) {
+    return detectAST(parseTree, config);
+  }
+
   @Override
   protected Optional<SyntacticRepresentation> detectAST(Object ast) {
-    return ast instanceof OWLOntology
-        ? Optional.of(rep(OWL_2,detectProfile((OWLOntology) ast)))
-        : Optional.empty();
+    return detectAST(ast, new Properties());
+  }
+
+  @Override
+  protected Optional<SyntacticRepresentation> detectAST(Object ast, Properties config) {
+    if (!(ast instanceof OWLOntology)) {
+      return Optional.empty();
+    }
+    SyntacticRepresentation rep = rep(OWL_2);
+    detectProfile((OWLOntology) ast, new OWLDetectorConfig().from(config))
+        .ifPresent(rep::setProfile);
+    return Optional.of(rep);
   }
 
 
@@ -202,20 +243,23 @@ public class OWLDetector
     return lexica;
   }
 
+  /**
+   * Detects the OWL2 profile of an ontology, if requested
+   * (see {@link DetectorParams#DETECT_PROFILE}). Profile checks are expensive on large ontologies, so they are skipped by default.
+   *
+   * @param o      the ontology
+   * @param params the detection configuration
+   * @return the profile of the ontology, if requested
+   */
+  protected Optional<KnowledgeRepresentationLanguageProfile> detectProfile(OWLOntology o,
+      OWLDetectorConfig params) {
+    return Boolean.TRUE.equals(params.getTyped(DetectorParams.DETECT_PROFILE))
+        ? Optional.of(detectProfile(o))
+        : Optional.empty();
+  }
+
   protected KnowledgeRepresentationLanguageProfile detectProfile(OWLOntology o) {
-    if (new OWL2RLProfile().checkOntology(o).isInProfile()) {
-      return OWL2_RL;
-    }
-    if (new OWL2QLProfile().checkOntology(o).isInProfile()) {
-      return OWL2_QL;
-    }
-    if (new OWL2ELProfile().checkOntology(o).isInProfile()) {
-      return OWL2_EL;
-    }
-    if (new OWL2DLProfile().checkOntology(o).isInProfile()) {
-      return OWL2_DL;
-    }
-    return OWL2_Full;
+    return OWLProfileDetector.detectProfile(o);
   }
 
   protected Optional<OWLOntology> loadOntology(InputStream is) {
@@ -224,48 +268,32 @@ public class OWLDetector
 
   protected Optional<OWLOntology> loadOntology(InputStream is, OWLDetectorConfig params) {
     try {
-      OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
-      OWLOntologyLoaderConfiguration loaderCfg = new OWLOntologyLoaderConfiguration() {
-        @Override
-        public boolean isIgnoredImport(IRI iri) {
-          return true;
-        }
-
-        @Override
-        public MissingImportHandlingStrategy getMissingImportHandlingStrategy() {
-          return MissingImportHandlingStrategy.SILENT;
-        }
-      };
-
-      manager.setOntologyLoaderConfiguration(loaderCfg);
-
-      configureCatalog(manager, params);
-
       if (is.markSupported()) {
         is.mark(Integer.MAX_VALUE);
       }
-
-      Optional<OWLOntology> onto = Optional
-          .ofNullable(manager.loadOntologyFromOntologyDocument(is))
-          .filter(o -> o.getOntologyID().getOntologyIRI().isPresent());
-
+      byte[] bytes = is.readAllBytes();
       if (is.markSupported()) {
         is.reset();
       }
-      return onto;
-    } catch (Exception e) {
+      return loadOntology(getManagerPool(params).newConfiguredManager(), bytes, null);
+    } catch (IOException e) {
       return Optional.empty();
     }
   }
 
-  private void configureCatalog(OWLOntologyManager manager, OWLDetectorConfig params) {
-    String catalog = params.getTyped(DetectorParams.CATALOG);
-    if (!Util.isEmpty(catalog)) {
-      manager.setIRIMappers(Collections.singleton(
-          new CatalogBasedIRIMapper(catalog)
-      ));
+  private Optional<OWLOntology> loadOntology(OWLOntologyManager manager, byte[] bytes,
+      KnowledgeRepresentationLanguageSerialization serialization) {
+    try {
+      return Optional
+          .ofNullable(OWLDocumentSources.loadOntology(manager, bytes, serialization))
+          .filter(o -> o.getOntologyID().getOntologyIRI().isPresent());
+    } catch (Exception e) {
+      return Optional.empty();
     }
+  }
 
+  private OWLManagerPool getManagerPool(OWLDetectorConfig params) {
+    return OWLManagerPool.of(true, params.getTyped(DetectorParams.CATALOG));
   }
 
   @Override
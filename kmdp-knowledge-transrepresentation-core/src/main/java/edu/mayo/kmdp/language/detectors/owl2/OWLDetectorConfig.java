@@ -28,6 +28,12 @@ public class OWLDetectorConfig extends
         null,
         "URL of an XML Catalog to resolve ontology IRIs",
         String.class,
+        false)),
+    DETECT_PROFILE(Opt.of(
+        "detectProfile",
+        "false",
+        "If true, detects the most specific OWL2 profile (RL, QL, EL, DL or Full) of the ontology",
+        Boolean.class,
         false));
 
     private Opt<DetectorParams> opt;
@@ -0,0 +1,274 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.detectors.owl2;
+
+import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_DL;
+import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_EL;
+import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_Full;
+import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_QL;
+import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_RL;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfile;
+import org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.ClassExpressionType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLCardinalityRestriction;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
+import org.semanticweb.owlapi.model.OWLObjectSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.profiles.OWL2DLProfile;
+import org.semanticweb.owlapi.profiles.OWL2ELProfile;
+import org.semanticweb.owlapi.profiles.OWL2QLProfile;
+import org.semanticweb.owlapi.profiles.OWL2RLProfile;
+import org.semanticweb.owlapi.profiles.OWLProfile;
+
+/**
+ * Detects the most specific OWL2 profile of an ontology, in the order RL, QL, EL, DL (else Full).
+ * <p>
+ * Each OWLAPI profile checker walks the whole imports closure, so checking the profiles in
+ * sequence traverses a large ontology several times. Instead, a single pass over the axioms
+ * collects the constructs that rule out each of the RL, QL and EL profiles (e.g. universal
+ * restrictions for EL, property chains for QL, existential superclasses for RL). Only the
+ * profiles that are not ruled out are then confirmed with the OWLAPI checkers, so that the
+ * result is the same as the one of the checkers alone.
+ * <p>
+ * Results are cached by ontology version IRI: ontologies without a version IRI are not cached.
+ */
+final class OWLProfileDetector {
+
+  private static final int MAX_CACHED = 256;
+
+  private static final Cache<IRI, KnowledgeRepresentationLanguageProfile> profiles =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_CACHED)
+          .build();
+
+  private static final List<KnowledgeRepresentationLanguageProfileSeries> SUB_PROFILES =
+      List.of(OWL2_RL, OWL2_QL, OWL2_EL);
+
+  private static final Map<KnowledgeRepresentationLanguageProfileSeries, Supplier<OWLProfile>>
+      checkers = Map.of(
+      OWL2_RL, OWL2RLProfile::new,
+      OWL2_QL, OWL2QLProfile::new,
+      OWL2_EL, OWL2ELProfile::new);
+
+  private static final Set<AxiomType<?>> NOT_EL = Set.of(
+      AxiomType.DISJOINT_UNION,
+      AxiomType.INVERSE_OBJECT_PROPERTIES,
+      AxiomType.FUNCTIONAL_OBJECT_PROPERTY,
+      AxiomType.INVERSE_FUNCTIONAL_OBJECT_PROPERTY,
+      AxiomType.IRREFLEXIVE_OBJECT_PROPERTY,
+      AxiomType.SYMMETRIC_OBJECT_PROPERTY,
+      AxiomType.ASYMMETRIC_OBJECT_PROPERTY,
+      AxiomType.DISJOINT_OBJECT_PROPERTIES,
+      AxiomType.DISJOINT_DATA_PROPERTIES);
+
+  private static final Set<AxiomType<?>> NOT_QL = Set.of(
+      AxiomType.DISJOINT_UNION,
+      AxiomType.SUB_PROPERTY_CHAIN_OF,
+      AxiomType.TRANSITIVE_OBJECT_PROPERTY,
+      AxiomType.FUNCTIONAL_OBJECT_PROPERTY,
+      AxiomType.INVERSE_FUNCTIONAL_OBJECT_PROPERTY,
+      AxiomType.FUNCTIONAL_DATA_PROPERTY,
+      AxiomType.HAS_KEY,
+      AxiomType.SAME_INDIVIDUAL,
+      AxiomType.NEGATIVE_OBJECT_PROPERTY_ASSERTION,
+      AxiomType.NEGATIVE_DATA_PROPERTY_ASSERTION);
+
+  private static final Set<AxiomType<?>> NOT_RL = Set.of(
+      AxiomType.DISJOINT_UNION,
+      AxiomType.REFLEXIVE_OBJECT_PROPERTY);
+
+  private static final Set<ClassExpressionType> NOT_EL_EXPRESSIONS = EnumSet.of(
+      ClassExpressionType.OBJECT_ALL_VALUES_FROM,
+      ClassExpressionType.OBJECT_MIN_CARDINALITY,
+      ClassExpressionType.OBJECT_EXACT_CARDINALITY,
+      ClassExpressionType.OBJECT_MAX_CARDINALITY,
+      ClassExpressionType.OBJECT_UNION_OF,
+      ClassExpressionType.OBJECT_COMPLEMENT_OF,
+      ClassExpressionType.DATA_ALL_VALUES_FROM,
+      ClassExpressionType.DATA_MIN_CARDINALITY,
+      ClassExpressionType.DATA_EXACT_CARDINALITY,
+      ClassExpressionType.DATA_MAX_CARDINALITY);
+
+  private static final Set<ClassExpressionType> NOT_QL_EXPRESSIONS = EnumSet.of(
+      ClassExpressionType.OBJECT_ALL_VALUES_FROM,
+      ClassExpressionType.OBJECT_MIN_CARDINALITY,
+      ClassExpressionType.OBJECT_EXACT_CARDINALITY,
+      ClassExpressionType.OBJECT_MAX_CARDINALITY,
+      ClassExpressionType.OBJECT_UNION_OF,
+      ClassExpressionType.OBJECT_ONE_OF,
+      ClassExpressionType.OBJECT_HAS_VALUE,
+      ClassExpressionType.OBJECT_HAS_SELF,
+      ClassExpressionType.DATA_ALL_VALUES_FROM,
+      ClassExpressionType.DATA_HAS_VALUE,
+      ClassExpressionType.DATA_MIN_CARDINALITY,
+      ClassExpressionType.DATA_EXACT_CARDINALITY,
+      ClassExpressionType.DATA_MAX_CARDINALITY);
+
+  private static final Set<ClassExpressionType> NOT_RL_EXPRESSIONS = EnumSet.of(
+      ClassExpressionType.OBJECT_HAS_SELF,
+      ClassExpressionType.OBJECT_MIN_CARDINALITY,
+      ClassExpressionType.OBJECT_EXACT_CARDINALITY,
+      ClassExpressionType.DATA_MIN_CARDINALITY,
+      ClassExpressionType.DATA_EXACT_CARDINALITY);
+
+  private static final Set<ClassExpressionType> NOT_RL_SUPERCLASSES = EnumSet.of(
+      ClassExpressionType.OBJECT_SOME_VALUES_FROM,
+      ClassExpressionType.DATA_SOME_VALUES_FROM,
+      ClassExpressionType.OBJECT_UNION_OF,
+      ClassExpressionType.OBJECT_ONE_OF);
+
+  private OWLProfileDetector() {
+    // static functions only
+  }
+
+  /**
+   * @param o the ontology
+   * @return the most specific profile of the ontology
+   */
+  static KnowledgeRepresentationLanguageProfile detectProfile(OWLOntology o) {
+    Optional<IRI> version = o.getOntologyID().getVersionIRI();
+    if (version.isEmpty()) {
+      return checkProfile(o);
+    }
+    KnowledgeRepresentationLanguageProfile cached = profiles.getIfPresent(version.get());
+    if (cached != null) {
+      return cached;
+    }
+    KnowledgeRepresentationLanguageProfile profile = checkProfile(o);
+    profiles.put(version.get(), profile);
+    return profile;
+  }
+
+  static void invalidateAll() {
+    profiles.invalidateAll();
+  }
+
+  private static KnowledgeRepresentationLanguageProfile checkProfile(OWLOntology o) {
+    Set<KnowledgeRepresentationLanguageProfileSeries> candidates = candidateProfiles(o);
+    for (KnowledgeRepresentationLanguageProfileSeries profile : SUB_PROFILES) {
+      if (candidates.contains(profile)
+          && checkers.get(profile).get().checkOntology(o).isInProfile()) {
+        return profile;
+      }
+    }
+    return new OWL2DLProfile().checkOntology(o).isInProfile()
+        ? OWL2_DL
+        : OWL2_Full;
+  }
+
+  /**
+   * Scans the axioms of the ontology (and its imports) once, and rules out the sub-profiles that
+   * use constructs outside of their grammars.
+   *
+   * @param o the ontology
+   * @return the sub-profiles (RL, QL, EL) that the ontology may belong to
+   */
+  static Set<KnowledgeRepresentationLanguageProfileSeries> candidateProfiles(OWLOntology o) {
+    Set<KnowledgeRepresentationLanguageProfileSeries> candidates = EnumSet.copyOf(SUB_PROFILES);
+    Iterator<OWLAxiom> axioms = o.importsClosure()
+        .flatMap(OWLOntology::axioms)
+        .iterator();
+    while (axioms.hasNext() && !candidates.isEmpty()) {
+      scan(axioms.next(), candidates);
+    }
+    return candidates;
+  }
+
+  private static void scan(OWLAxiom axiom,
+      Set<KnowledgeRepresentationLanguageProfileSeries> candidates) {
+    AxiomType<?> type = axiom.getAxiomType();
+    if (NOT_EL.contains(type)) {
+      candidates.remove(OWL2_EL);
+    }
+    if (NOT_QL.contains(type)) {
+      candidates.remove(OWL2_QL);
+    }
+    if (NOT_RL.contains(type)) {
+      candidates.remove(OWL2_RL);
+    }
+
+    axiom.nestedClassExpressions().forEach(ce -> {
+      ClassExpressionType ceType = ce.getClassExpressionType();
+      if (NOT_EL_EXPRESSIONS.contains(ceType)) {
+        candidates.remove(OWL2_EL);
+      }
+      if (NOT_QL_EXPRESSIONS.contains(ceType) || isQualifiedExistential(ce)) {
+        candidates.remove(OWL2_QL);
+      }
+      if (NOT_RL_EXPRESSIONS.contains(ceType)) {
+        candidates.remove(OWL2_RL);
+      }
+    });
+
+    if (axiom instanceof OWLSubClassOfAxiom) {
+      OWLSubClassOfAxiom sub = (OWLSubClassOfAxiom) axiom;
+      checkQLSubClass(sub.getSubClass(), candidates);
+      checkRLSuperClass(sub.getSuperClass(), candidates);
+    } else if (axiom instanceof OWLEquivalentClassesAxiom) {
+      // equivalent classes must be valid both as subclasses and as superclasses
+      ((OWLEquivalentClassesAxiom) axiom).classExpressions().forEach(ce -> {
+        checkQLSubClass(ce, candidates);
+        checkRLSuperClass(ce, candidates);
+      });
+    } else if (axiom instanceof OWLClassAssertionAxiom) {
+      checkRLSuperClass(((OWLClassAssertionAxiom) axiom).getClassExpression(), candidates);
+    }
+  }
+
+  /**
+   * QL only allows existentials with a named filler (and owl:Thing, in subclass position)
+   */
+  private static boolean isQualifiedExistential(OWLClassExpression ce) {
+    return ce instanceof OWLObjectSomeValuesFrom
+        && ((OWLObjectSomeValuesFrom) ce).getFiller().isAnonymous();
+  }
+
+  private static void checkQLSubClass(OWLClassExpression ce,
+      Set<KnowledgeRepresentationLanguageProfileSeries> candidates) {
+    if (ce.getClassExpressionType() == ClassExpressionType.OBJECT_INTERSECTION_OF
+        || ce.getClassExpressionType() == ClassExpressionType.OBJECT_COMPLEMENT_OF
+        || (ce instanceof OWLObjectSomeValuesFrom
+        && !((OWLObjectSomeValuesFrom) ce).getFiller().isOWLThing())) {
+      candidates.remove(OWL2_QL);
+    }
+  }
+
+  private static void checkRLSuperClass(OWLClassExpression ce,
+      Set<KnowledgeRepresentationLanguageProfileSeries> candidates) {
+    for (OWLClassExpression conjunct : ce.asConjunctSet()) {
+      if (NOT_RL_SUPERCLASSES.contains(conjunct.getClassExpressionType())
+          || (conjunct instanceof OWLCardinalityRestriction
+          && ((OWLCardinalityRestriction<?>) conjunct).getCardinality() > 1)) {
+        candidates.remove(OWL2_RL);
+      }
+    }
+  }
+
+}
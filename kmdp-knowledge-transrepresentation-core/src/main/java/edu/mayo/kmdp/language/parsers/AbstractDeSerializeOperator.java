@@ -24,8 +24,6 @@ import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSe
 import edu.mayo.kmdp.language.DeserializeApiOperator;
 import edu.mayo.kmdp.util.PropertiesUtil;
 import java.nio.charset.Charset;
-import java.util.Arrays;
-import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -107,8 +105,7 @@ public abstract class AbstractDeSerializeOperator
       case Encoded_Knowledge_Expression:
         switch (asEnum(into)) {
           case Abstract_Knowledge_Expression:
-            return this.innerDecode(sourceArtifact, config)
-                .flatMap(str -> innerParse(str, config));
+            return this.innerParseBinary(sourceArtifact, config);
           case Concrete_Knowledge_Expression:
             return this.innerDecode(sourceArtifact, config)
                 .flatMap(str -> innerDeserialize(str, config));
@@ -147,7 +144,7 @@ public abstract class AbstractDeSerializeOperator
   }
 
 
-  protected Optional<KnowledgeCarrier> lower(KnowledgeCarrier sourceArtifact,
+  public Optional<KnowledgeCarrier> lower(KnowledgeCarrier sourceArtifact,
       ParsingLevel toLevel, SyntacticRepresentation into, Properties config) {
     checkLowerConsistency(sourceArtifact, toLevel, into);
 
@@ -215,29 +212,29 @@ public abstract class AbstractDeSerializeOperator
 
   }
 
+  /**
+   * Decodes a binary expression, using the charset declared by the BOM, if any, or
+   * by the carrier's representation, or the platform's default charset.
+   * String expressions are assumed to be Base64 encoded.
+   */
   @Override
   public Optional<KnowledgeCarrier> innerDecode(KnowledgeCarrier carrier, Properties config) {
-    // This probably needs to be generalized based on the actual encoding type
-    Object expr = carrier.getExpression();
-    String serializedExpr;
-    if (expr instanceof String) {
-      expr = Base64.getDecoder().decode((String) expr);
-    }
-    if (expr instanceof byte[]) {
-      byte[] bytes = (byte[]) expr;
-      if (bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF) {
-        bytes = Arrays.copyOfRange(bytes, 3, bytes.length);
-      }
-      serializedExpr = new String(bytes);
-    } else {
-      serializedExpr = null;
-    }
     SyntacticRepresentation tgtRep =
         ((SyntacticRepresentation) carrier.getRepresentation().clone()).withEncoding(null);
-    return Optional.ofNullable(serializedExpr)
+    return EncodedExpressionDecoder.decode(carrier.getExpression(), carrier.getRepresentation())
         .map(s -> newVerticalCarrier(carrier, Serialized_Knowledge_Expression, tgtRep, s));
   }
 
+  /**
+   * @param rep the representation of a binary expression
+   * @return true if the expression is not encoded, other than as a plain byte array
+   */
+  protected static boolean isDefaultEncoding(SyntacticRepresentation rep) {
+    return rep == null
+        || rep.getEncoding() == null
+        || Encodings.DEFAULT.name().equals(rep.getEncoding());
+  }
+
 
   private Optional<KnowledgeCarrier> serializeExpression(KnowledgeCarrier expr,
       ParsingLevel toLevel,
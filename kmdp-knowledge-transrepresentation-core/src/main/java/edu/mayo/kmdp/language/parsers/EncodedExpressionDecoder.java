@@ -0,0 +1,188 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.parsers;
+
+import edu.mayo.kmdp.util.Util;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Base64;
+import java.util.Optional;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes binary (byte[], or Base64 encoded String) expressions into Strings.
+ * <p>
+ * The charset is taken from the byte order mark, if any, then from the declared
+ * representation, defaulting to the platform charset.
+ * Byte arrays are decoded directly, past the BOM (if any); Base64 Strings are decoded as
+ * a stream, without materializing the intermediate byte array.
+ */
+final class EncodedExpressionDecoder {
+
+  private static final Logger logger = LoggerFactory.getLogger(EncodedExpressionDecoder.class);
+
+  private static final String BASE64 = "base64";
+
+  private EncodedExpressionDecoder() {
+    // static functions only
+  }
+
+  static Optional<String> decode(Object expr, SyntacticRepresentation rep) {
+    Charset declared = getDeclaredCharset(rep);
+    try {
+      if (expr instanceof String) {
+        return Optional.of(decodeStream(
+            Base64.getDecoder().wrap(new AsciiInputStream((String) expr)), declared));
+      }
+      if (expr instanceof byte[]) {
+        byte[] bytes = (byte[]) expr;
+        return Optional.of(isBase64(rep)
+            ? decodeStream(Base64.getDecoder().wrap(new ByteArrayInputStream(bytes)), declared)
+            : decodeBytes(bytes, declared));
+      }
+    } catch (IOException e) {
+      logger.warn(e.getMessage(), e);
+    }
+    return Optional.empty();
+  }
+
+  private static String decodeBytes(byte[] bytes, Charset declared) {
+    if (bytes.length == 0) {
+      return "";
+    }
+    int bomLength = bomLength(bytes[0], bytes.length > 1 ? bytes[1] : 0,
+        bytes.length > 2 ? bytes[2] : 0, bytes.length);
+    Charset charset = bomLength > 0
+        ? bomCharset(bytes[0])
+        : declared;
+    return new String(bytes, bomLength, bytes.length - bomLength, charset);
+  }
+
+  private static String decodeStream(InputStream in, Charset declared) throws IOException {
+    PushbackInputStream pin = new PushbackInputStream(in, 3);
+    byte[] head = new byte[3];
+    int n = pin.readNBytes(head, 0, 3);
+    int bomLength = n > 0 ? bomLength(head[0], head[1], head[2], n) : 0;
+    Charset charset = bomLength > 0 ? bomCharset(head[0]) : declared;
+    if (n > bomLength) {
+      pin.unread(head, bomLength, n - bomLength);
+    }
+
+    StringBuilder sb = new StringBuilder();
+    char[] buffer = new char[8192];
+    try (Reader reader = new InputStreamReader(pin, newDecoder(charset))) {
+      int read;
+      while ((read = reader.read(buffer)) >= 0) {
+        sb.append(buffer, 0, read);
+      }
+    } catch (IllegalArgumentException e) {
+      // invalid Base64 content
+      throw new IOException(e);
+    }
+    return sb.toString();
+  }
+
+  private static int bomLength(byte b0, byte b1, byte b2, int available) {
+    if (available >= 3 && b0 == (byte) 0xEF && b1 == (byte) 0xBB && b2 == (byte) 0xBF) {
+      return 3;
+    }
+    if (available >= 2 && ((b0 == (byte) 0xFE && b1 == (byte) 0xFF)
+        || (b0 == (byte) 0xFF && b1 == (byte) 0xFE))) {
+      return 2;
+    }
+    return 0;
+  }
+
+  private static Charset bomCharset(byte b0) {
+    switch (b0) {
+      case (byte) 0xFE:
+        return StandardCharsets.UTF_16BE;
+      case (byte) 0xFF:
+        return StandardCharsets.UTF_16LE;
+      default:
+        return StandardCharsets.UTF_8;
+    }
+  }
+
+  private static CharsetDecoder newDecoder(Charset charset) {
+    // consistent with new String(bytes, charset)
+    return charset.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  }
+
+  private static Charset getDeclaredCharset(SyntacticRepresentation rep) {
+    if (rep == null || Util.isEmpty(rep.getCharset())) {
+      return Charset.defaultCharset();
+    }
+    try {
+      return Charset.forName(rep.getCharset());
+    } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+      logger.warn("Unsupported charset {}, falling back to {}",
+          rep.getCharset(), Charset.defaultCharset());
+      return Charset.defaultCharset();
+    }
+  }
+
+  private static boolean isBase64(SyntacticRepresentation rep) {
+    return rep != null && rep.getEncoding() != null
+        && rep.getEncoding().toLowerCase().contains(BASE64);
+  }
+
+  /**
+   * Streams the characters of a (Base64, hence ASCII) String as bytes
+   */
+  private static class AsciiInputStream extends InputStream {
+
+    private final String str;
+    private int pos = 0;
+
+    AsciiInputStream(String str) {
+      this.str = str;
+    }
+
+    @Override
+    public int read() {
+      return pos < str.length() ? (str.charAt(pos++) & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (pos >= str.length()) {
+        return -1;
+      }
+      int n = Math.min(len, str.length() - pos);
+      for (int i = 0; i < n; i++) {
+        b[off + i] = (byte) str.charAt(pos++);
+      }
+      return n;
+    }
+  }
+
+}
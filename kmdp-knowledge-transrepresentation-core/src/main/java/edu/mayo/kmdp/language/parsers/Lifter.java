@@ -48,6 +48,24 @@ public interface Lifter extends _applyLift, _applyNamedLift {
    */
   Optional<KnowledgeCarrier> innerDecode(KnowledgeCarrier carrier, Properties config);
 
+  /**
+   * Lifts a binary-encoded expression (byte[])
+   * directly into an abstract expression (abstract syntax tree),
+   * without materializing the intermediate serialized expression, when possible.
+   * By default, decodes the binary expression, then parses the serialized one:
+   * parsers that can consume binary expressions natively should override this method
+   *
+   * @see Lifter#innerDecode(KnowledgeCarrier, Properties)
+   * @see Lifter#innerParse(KnowledgeCarrier, Properties)
+   * @param carrier A binary carrier
+   * @return An abstract syntax tree carrier
+   */
+  default Optional<KnowledgeCarrier> innerParseBinary(KnowledgeCarrier carrier,
+      Properties config) {
+    return innerDecode(carrier, config)
+        .flatMap(str -> innerParse(str, config));
+  }
+
   /**
    * Lifts a serialized expression (String)
    * into a concrete expression (parse tree)
@@ -77,6 +77,14 @@ public abstract class MultiFormatParser<T> extends AbstractDeSerializeOperator {
         config);
   }
 
+  @Override
+  public Optional<KnowledgeCarrier> innerParseBinary(KnowledgeCarrier carrier, Properties config) {
+    return processLift(
+        carrier,
+        Lifter::innerParseBinary,
+        config);
+  }
+
 
   private boolean isLiftCandidate(AbstractDeSerializeOperator candidate,
       SyntacticRepresentation argumentRep) {
@@ -20,6 +20,7 @@ import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSe
 import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Encoded_Knowledge_Expression;
 import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Serialized_Knowledge_Expression;
 
+import edu.mayo.kmdp.language.common.jaxb.JaxbPool;
 import edu.mayo.kmdp.util.JaxbUtil;
 import edu.mayo.kmdp.util.Util;
 import edu.mayo.kmdp.util.XMLUtil;
@@ -50,6 +51,13 @@ public abstract class XMLBasedLanguageParser<T> extends AbstractDeSerializeOpera
         Annotation.class);
   }
 
+  /**
+   * @return the shared JAXB context (and unmarshaller pool) for the class context
+   */
+  protected Optional<JaxbPool> getJaxbPool() {
+    return JaxbPool.of(getClassContext());
+  }
+
   @Override
   public Optional<KnowledgeCarrier> innerDeserialize(KnowledgeCarrier carrier, Properties config) {
     return carrier.asBinary()
@@ -60,14 +68,31 @@ public abstract class XMLBasedLanguageParser<T> extends AbstractDeSerializeOpera
   @Override
   public Optional<KnowledgeCarrier> innerParse(KnowledgeCarrier carrier, Properties config) {
     return carrier.asString()
-        .flatMap(str -> JaxbUtil.unmarshall(getClassContext(), root, str))
+        .flatMap(str -> getJaxbPool().flatMap(pool -> pool.unmarshall(root, str)))
+        .map(ast -> newVerticalCarrier(carrier, Abstract_Knowledge_Expression, null, ast));
+  }
+
+  /**
+   * Unmarshals plain bytes directly, letting the XML parser
+   * handle the byte order marks and the declared encoding.
+   * Otherwise (e.g. Base64), decodes the expression first
+   */
+  @Override
+  public Optional<KnowledgeCarrier> innerParseBinary(KnowledgeCarrier carrier, Properties config) {
+    if (!(carrier.getExpression() instanceof byte[])
+        || !isDefaultEncoding(carrier.getRepresentation())) {
+      return super.innerParseBinary(carrier, config);
+    }
+    byte[] bytes = (byte[]) carrier.getExpression();
+    return getJaxbPool()
+        .flatMap(pool -> pool.unmarshall(root, bytes))
         .map(ast -> newVerticalCarrier(carrier, Abstract_Knowledge_Expression, null, ast));
   }
 
   @Override
   public Optional<KnowledgeCarrier> innerAbstract(KnowledgeCarrier carrier, Properties config) {
     return carrier.as(Document.class)
-        .flatMap(dox -> JaxbUtil.unmarshall(getClassContext(), root, dox))
+        .flatMap(dox -> getJaxbPool().flatMap(pool -> pool.unmarshall(root, dox)))
         .map(ast -> newVerticalCarrier(carrier, Abstract_Knowledge_Expression, null, ast));
   }
 
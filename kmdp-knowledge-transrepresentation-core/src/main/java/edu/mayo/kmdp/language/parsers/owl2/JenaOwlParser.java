@@ -21,25 +21,28 @@ import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationForma
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.RDF_XML_Syntax;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
-import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
 
 import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParser;
+import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParserConfig;
+import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParserConfig.JenaRdfParams;
 import edu.mayo.kmdp.terms.util.JenaUtil;
 import edu.mayo.kmdp.util.NameUtils;
 import edu.mayo.kmdp.util.Util;
-import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
-import java.util.Properties;
 import java.util.UUID;
 import javax.inject.Named;
 import org.apache.jena.ontology.OntModel;
-import org.apache.jena.ontology.Ontology;
+import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.ResIterator;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPComponent;
@@ -79,28 +82,23 @@ public class JenaOwlParser extends JenaRdfParser {
   }
 
   /**
-   * Lifts a concrete expression (String) into an abstract expression (abstract syntax tree)
+   * Wraps a model into an abstract syntax tree carrier, identified by the ontology (version) IRI.
+   * The ontology is identified on the raw graph; the carrier then exposes the graph as an
+   * OntModel, with the configured {@link JenaRdfParams#ONT_MODEL_SPEC}
    *
-   * @param carrier A string carrier
+   * @param carrier The carrier of the source expression
+   * @param model   The model read from the source expression
+   * @param cfg     The parser configuration
    * @return An abstract syntax tree carrier
    */
   @Override
-  public Optional<KnowledgeCarrier> innerParse(KnowledgeCarrier carrier, Properties properties) {
-    SyntacticRepresentation tgtRep =
-        getTargetLiftRepresentation(carrier.getRepresentation(), Abstract_Knowledge_Expression);
-    Model model = readModel(
-        carrier.asString().orElseThrow(UnsupportedOperationException::new),
-        carrier.getRepresentation());
+  protected KnowledgeCarrier liftModel(KnowledgeCarrier carrier, Model model,
+      JenaRdfParserConfig cfg) {
     String name = detectOntologyName(model);
-    KnowledgeCarrier kc =
-        newVerticalCarrier(carrier,
-            Abstract_Knowledge_Expression,
-            tgtRep,
-            model)
-        .withAssetId(detectOntologyID(model, name))
+    ResourceIdentifier ontologyId = detectOntologyID(model, name);
+    return super.liftModel(carrier, toOntModel(model, cfg), cfg)
+        .withAssetId(ontologyId)
         .withLabel(name);
-
-    return Optional.of(kc);
   }
 
   private ResourceIdentifier detectOntologyID(Model model, String name) {
@@ -110,15 +108,19 @@ public class JenaOwlParser extends JenaRdfParser {
   }
 
   private String detectOntologyName(Model model) {
-    if (model instanceof OntModel) {
-      OntModel om = (OntModel) model;
-      List<Ontology> onts = om.listOntologies().toList();
-      if (! onts.isEmpty()) {
-        String name = onts.get(0).getLabel(null);
-        if (!Util.isEmpty(name)) {
-          return name;
+    ResIterator onts = model.listResourcesWithProperty(RDF.type, OWL.Ontology);
+    try {
+      if (onts.hasNext()) {
+        Statement label = onts.next().getProperty(RDFS.label);
+        if (label != null && label.getObject().isLiteral()) {
+          String name = label.getString();
+          if (!Util.isEmpty(name)) {
+            return name;
+          }
         }
       }
+    } finally {
+      onts.close();
     }
     String uri = JenaUtil.detectOntologyIRI(model).map(URI::create).map(URI::toString).orElseThrow();
     if (uri.endsWith("/")) {
@@ -127,9 +129,33 @@ public class JenaOwlParser extends JenaRdfParser {
     return NameUtils.getTrailingPart(uri);
   }
 
-  protected Model readModel(String str, SyntacticRepresentation from) {
-    OntModel m = ModelFactory.createOntologyModel();
-    return m.read(new ByteArrayInputStream(str.getBytes()), null, toJenaLangCode(from));
+  /**
+   * Views a (raw) model as an OntModel, without copying it
+   *
+   * @param model The raw model
+   * @param cfg   The parser configuration, which determines the OntModelSpec
+   * @return The OntModel
+   */
+  protected OntModel toOntModel(Model model, JenaRdfParserConfig cfg) {
+    return model instanceof OntModel
+        ? (OntModel) model
+        : ModelFactory.createOntologyModel(getOntModelSpec(cfg), model);
+  }
+
+  protected OntModelSpec getOntModelSpec(JenaRdfParserConfig cfg) {
+    String specName = cfg.getTyped(JenaRdfParams.ONT_MODEL_SPEC);
+    if (Util.isEmpty(specName)) {
+      return OntModelSpec.OWL_MEM;
+    }
+    try {
+      Object spec = OntModelSpec.class.getField(specName.trim()).get(null);
+      if (spec instanceof OntModelSpec) {
+        return (OntModelSpec) spec;
+      }
+    } catch (ReflectiveOperationException e) {
+      // not a predefined spec
+    }
+    throw new UnsupportedOperationException("Unknown OntModelSpec : " + specName);
   }
 
 }
@@ -33,9 +33,10 @@ import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSe
 import edu.mayo.kmdp.ConfigProperties;
 import edu.mayo.kmdp.Opt;
 import edu.mayo.kmdp.Option;
+import edu.mayo.kmdp.language.common.owl2.OWLDocumentSources;
+import edu.mayo.kmdp.language.common.owl2.OWLManagerPool;
 import edu.mayo.kmdp.language.parsers.AbstractDeSerializeOperator;
 import edu.mayo.kmdp.language.parsers.owl2.OWLParser.OWLParserConfiguration.OWLParserParams;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.List;
@@ -43,7 +44,6 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
 import javax.inject.Named;
-import org.apache.jena.vocabulary.DCTerms;
 import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPComponent;
 import org.omg.spec.api4kp._20200801.services.KPOperation;
@@ -52,13 +52,9 @@ import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
 import org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormat;
 import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
-import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
-import org.semanticweb.owlapi.model.IRI;
-import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLOntologyStorageException;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -88,20 +84,32 @@ public class OWLParser extends AbstractDeSerializeOperator {
     return innerParse(carrier,properties);
   }
 
+  @Override
+  public Optional<KnowledgeCarrier> innerParseBinary(KnowledgeCarrier carrier,
+      Properties properties) {
+    // the OWLAPI loads the ontology from plain bytes, detecting the charset
+    return carrier.getExpression() instanceof byte[]
+        && isDefaultEncoding(carrier.getRepresentation())
+        ? innerParse(carrier, properties)
+        : super.innerParseBinary(carrier, properties);
+  }
+
   @Override
   public Optional<KnowledgeCarrier> innerParse(KnowledgeCarrier carrier, Properties properties) {
     try {
-      OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
-      OWLOntologyLoaderConfiguration conf = getConfiguration(properties);
-      manager.setOntologyLoaderConfiguration(conf);
-
+      // the AST keeps a reference to its manager, which therefore cannot be pooled
+      OWLOntologyManager manager = getManagerPool(properties).newConfiguredManager();
 
       Optional<byte[]> bytes = carrier.asBinary();
       if (bytes.isEmpty()) {
         return Optional.empty();
       }
-      OWLOntology onto = manager.loadOntologyFromOntologyDocument(
-          new ByteArrayInputStream(bytes.get()));
+      OWLOntology onto = OWLDocumentSources.loadOntology(
+          manager,
+          bytes.get(),
+          carrier.getRepresentation() != null
+              ? carrier.getRepresentation().getSerialization()
+              : null);
 
       return Optional.ofNullable(
           newVerticalCarrier(
@@ -136,24 +144,29 @@ public class OWLParser extends AbstractDeSerializeOperator {
   @Override
   public Optional<KnowledgeCarrier> innerExternalize(KnowledgeCarrier carrier,
       SyntacticRepresentation into, Properties properties) {
-    try {
-      Optional<OWLOntology> onto = carrier.as(OWLOntology.class);
-      if (!onto.isPresent()) {
+    Optional<OWLOntology> onto = carrier.as(OWLOntology.class);
+    if (!onto.isPresent()) {
+      return Optional.empty();
+    }
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    Optional<Boolean> saved = getManagerPool(properties).apply(manager -> {
+      try {
+        manager.saveOntology(onto.get(), new RDFXMLDocumentFormat(), baos);
+        return Optional.of(true);
+      } catch (OWLOntologyStorageException e) {
         return Optional.empty();
       }
-
-      ByteArrayOutputStream baos = new ByteArrayOutputStream();
-      OWLManager.createOWLOntologyManager()
-          .saveOntology(onto.get(), new RDFXMLDocumentFormat(), baos);
-      return Optional.ofNullable(
-          newVerticalCarrier(
-              carrier,
-              Serialized_Knowledge_Expression,
-              rep(OWL_2, RDF_XML_Syntax, XML_1_1),
-              new String(baos.toByteArray())));
-    } catch (OWLOntologyStorageException e) {
+    });
+    if (saved.isEmpty()) {
       return Optional.empty();
     }
+    return Optional.ofNullable(
+        newVerticalCarrier(
+            carrier,
+            Serialized_Knowledge_Expression,
+            rep(OWL_2, RDF_XML_Syntax, XML_1_1),
+            new String(baos.toByteArray())));
   }
 
   @Override
@@ -186,25 +199,9 @@ public class OWLParser extends AbstractDeSerializeOperator {
   }
 
 
-  private OWLOntologyLoaderConfiguration getConfiguration(Properties properties) {
+  private OWLManagerPool getManagerPool(Properties properties) {
     OWLParserConfiguration cfg = new OWLParserConfiguration(properties);
-    if (cfg.getTyped(OWLParserParams.IGNORE_IMPORTS)) {
-      return new OWLOntologyLoaderConfiguration() {
-        @Override
-        public boolean isIgnoredImport(IRI iri) {
-          return true;
-        }
-
-        @Override
-        public MissingImportHandlingStrategy getMissingImportHandlingStrategy() {
-          return MissingImportHandlingStrategy.SILENT;
-        }
-      };
-    } else {
-      return new OWLOntologyLoaderConfiguration()
-          .setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT)
-          .addIgnoredImport(IRI.create(DCTerms.getURI()));
-    }
+    return OWLManagerPool.of(cfg.getTyped(OWLParserParams.IGNORE_IMPORTS), null);
   }
 
 
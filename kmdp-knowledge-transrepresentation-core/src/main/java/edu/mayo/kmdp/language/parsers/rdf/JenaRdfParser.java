@@ -30,17 +30,32 @@ import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSe
 import edu.mayo.kmdp.language.parsers.AbstractDeSerializeOperator;
 import edu.mayo.kmdp.language.parsers.Lifter;
 import edu.mayo.kmdp.language.parsers.Lowerer;
+import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParserConfig.JenaRdfParams;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
 import javax.inject.Named;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.riot.system.StreamRDFOps;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.omg.spec.api4kp._20200801.AbstractCarrier.Encodings;
 import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPComponent;
@@ -64,6 +79,11 @@ public class JenaRdfParser extends AbstractDeSerializeOperator {
   public static final UUID id = UUID.fromString("6bbfb6bc-4e45-43e1-9168-715d12736f3d");
   public static final String version = "1.0.0";
 
+  /**
+   * Compact in-memory graph implementation, available since Jena 5
+   */
+  private static final String GRAPH_MEM2 = "org.apache.jena.mem2.GraphMem2Fast";
+
   public JenaRdfParser() {
     setId(SemanticIdentifier.newId(id,version));
   }
@@ -99,7 +119,8 @@ public class JenaRdfParser extends AbstractDeSerializeOperator {
             Concrete_Knowledge_Expression,
             tgtRep,
             readModel(carrier.asString().orElseThrow(UnsupportedOperationException::new),
-                carrier.getRepresentation())));
+                carrier.getRepresentation(),
+                readConfig(properties))));
   }
 
   /**
@@ -110,17 +131,56 @@ public class JenaRdfParser extends AbstractDeSerializeOperator {
    */
   @Override
   public Optional<KnowledgeCarrier> innerParse(KnowledgeCarrier carrier, Properties properties) {
-    SyntacticRepresentation tgtRep =
-        getTargetLiftRepresentation(carrier.getRepresentation(), Abstract_Knowledge_Expression);
+    JenaRdfParserConfig cfg = readConfig(properties);
     Model model = readModel(
         carrier.asString().orElseThrow(UnsupportedOperationException::new),
-        carrier.getRepresentation());
-    KnowledgeCarrier kc =
-        newVerticalCarrier(carrier,
-            Abstract_Knowledge_Expression,
-            tgtRep,
-            model);
-    return Optional.of(kc);
+        carrier.getRepresentation(),
+        cfg);
+    return Optional.of(liftModel(carrier, model, cfg));
+  }
+
+  /**
+   * Lifts a binary expression into an abstract expression (abstract syntax tree).
+   * In streaming mode, the RDF is parsed directly from the bytes, without decoding them into an
+   * intermediate String first. RIOT assumes plain UTF-8, so other charsets and encodings
+   * (e.g. Base64) are decoded first.
+   *
+   * @param carrier A binary carrier
+   * @return An abstract syntax tree carrier
+   */
+  @Override
+  public Optional<KnowledgeCarrier> innerParseBinary(KnowledgeCarrier carrier,
+      Properties properties) {
+    JenaRdfParserConfig cfg = readConfig(properties);
+    Object expr = carrier.getExpression();
+    if (!isStreaming(cfg)
+        || !isUTF8(carrier.getRepresentation())
+        || !isDefaultEncoding(carrier.getRepresentation())
+        || !(expr instanceof byte[] || expr instanceof InputStream)) {
+      return super.innerParseBinary(carrier, properties);
+    }
+    InputStream in = expr instanceof byte[]
+        ? new ByteArrayInputStream((byte[]) expr)
+        : (InputStream) expr;
+    return Optional.of(liftModel(carrier, readModel(in, carrier.getRepresentation(), cfg), cfg));
+  }
+
+  /**
+   * Wraps a model into an abstract syntax tree carrier
+   *
+   * @param carrier The carrier of the source expression
+   * @param model   The model read from the source expression
+   * @param cfg     The parser configuration
+   * @return An abstract syntax tree carrier
+   */
+  protected KnowledgeCarrier liftModel(KnowledgeCarrier carrier, Model model,
+      JenaRdfParserConfig cfg) {
+    SyntacticRepresentation tgtRep =
+        getTargetLiftRepresentation(carrier.getRepresentation(), Abstract_Knowledge_Expression);
+    return newVerticalCarrier(carrier,
+        Abstract_Knowledge_Expression,
+        tgtRep,
+        model);
   }
 
 
@@ -225,11 +285,96 @@ public class JenaRdfParser extends AbstractDeSerializeOperator {
     return OWL_2;
   }
 
+  /**
+   * Lowers an abstract expression directly into a binary one, in streaming mode.
+   * Jena writes RDF as UTF-8, so other charsets and encodings are serialized first.
+   */
+  @Override
+  protected Optional<KnowledgeCarrier> serializeAST(KnowledgeCarrier ast, ParsingLevel toLevel,
+      SyntacticRepresentation into, Properties config) {
+    if (!Encoded_Knowledge_Expression.sameAs(toLevel)
+        || !isStreaming(readConfig(config))
+        || !isUTF8(into)
+        || !isDefaultEncoding(into)) {
+      return super.serializeAST(ast, toLevel, into, config);
+    }
+    SyntacticRepresentation tgtRep =
+        getTargetLowerRepresentation(ast.getRepresentation(), into, Encoded_Knowledge_Expression);
+    return ast.as(Model.class)
+        .map(model -> {
+          ByteArrayOutputStream out = new ByteArrayOutputStream();
+          writeModel(model, tgtRep, out);
+          return out.toByteArray();
+        })
+        .map(bytes -> newVerticalCarrier(ast,
+            Encoded_Knowledge_Expression,
+            tgtRep,
+            bytes));
+  }
+
   protected Model readModel(String str, SyntacticRepresentation from) {
-    Model m = ModelFactory.createDefaultModel();
-    return m.read(new ByteArrayInputStream(str.getBytes()), null, toJenaLangCode(from));
+    return readModel(str, from, new JenaRdfParserConfig());
+  }
+
+  protected Model readModel(String str, SyntacticRepresentation from, JenaRdfParserConfig cfg) {
+    Model m = newModel(cfg);
+    if (!isStreaming(cfg)) {
+      return m.read(new ByteArrayInputStream(str.getBytes()), null, toJenaLangCode(from));
+    }
+    RDFParser.create()
+        .fromString(str)
+        .forceLang(toJenaLang(from))
+        .parse(StreamRDFLib.graph(m.getGraph()));
+    return m;
+  }
+
+  /**
+   * Reads a model from a (UTF-8) RDF document, streaming the triples into the model's graph
+   *
+   * @param in   The RDF document
+   * @param from The representation of the document
+   * @param cfg  The parser configuration
+   * @return The model
+   */
+  protected Model readModel(InputStream in, SyntacticRepresentation from,
+      JenaRdfParserConfig cfg) {
+    Model m = newModel(cfg);
+    RDFParser.create()
+        .source(in)
+        .forceLang(toJenaLang(from))
+        .parse(StreamRDFLib.graph(m.getGraph()));
+    return m;
+  }
+
+  /**
+   * Creates the (empty) model that RDF documents are read into
+   *
+   * @param cfg The parser configuration, which determines the backing graph
+   * @return A new model
+   */
+  protected Model newModel(JenaRdfParserConfig cfg) {
+    String backend = cfg.getTyped(JenaRdfParams.MODEL_BACKEND);
+    switch (backend != null ? backend : JenaRdfParserConfig.DEFAULT_BACKEND) {
+      case JenaRdfParserConfig.GRAPH_MEM2_BACKEND:
+        return newGraphMem2()
+            .map(ModelFactory::createModelForGraph)
+            .orElseGet(ModelFactory::createDefaultModel);
+      case JenaRdfParserConfig.DATASET_BACKEND:
+        return DatasetFactory.create().getDefaultModel();
+      case JenaRdfParserConfig.DEFAULT_BACKEND:
+      default:
+        return ModelFactory.createDefaultModel();
+    }
   }
 
+  /**
+   * Writes a model as a (pretty printed) RDF document, regardless of the streaming mode,
+   * which only affects binary documents
+   *
+   * @param model  The model
+   * @param tgtRep The representation of the document
+   * @return The document
+   */
   protected String writeModel(Model model, SyntacticRepresentation tgtRep) {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     String lang = toJenaLangCode(tgtRep);
@@ -237,6 +382,31 @@ public class JenaRdfParser extends AbstractDeSerializeOperator {
     return new String(baos.toByteArray());
   }
 
+  /**
+   * Writes a model to a consumer, as a (UTF-8) RDF document.
+   * Turtle is written incrementally, one block of triples per subject, while RDF/XML is written
+   * without abbreviations, so that neither requires a full analysis of the graph.
+   *
+   * @param model  The model
+   * @param tgtRep The representation of the document
+   * @param out    The consumer of the document
+   */
+  public void writeModel(Model model, SyntacticRepresentation tgtRep, OutputStream out) {
+    Lang lang = toJenaLang(tgtRep);
+    if (Lang.TURTLE.equals(lang)) {
+      StreamRDF stream = StreamRDFWriter.getWriterStream(out, RDFFormat.TURTLE_BLOCKS);
+      StreamRDFOps.sendGraphToStream(model.getGraph(), stream);
+    } else if (Lang.RDFJSON.equals(lang)) {
+      RDFDataMgr.write(out, model, RDFFormat.RDFJSON);
+    } else {
+      RDFDataMgr.write(out, model, RDFFormat.RDFXML_PLAIN);
+    }
+  }
+
+  protected Lang toJenaLang(SyntacticRepresentation tgtRep) {
+    return RDFLanguages.nameToLang(toJenaLangCode(tgtRep));
+  }
+
   protected String toJenaLangCode(SyntacticRepresentation tgtRep) {
     if (tgtRep.getSerialization() != null) {
       switch (asEnum(tgtRep.getSerialization())) {
@@ -300,4 +470,35 @@ public class JenaRdfParser extends AbstractDeSerializeOperator {
       }
     }
   }
+
+  protected JenaRdfParserConfig readConfig(Properties properties) {
+    return properties != null
+        ? new JenaRdfParserConfig().from(properties)
+        : new JenaRdfParserConfig();
+  }
+
+  private boolean isStreaming(JenaRdfParserConfig cfg) {
+    return Boolean.TRUE.equals(cfg.getTyped(JenaRdfParams.STREAMING));
+  }
+
+  private boolean isUTF8(SyntacticRepresentation rep) {
+    if (rep == null || rep.getCharset() == null) {
+      return true;
+    }
+    try {
+      return StandardCharsets.UTF_8.equals(Charset.forName(rep.getCharset()));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static Optional<Graph> newGraphMem2() {
+    try {
+      return Optional.of((Graph) Class.forName(GRAPH_MEM2)
+          .getDeclaredConstructor()
+          .newInstance());
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return Optional.empty();
+    }
+  }
 }
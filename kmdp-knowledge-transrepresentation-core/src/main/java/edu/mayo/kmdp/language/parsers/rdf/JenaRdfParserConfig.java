@@ -0,0 +1,93 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.parsers.rdf;
+
+import edu.mayo.kmdp.ConfigProperties;
+import edu.mayo.kmdp.Opt;
+import edu.mayo.kmdp.Option;
+import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParserConfig.JenaRdfParams;
+import java.util.Properties;
+
+@SuppressWarnings("unchecked")
+public class JenaRdfParserConfig extends
+    ConfigProperties<JenaRdfParserConfig, JenaRdfParams> {
+
+  /**
+   * In-memory graphs, as created by the Jena ModelFactory
+   */
+  public static final String DEFAULT_BACKEND = "default";
+  /**
+   * The (more compact) in-memory graphs of Jena 5, if available, else the default graphs
+   */
+  public static final String GRAPH_MEM2_BACKEND = "graph-mem2";
+  /**
+   * The default graph of an in-memory dataset
+   */
+  public static final String DATASET_BACKEND = "dataset";
+
+  private static final Properties DEFAULTS = defaulted(JenaRdfParams.class);
+
+  public JenaRdfParserConfig() {
+    super(DEFAULTS);
+  }
+
+  public JenaRdfParserConfig(Properties defaults) {
+    super(defaults);
+  }
+
+  @Override
+  public JenaRdfParams[] properties() {
+    return JenaRdfParams.values();
+  }
+
+  public enum JenaRdfParams implements Option<JenaRdfParams> {
+
+    STREAMING(Opt.of(
+        "streaming",
+        "true",
+        "Parse RDF documents directly from their bytes, and write binary documents "
+            + "incrementally, using Jena RIOT. Serialized (String) documents are always "
+            + "pretty printed",
+        Boolean.class,
+        false)),
+
+    MODEL_BACKEND(Opt.of(
+        "modelBackend",
+        DEFAULT_BACKEND,
+        "Graph implementation backing the lifted models : "
+            + DEFAULT_BACKEND + ", " + GRAPH_MEM2_BACKEND + " or " + DATASET_BACKEND,
+        String.class,
+        false)),
+
+    ONT_MODEL_SPEC(Opt.of(
+        "ontModelSpec",
+        "OWL_MEM",
+        "Name of the OntModelSpec of the ontology models lifted by the JenaOwlParser, "
+            + "e.g. OWL_MEM (no reasoner) or OWL_MEM_RDFS_INF",
+        String.class,
+        false));
+
+    private Opt<JenaRdfParams> opt;
+
+    JenaRdfParams(Opt<JenaRdfParams> opt) {
+      this.opt = opt;
+    }
+
+    @Override
+    public Opt<JenaRdfParams> getOption() {
+      return opt;
+    }
+
+  }
+}
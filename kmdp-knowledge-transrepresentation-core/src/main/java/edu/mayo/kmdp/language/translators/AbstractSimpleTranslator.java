@@ -10,6 +10,7 @@ import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSe
 import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.asEnum;
 
 import edu.mayo.kmdp.language.TransionApiOperator;
+import edu.mayo.kmdp.language.parsers.AbstractDeSerializeOperator;
 import edu.mayo.kmdp.util.PropertiesUtil;
 import edu.mayo.kmdp.util.Util;
 import java.util.Optional;
@@ -26,12 +27,15 @@ import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
 import org.omg.spec.api4kp._20200801.services.transrepresentation.ModelMIMECoder;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
 
 public abstract class AbstractSimpleTranslator<S, T>
     implements TransionApiOperator, _applyTransrepresent, _applyNamedTransrepresent {
 
   protected ResourceIdentifier operatorId;
 
+  private TranslationCache cache;
+
   public ResourceIdentifier getOperatorId() {
     return operatorId;
   }
@@ -40,6 +44,17 @@ public abstract class AbstractSimpleTranslator<S, T>
     this.operatorId = id;
   }
 
+  /**
+   * Enables caching of translation results, keyed by the (versioned) source artifacts
+   *
+   * @param cache the cache to use (may be shared across translators)
+   * @return this translator
+   */
+  public AbstractSimpleTranslator<S, T> withCache(TranslationCache cache) {
+    this.cache = cache;
+    return this;
+  }
+
   @Override
   public Answer<KnowledgeCarrier> applyTransrepresent(KnowledgeCarrier knowledgeCarrier,
       String xAccept, String properties) {
@@ -80,44 +95,53 @@ public abstract class AbstractSimpleTranslator<S, T>
       KnowledgeCarrier src,
       SyntacticRepresentation tgtRep,
       Properties config) {
+    if (cache == null) {
+      return translate(src, tgtRep, config);
+    }
+    String qualifier = getOperatorId() != null
+        ? getOperatorId().getUuid() + ":" + getOperatorId().getVersionTag()
+        : getClass().getName();
+    return cache.translate(qualifier, src, tgtRep, config,
+        () -> translate(src, tgtRep, config));
+  }
+
+  /**
+   * Plans the shortest path to the target: ASTs are transformed directly, other expressions
+   * are lifted straight to an AST (see {@link #liftToAst}), and the result is only lowered
+   * if a concrete target representation is requested (see {@link #wrap}).
+   * The configuration is passed along as is, between stages.
+   */
+  private Optional<KnowledgeCarrier> translate(
+      KnowledgeCarrier src,
+      SyntacticRepresentation tgtRep,
+      Properties config) {
+    Optional<T> out;
     switch (asEnum(src.getLevel())) {
       case Encoded_Knowledge_Expression:
-        return src.asBinary()
-            .flatMap(
-                bytes -> transformBinary(src.getAssetId(), src.getArtifactId(), bytes,
-                    src.getRepresentation(),
-                    tgtRep, config))
-            .map(out -> wrap(
-                tgtRep, out, mapAssetId(src.getAssetId()),
-                mapArtifactId(src.getAssetId(), src.getArtifactId()),
-                src.getLabel()));
+        out = src.asBinary()
+            .flatMap(bytes -> transformBinary(src.getAssetId(), src.getArtifactId(), bytes,
+                src.getRepresentation(), tgtRep, config));
+        break;
       case Serialized_Knowledge_Expression:
-        return src.asString()
+        out = src.asString()
             .flatMap(str -> transformString(src.getAssetId(), src.getArtifactId(), str,
-                src.getRepresentation(),
-                tgtRep, config))
-            .map(out -> wrap(
-                tgtRep, out, mapAssetId(src.getAssetId()),
-                mapArtifactId(src.getAssetId(), src.getArtifactId()),
-                src.getLabel()));
+                src.getRepresentation(), tgtRep, config));
+        break;
       case Concrete_Knowledge_Expression:
-        return transformTree(src.getAssetId(), src.getArtifactId(), src.getExpression(),
-            src.getRepresentation(),
-            tgtRep, config)
-            .map(out -> wrap(
-                tgtRep, out, mapAssetId(src.getAssetId()),
-                mapArtifactId(src.getAssetId(), src.getArtifactId()),
-                src.getLabel()));
+        out = transformTree(src.getAssetId(), src.getArtifactId(), src.getExpression(),
+            src.getRepresentation(), tgtRep, config);
+        break;
       case Abstract_Knowledge_Expression:
-        return transformAst(src.getAssetId(), src.getArtifactId(), (S) src.getExpression(),
-            src.getRepresentation(), tgtRep, config)
-            .map(out -> wrap(
-                tgtRep, out, mapAssetId(src.getAssetId()),
-                mapArtifactId(src.getAssetId(), src.getArtifactId()),
-                src.getLabel()));
+        out = transformAst(src.getAssetId(), src.getArtifactId(), (S) src.getExpression(),
+            src.getRepresentation(), tgtRep, config);
+        break;
       default:
         throw new UnsupportedOperationException();
     }
+    return out.map(artifact -> wrap(
+        tgtRep, artifact, mapAssetId(src.getAssetId()),
+        mapArtifactId(src.getAssetId(), src.getArtifactId()),
+        src.getLabel()));
   }
 
   protected KnowledgeCarrier wrap(
@@ -133,11 +157,14 @@ public abstract class AbstractSimpleTranslator<S, T>
         mappedAssetId,
         mappedArtifactId,
         label);
+    ParsingLevel tgtLevel = ParsingLevelContrastor.detectLevel(tgtRep);
+    if (Abstract_Knowledge_Expression.sameAs(tgtLevel)) {
+      // the translation is already at the requested level
+      return kc;
+    }
     return getTargetParser()
-        .flatMap(parser -> parser.applyLower(
-            kc,
-            ParsingLevelContrastor.detectLevel(tgtRep),
-            codedRep(tgtRep), null))
+        .getOptionalValue()
+        .flatMap(parser -> lowerFromAst(parser, kc, tgtLevel, tgtRep))
         .orElse(kc);
   }
 
@@ -166,20 +193,10 @@ public abstract class AbstractSimpleTranslator<S, T>
       SyntacticRepresentation srcRep,
       SyntacticRepresentation tgtRep,
       Properties config) {
-    return getParser()
-        .flatMap(parser -> parser.applyLift(
-                AbstractCarrier.ofTree(expression, srcRep)
-                    .withLevel(Concrete_Knowledge_Expression),
-                Abstract_Knowledge_Expression,
-                codedRep(srcRep.getLanguage()),
-                PropertiesUtil.serializeProps(config))
-            .map(KnowledgeCarrier::getExpression)
-            .flatOpt(
-                srcAst -> this
-                    .transformAst(assetId, srcArtifactId, (S) srcAst, rep(srcRep.getLanguage()),
-                        tgtRep,
-                        config)))
-        .getOptionalValue();
+    return liftToAst(AbstractCarrier.ofTree(expression, srcRep)
+        .withLevel(Concrete_Knowledge_Expression), config)
+        .flatMap(srcAst -> transformAst(
+            assetId, srcArtifactId, srcAst, rep(srcRep.getLanguage()), tgtRep, config));
   }
 
   protected Optional<T> transformString(
@@ -189,20 +206,10 @@ public abstract class AbstractSimpleTranslator<S, T>
       SyntacticRepresentation srcRep,
       SyntacticRepresentation tgtRep,
       Properties config) {
-    return getParser()
-        .flatMap(parser -> parser.applyLift(
-                AbstractCarrier.ofTree(str, srcRep)
-                    .withLevel(Serialized_Knowledge_Expression),
-                Abstract_Knowledge_Expression,
-                codedRep(srcRep.getLanguage()),
-                PropertiesUtil.serializeProps(config))
-            .map(KnowledgeCarrier::getExpression)
-            .flatOpt(
-                srcAst -> this
-                    .transformAst(assetId, srcArtifactId, (S) srcAst, rep(srcRep.getLanguage()),
-                        tgtRep,
-                        config)))
-        .getOptionalValue();
+    return liftToAst(AbstractCarrier.ofTree(str, srcRep)
+        .withLevel(Serialized_Knowledge_Expression), config)
+        .flatMap(srcAst -> transformAst(
+            assetId, srcArtifactId, srcAst, rep(srcRep.getLanguage()), tgtRep, config));
   }
 
   protected Optional<T> transformBinary(
@@ -212,21 +219,61 @@ public abstract class AbstractSimpleTranslator<S, T>
       SyntacticRepresentation srcRep,
       SyntacticRepresentation tgtRep,
       Properties config) {
-    Answer<KnowledgeCarrier> ast =
-        getParser().flatMap(parser ->
-            parser.applyLift(
-                AbstractCarrier.of(bytes, srcRep)
-                    .withLevel(Encoded_Knowledge_Expression),
-                Abstract_Knowledge_Expression,
-                codedRep(srcRep.getLanguage()),
-                PropertiesUtil.serializeProps(config))
-        );
-    return ast
-        .map(KnowledgeCarrier::getExpression)
-        .flatOpt(
-            srcAst -> this
-                .transformAst(assetId, srcArtifactId, (S) srcAst, rep(srcRep.getLanguage()), tgtRep,
-                    config))
+    return liftToAst(AbstractCarrier.of(bytes, srcRep)
+        .withLevel(Encoded_Knowledge_Expression), config)
+        .flatMap(srcAst -> transformAst(
+            assetId, srcArtifactId, srcAst, rep(srcRep.getLanguage()), tgtRep, config));
+  }
+
+  /**
+   * Lifts an expression to an AST, in one step.
+   * Parsers that are known to the platform are invoked directly, with the configuration
+   * as is; others through the (String-based) API.
+   *
+   * @param src    the expression to lift
+   * @param config the translation configuration
+   * @return the AST of the expression
+   */
+  protected Optional<S> liftToAst(KnowledgeCarrier src, Properties config) {
+    SyntacticRepresentation astRep = rep(src.getRepresentation().getLanguage());
+    Optional<KnowledgeCarrier> ast;
+    Optional<_applyLift> parser = getParser().getOptionalValue();
+    if (parser.isEmpty()) {
+      return Optional.empty();
+    }
+    if (parser.get() instanceof AbstractDeSerializeOperator) {
+      try {
+        ast = ((AbstractDeSerializeOperator) parser.get())
+            .lift(src, Abstract_Knowledge_Expression, astRep, config);
+      } catch (UnsupportedOperationException e) {
+        ast = Optional.empty();
+      }
+    } else {
+      ast = parser.get().applyLift(
+          src,
+          Abstract_Knowledge_Expression,
+          codedRep(astRep),
+          PropertiesUtil.serializeProps(config))
+          .getOptionalValue();
+    }
+    return ast.map(kc -> (S) kc.getExpression());
+  }
+
+  private Optional<KnowledgeCarrier> lowerFromAst(
+      _applyLower parser,
+      KnowledgeCarrier ast,
+      ParsingLevel tgtLevel,
+      SyntacticRepresentation tgtRep) {
+    if (parser instanceof AbstractDeSerializeOperator) {
+      try {
+        // lowering completes the target representation, which is not ours to modify
+        return ((AbstractDeSerializeOperator) parser)
+            .lower(ast, tgtLevel, (SyntacticRepresentation) tgtRep.clone(), new Properties());
+      } catch (UnsupportedOperationException e) {
+        return Optional.empty();
+      }
+    }
+    return parser.applyLower(ast, tgtLevel, codedRep(tgtRep), null)
         .getOptionalValue();
   }
 
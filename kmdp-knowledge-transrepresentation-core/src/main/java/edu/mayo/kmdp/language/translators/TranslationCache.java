@@ -0,0 +1,321 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.translators;
+
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.asEnum;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import edu.mayo.kmdp.language.translators.TranslationCacheConfig.TranslationCacheParams;
+import edu.mayo.kmdp.util.Util;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opt-in cache of translation results, with a size bounded in-memory tier, and an optional,
+ * unbounded on-disk tier.
+ * <p>
+ * Translations are keyed by the translator, the (version) ids and label of the source artifact,
+ * a (128 bit) hash of its content, the source and target representations, and the (normalized)
+ * configuration. Only serialized and encoded artifacts can be hashed: parsed artifacts are
+ * only cached if {@link TranslationCacheParams#CACHE_PARSED} is set, and the artifact is
+ * versioned, on the assumption that versioned artifacts never change.
+ * Configurations with non-String values (e.g. programmatic objects) are not cached,
+ * nor are failed translations.
+ * <p>
+ * Clients receive copies of the cached carriers, which they can modify freely. The expressions
+ * are copied deeply if they are {@link Cloneable}, FHIR (STU3 or R4) resources, or Jena models.
+ * Other expressions are shared between the copies, and should be treated as immutable.
+ * Only carriers that are {@link Serializable} are persisted to disk,
+ * with Java serialization. When reading them back, only the classes allowed by
+ * {@link TranslationCacheParams#DISK_CLASS_FILTER} are deserialized.
+ * Memory hit, miss and eviction counts are available via {@link #getStats()},
+ * disk hits and misses via {@link #getDiskHitCount()} and {@link #getDiskMissCount()}.
+ */
+public class TranslationCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(TranslationCache.class);
+
+  private static final HashFunction HASH = Hashing.murmur3_128();
+
+  private final Cache<String, KnowledgeCarrier> cache;
+
+  private final Path directory;
+
+  private final ObjectInputFilter diskFilter;
+
+  private final boolean cacheParsed;
+
+  private final AtomicLong diskHits = new AtomicLong();
+  private final AtomicLong diskMisses = new AtomicLong();
+
+  public TranslationCache() {
+    this(new TranslationCacheConfig());
+  }
+
+  public TranslationCache(TranslationCacheConfig cfg) {
+    int maxSize = cfg.getTyped(TranslationCacheParams.MAX_SIZE);
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    String dir = cfg.getTyped(TranslationCacheParams.DISK_DIRECTORY);
+    this.directory = Util.isEmpty(dir) ? null : Paths.get(dir);
+    this.diskFilter = ObjectInputFilter.Config.createFilter(
+        cfg.getTyped(TranslationCacheParams.DISK_CLASS_FILTER) + ";!*");
+    this.cacheParsed = cfg.getTyped(TranslationCacheParams.CACHE_PARSED);
+  }
+
+  /**
+   * Returns the cached result of a translation, or performs (and caches) the translation
+   *
+   * @param qualifier   additional key component, to discriminate the translators
+   * @param source      the artifact to translate
+   * @param tgtRep      the target representation
+   * @param config      the translation configuration
+   * @param translation the translation to perform in case of a miss
+   * @return the translated artifact, or a copy of the cached one
+   */
+  public Optional<KnowledgeCarrier> translate(
+      String qualifier,
+      KnowledgeCarrier source,
+      SyntacticRepresentation tgtRep,
+      Properties config,
+      Supplier<Optional<KnowledgeCarrier>> translation) {
+    Optional<String> key = keyOf(qualifier, source, tgtRep, config);
+    if (key.isEmpty()) {
+      return translation.get();
+    }
+    KnowledgeCarrier cached = cache.getIfPresent(key.get());
+    if (cached != null) {
+      return Optional.of(copyOf(cached));
+    }
+    Optional<KnowledgeCarrier> stored = readFromDisk(key.get());
+    if (stored.isPresent()) {
+      cache.put(key.get(), stored.get());
+      return stored.map(TranslationCache::copyOf);
+    }
+    Optional<KnowledgeCarrier> translated = translation.get();
+    translated.ifPresent(kc -> {
+      cache.put(key.get(), copyOf(kc));
+      writeToDisk(key.get(), kc);
+    });
+    return translated;
+  }
+
+  private static KnowledgeCarrier copyOf(KnowledgeCarrier carrier) {
+    KnowledgeCarrier copy = (KnowledgeCarrier) carrier.clone();
+    copy.setExpression(copyOfExpression(copy.getExpression()));
+    return copy;
+  }
+
+  /**
+   * Deep copies the (known) ASTs that {@link KnowledgeCarrier#clone()} would otherwise share
+   */
+  private static Object copyOfExpression(Object expression) {
+    if (expression instanceof org.hl7.fhir.dstu3.model.Resource) {
+      return ((org.hl7.fhir.dstu3.model.Resource) expression).copy();
+    }
+    if (expression instanceof org.hl7.fhir.r4.model.Resource) {
+      return ((org.hl7.fhir.r4.model.Resource) expression).copy();
+    }
+    if (expression instanceof Model) {
+      Model model = ModelFactory.createDefaultModel();
+      model.setNsPrefixes((Model) expression);
+      return model.add((Model) expression);
+    }
+    return expression;
+  }
+
+  /**
+   * @return hit/miss/eviction counts of the in-memory tier
+   */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  public long getDiskHitCount() {
+    return diskHits.get();
+  }
+
+  public long getDiskMissCount() {
+    return diskMisses.get();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * Clears the in-memory tier. The on-disk tier, if any, is not affected.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private Optional<String> keyOf(
+      String qualifier,
+      KnowledgeCarrier source,
+      SyntacticRepresentation tgtRep,
+      Properties config) {
+    if (source == null || source.getLevel() == null || source.getArtifactId() == null) {
+      return Optional.empty();
+    }
+    Optional<String> content;
+    switch (asEnum(source.getLevel())) {
+      case Encoded_Knowledge_Expression:
+        content = source.asBinary()
+            .map(bytes -> HASH.hashBytes(bytes).toString());
+        break;
+      case Serialized_Knowledge_Expression:
+        content = source.asString()
+            .map(str -> HASH.hashString(str, StandardCharsets.UTF_8).toString());
+        break;
+      default:
+        content = cacheParsed && source.getArtifactId().getVersionTag() != null
+            ? Optional.of("")
+            : Optional.empty();
+    }
+    Optional<String> props = normalize(config);
+    if (content.isEmpty() || props.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(String.join("\n",
+        String.valueOf(qualifier),
+        source.getLevel().getTag(),
+        idOf(source.getAssetId()),
+        idOf(source.getArtifactId()),
+        String.valueOf(source.getLabel()),
+        content.get(),
+        source.getRepresentation() != null ? codedRep(source.getRepresentation()) : "",
+        codedRep(tgtRep),
+        props.get()));
+  }
+
+  private static String idOf(ResourceIdentifier id) {
+    if (id == null) {
+      return "";
+    }
+    return id.getVersionId() != null
+        ? id.getVersionId().toString()
+        : id.getResourceId().toString();
+  }
+
+  /**
+   * @return the (sorted) configuration entries, including the defaults,
+   * or empty if the configuration has non-String entries
+   */
+  private static Optional<String> normalize(Properties config) {
+    if (config == null) {
+      return Optional.of("");
+    }
+    for (Map.Entry<Object, Object> entry : config.entrySet()) {
+      if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof String)) {
+        return Optional.empty();
+      }
+    }
+    Map<String, String> sorted = new TreeMap<>();
+    config.stringPropertyNames()
+        .forEach(name -> sorted.put(name, config.getProperty(name)));
+    return Optional.of(sorted.toString());
+  }
+
+  private Path fileOf(String key) {
+    return directory.resolve(HASH.hashString(key, StandardCharsets.UTF_8) + ".ser");
+  }
+
+  private Optional<KnowledgeCarrier> readFromDisk(String key) {
+    if (directory == null) {
+      return Optional.empty();
+    }
+    Path file = fileOf(key);
+    if (Files.exists(file)) {
+      try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(file))) {
+        in.setObjectInputFilter(diskFilter);
+        // the full key is stored alongside the carrier, to rule out hash collisions
+        if (key.equals(in.readObject())) {
+          Object carrier = in.readObject();
+          if (carrier instanceof KnowledgeCarrier) {
+            diskHits.incrementAndGet();
+            return Optional.of((KnowledgeCarrier) carrier);
+          }
+        }
+      } catch (IOException | ClassNotFoundException e) {
+        logger.warn("Unable to read cached translation {} : {}", file, e.getMessage());
+      }
+    }
+    diskMisses.incrementAndGet();
+    return Optional.empty();
+  }
+
+  private void writeToDisk(String key, KnowledgeCarrier carrier) {
+    if (directory == null || !(carrier instanceof Serializable)) {
+      return;
+    }
+    Path tmp = null;
+    try {
+      Files.createDirectories(directory);
+      tmp = Files.createTempFile(directory, "translation", ".tmp");
+      try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(tmp))) {
+        out.writeObject(key);
+        out.writeObject(carrier);
+      }
+      // concurrent writers of the same entry write the same content
+      Files.move(tmp, fileOf(key),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      // e.g. the translated expression is not serializable
+      logger.debug("Unable to persist translation : {}", e.getMessage());
+    } finally {
+      deleteQuietly(tmp);
+    }
+  }
+
+  private static void deleteQuietly(Path tmp) {
+    if (tmp == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(tmp);
+    } catch (IOException e) {
+      logger.debug(e.getMessage(), e);
+    }
+  }
+
+}
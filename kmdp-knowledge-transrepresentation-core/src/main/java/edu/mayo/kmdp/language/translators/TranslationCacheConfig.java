@@ -0,0 +1,88 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.translators;
+
+import edu.mayo.kmdp.ConfigProperties;
+import edu.mayo.kmdp.Opt;
+import edu.mayo.kmdp.Option;
+import edu.mayo.kmdp.language.translators.TranslationCacheConfig.TranslationCacheParams;
+import java.util.Properties;
+
+@SuppressWarnings("unchecked")
+public class TranslationCacheConfig extends
+    ConfigProperties<TranslationCacheConfig, TranslationCacheParams> {
+
+  private static final Properties DEFAULTS = defaulted(TranslationCacheParams.class);
+
+  public TranslationCacheConfig() {
+    super(DEFAULTS);
+  }
+
+  public TranslationCacheConfig(Properties defaults) {
+    super(defaults);
+  }
+
+  @Override
+  public TranslationCacheParams[] properties() {
+    return TranslationCacheParams.values();
+  }
+
+  public enum TranslationCacheParams implements Option<TranslationCacheParams> {
+
+    MAX_SIZE(Opt.of(
+        "maxSize",
+        "1000",
+        "Maximum number of translations retained in memory, least recently used ones are evicted first",
+        Integer.class,
+        false)),
+
+    DISK_DIRECTORY(Opt.of(
+        "diskDirectory",
+        "",
+        "Directory of the (optional) on-disk tier, where serializable translations are persisted",
+        String.class,
+        false)),
+
+    DISK_CLASS_FILTER(Opt.of(
+        "diskClassFilter",
+        "java.lang.*;java.util.**;java.net.URI;java.net.URL;java.math.*;java.time.*;"
+            + "sun.util.calendar.ZoneInfo;javax.xml.datatype.*;"
+            + "com.sun.org.apache.xerces.internal.jaxp.datatype.*;"
+            + "org.omg.spec.**;org.hl7.fhir.**;ca.uhn.fhir.**;edu.mayo.**",
+        "Classes (as ObjectInputFilter patterns) that may be read back from the on-disk tier, "
+            + "in addition to arrays of primitives. Any other class is rejected",
+        String.class,
+        false)),
+
+    CACHE_PARSED(Opt.of(
+        "cacheParsed",
+        "false",
+        "Also cache the translations of parsed expressions of versioned artifacts, "
+            + "assuming that versioned artifacts are immutable",
+        Boolean.class,
+        false));
+
+    private Opt<TranslationCacheParams> opt;
+
+    TranslationCacheParams(Opt<TranslationCacheParams> opt) {
+      this.opt = opt;
+    }
+
+    @Override
+    public Opt<TranslationCacheParams> getOption() {
+      return opt;
+    }
+
+  }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright © 2018 Mayo Clinic (RSTKNOWLEDGEMGMT@mayo.edu)
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package edu.mayo.kmdp.language.translators.cmmn.v1_1;
+
+import edu.mayo.kmdp.ConfigProperties;
+import edu.mayo.kmdp.Opt;
+import edu.mayo.kmdp.Option;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.CmmnToPlanDefConfig.CmmnToPlanDefParams;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuration of the CMMN to PlanDefinition translators (STU3 and R4).
+ * <p>
+ * When {@link CmmnToPlanDefParams#PARALLEL_STAGES} is set, the sibling Stages of the case plan
+ * are translated concurrently, and their actions merged in document order. The Stages are
+ * translated using the {@link Executor} set (programmatically) under {@link #STAGE_EXECUTOR},
+ * else the one set on the translator (see e.g. {@code withStageExecutor}),
+ * else the common {@link ForkJoinPool}.
+ */
+@SuppressWarnings("unchecked")
+public class CmmnToPlanDefConfig extends
+    ConfigProperties<CmmnToPlanDefConfig, CmmnToPlanDefParams> {
+
+  /**
+   * Key of an {@link Executor} instance, which can only be set via {@link Properties#put}
+   */
+  public static final String STAGE_EXECUTOR = "stageExecutor";
+
+  private static final Properties DEFAULTS = defaulted(CmmnToPlanDefParams.class);
+
+  public CmmnToPlanDefConfig() {
+    super(DEFAULTS);
+  }
+
+  public CmmnToPlanDefConfig(Properties defaults) {
+    super(defaults);
+  }
+
+  @Override
+  public CmmnToPlanDefParams[] properties() {
+    return CmmnToPlanDefParams.values();
+  }
+
+  /**
+   * @param config the translator configuration
+   * @return the Executor to translate sibling Stages with, if parallel translation is enabled
+   */
+  public static Optional<Executor> getStageExecutor(Properties config) {
+    return getStageExecutor(config, null);
+  }
+
+  /**
+   * @param config          the translator configuration
+   * @param defaultExecutor the Executor to use if the configuration does not provide one,
+   *                        or null to use the common pool
+   * @return the Executor to translate sibling Stages with, if parallel translation is enabled
+   */
+  public static Optional<Executor> getStageExecutor(Properties config,
+      Executor defaultExecutor) {
+    if (config == null) {
+      return Optional.empty();
+    }
+    boolean parallel = new CmmnToPlanDefConfig(config)
+        .getTyped(CmmnToPlanDefParams.PARALLEL_STAGES);
+    if (!parallel) {
+      return Optional.empty();
+    }
+    Object executor = config.get(STAGE_EXECUTOR);
+    if (executor instanceof Executor) {
+      return Optional.of((Executor) executor);
+    }
+    return Optional.of(defaultExecutor != null ? defaultExecutor : ForkJoinPool.commonPool());
+  }
+
+  public enum CmmnToPlanDefParams implements Option<CmmnToPlanDefParams> {
+
+    PARALLEL_STAGES(Opt.of(
+        "parallelStages",
+        "false",
+        "Translate the sibling Stages of the case plan concurrently",
+        Boolean.class,
+        false));
+
+    private Opt<CmmnToPlanDefParams> opt;
+
+    CmmnToPlanDefParams(Opt<CmmnToPlanDefParams> opt) {
+      this.opt = opt;
+    }
+
+    @Override
+    public Opt<CmmnToPlanDefParams> getOption() {
+      return opt;
+    }
+
+  }
+}
@@ -25,9 +25,15 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import javax.xml.bind.JAXBElement;
 import javax.xml.namespace.QName;
@@ -91,8 +97,18 @@ public class CmmnToPlanDef {
   static final String CMIS_DOCUMENT_TYPE = "http://www.omg.org/spec/CMMN/DefinitionType/CMISDocument";
   static final String XSD_ELEMENT_TYPE = "http://www.omg.org/spec/CMMN/DefinitionType/XSDElement";
 
+  private final Executor stageExecutor;
+
   public CmmnToPlanDef() {
-    // nothing to do
+    this(null);
+  }
+
+  /**
+   * @param stageExecutor if not null, the executor used to translate the sibling Stages of the
+   *                      case plan concurrently
+   */
+  public CmmnToPlanDef(Executor stageExecutor) {
+    this.stageExecutor = stageExecutor;
   }
 
   public PlanDefinition transform(ResourceIdentifier assetId, TDefinitions caseModel) {
@@ -121,7 +137,7 @@ public class CmmnToPlanDef {
     mapSubject(cpm, caseModel);
 
     try {
-      processStage(tCase.getCasePlanModel(), assetId, caseModel)
+      processStage(tCase.getCasePlanModel(), assetId, caseModel, stageExecutor)
           .forEach(cpm::addAction);
     } catch (Throwable t) {
       t.printStackTrace();
@@ -149,9 +165,10 @@ public class CmmnToPlanDef {
   private List<PlanDefinitionActionComponent> processStage(
       TStage stage,
       URI ccpmId,
-      TDefinitions caseModel) {
+      TDefinitions caseModel,
+      Executor executor) {
     List<PlanDefinitionActionComponent> mappedPlanElements
-        = processStageInternals(stage, ccpmId, caseModel);
+        = processStageInternals(stage, ccpmId, caseModel, executor);
 
     PlanDefinitionActionComponent group = new PlanDefinitionActionComponent();
 
@@ -178,11 +195,25 @@ public class CmmnToPlanDef {
 
 
   private List<PlanDefinitionActionComponent> processStageInternals(TStage stage,
-      URI ccpmId, TDefinitions caseModel) {
+      URI ccpmId, TDefinitions caseModel, Executor executor) {
     List<PlanDefinitionActionComponent> mappedPlanElements = new ArrayList<>();
 
-    for (TPlanItem planItem : stage.getPlanItem()) {
-      processPlanItem(planItem, planItem.getDefinitionRef(), ccpmId, mappedPlanElements, caseModel);
+    Map<TPlanItem, CompletableFuture<List<PlanDefinitionActionComponent>>> subStages =
+        forkSubStages(stage, ccpmId, caseModel, executor);
+    try {
+      for (TPlanItem planItem : stage.getPlanItem()) {
+        CompletableFuture<List<PlanDefinitionActionComponent>> subStage = subStages.get(planItem);
+        if (subStage != null) {
+          mappedPlanElements.addAll(join(subStage));
+        } else {
+          processPlanItem(planItem, planItem.getDefinitionRef(), ccpmId, mappedPlanElements,
+              caseModel);
+        }
+      }
+    } catch (RuntimeException e) {
+      // the translation has failed: do not let the sibling Stages run on
+      subStages.values().forEach(pending -> pending.cancel(false));
+      throw e;
     }
 
     for (TDiscretionaryItem discretionaryItem : getDiscretionaryItems(stage.getPlanningTable())) {
@@ -190,13 +221,16 @@ public class CmmnToPlanDef {
           mappedPlanElements, caseModel);
     }
 
+    Map<String, PlanDefinitionActionComponent> actionsById = indexActions(mappedPlanElements);
+    Map<TSentry, TPlanItem> exitSentrySources = indexExitSentries(stage);
+
     for (TPlanItem planItem : stage.getPlanItem()) {
       List<TSentry> entrySentries = collectEntrySentries(planItem);
 
       for (TSentry sentry : entrySentries) {
         if (planItem.getDefinitionRef() instanceof TPlanItemDefinition) {
           processSequentiallyRelated((TPlanItemDefinition) planItem.getDefinitionRef(),
-              mappedPlanElements, stage, sentry);
+              actionsById, exitSentrySources, sentry);
         } else {
           throw new UnsupportedOperationException("Defensive!");
         }
@@ -206,6 +240,50 @@ public class CmmnToPlanDef {
     return mappedPlanElements;
   }
 
+  /**
+   * Starts the translation of the Stages nested in a Stage, if an executor is provided
+   * and there are at least two such Stages. Each nested Stage is translated sequentially,
+   * by one task, so that tasks never wait on other tasks submitted to the same executor.
+   *
+   * @return the pending translations, by plan item
+   */
+  private Map<TPlanItem, CompletableFuture<List<PlanDefinitionActionComponent>>> forkSubStages(
+      TStage stage, URI ccpmId, TDefinitions caseModel, Executor executor) {
+    if (executor == null) {
+      return Collections.emptyMap();
+    }
+    List<TPlanItem> stageItems = stage.getPlanItem().stream()
+        .filter(pi -> pi.getDefinitionRef() instanceof TStage)
+        .collect(Collectors.toList());
+    if (stageItems.size() < 2) {
+      return Collections.emptyMap();
+    }
+    Map<TPlanItem, CompletableFuture<List<PlanDefinitionActionComponent>>> subStages =
+        new IdentityHashMap<>();
+    for (TPlanItem planItem : stageItems) {
+      TStage subStage = (TStage) planItem.getDefinitionRef();
+      subStages.put(planItem, CompletableFuture.supplyAsync(
+          () -> processStage(subStage, ccpmId, caseModel, null), executor));
+    }
+    return subStages;
+  }
+
+  /**
+   * Waits for the translation of a nested Stage, rethrowing the cause of its failure, if any.
+   * The caller is responsible for cancelling the translations of the sibling Stages.
+   */
+  private List<PlanDefinitionActionComponent> join(
+      CompletableFuture<List<PlanDefinitionActionComponent>> subStage) {
+    try {
+      return subStage.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   private List<TDiscretionaryItem> getDiscretionaryItems(TPlanningTable tableItem) {
     if (tableItem == null) {
       return Collections.emptyList();
@@ -225,7 +303,8 @@ public class CmmnToPlanDef {
         mappedPlanElements
             .add(this.processDecisionTask(planItem, (TDecisionTask) definition, caseModel));
       } else if (definition instanceof TStage) {
-        mappedPlanElements.addAll(this.processStage((TStage) definition, ccpmId, caseModel));
+        mappedPlanElements.addAll(
+            this.processStage((TStage) definition, ccpmId, caseModel, null));
       } else if (definition instanceof TProcessTask) {
         // Implement mapping of TProcessTask
       } else if (definition instanceof TEventListener) {
@@ -312,14 +391,34 @@ public class CmmnToPlanDef {
     return sentries;
   }
 
-  private List<TSentry> collectExitSentries(TPlanItem planItem) {
-    List<TSentry> sentries = new ArrayList<>();
-    if (!planItem.getExitCriterion().isEmpty()) {
+  private Map<String, PlanDefinitionActionComponent> indexActions(
+      List<PlanDefinitionActionComponent> actions) {
+    Map<String, PlanDefinitionActionComponent> index = new HashMap<>();
+    for (PlanDefinitionActionComponent action : actions) {
+      if (action.getId() != null) {
+        index.putIfAbsent(action.getId(), action);
+      }
+    }
+    return index;
+  }
+
+  private Optional<PlanDefinitionActionComponent> findAction(
+      Map<String, PlanDefinitionActionComponent> scopedActions, String actionId) {
+    return Optional.ofNullable(scopedActions.get(actionId));
+  }
+
+  /**
+   * Maps each exit Sentry in the stage to the (first) plan item it is an exit criterion of.
+   * Sentries are resolved by identity, since criteria reference them via IDREF.
+   */
+  private Map<TSentry, TPlanItem> indexExitSentries(TStage stage) {
+    Map<TSentry, TPlanItem> index = new IdentityHashMap<>();
+    for (TPlanItem planItem : stage.getPlanItem()) {
       for (TExitCriterion exitCriterion : planItem.getExitCriterion()) {
-        sentries.add((TSentry) exitCriterion.getSentryRef());
+        index.putIfAbsent((TSentry) exitCriterion.getSentryRef(), planItem);
       }
     }
-    return sentries;
+    return index;
   }
 
 
@@ -348,8 +447,8 @@ public class CmmnToPlanDef {
 
   private void processSequentiallyRelated(
       TPlanItemDefinition itemWithSentry,
-      List<PlanDefinitionActionComponent> scopedActions,
-      TStage stage, TSentry sentry) {
+      Map<String, PlanDefinitionActionComponent> scopedActions,
+      Map<TSentry, TPlanItem> exitSentrySources, TSentry sentry) {
 
     if (sentry.getOnPart() != null && !sentry.getOnPart().isEmpty()) {
       TOnPart onPart = sentry.getOnPart().get(0).getValue();
@@ -359,14 +458,10 @@ public class CmmnToPlanDef {
         Object sourceRef = planItemOnPartPart.getSourceRef();
         if (sourceRef instanceof TSentry) {
           TSentry src = (TSentry) sourceRef;
-          Optional<Object> itemRef = stage.getPlanItem().stream()
-              .filter(pi -> collectExitSentries(pi).contains(src))
-              .findFirst()
+          Optional<Object> itemRef = Optional.ofNullable(exitSentrySources.get(src))
               .map(TPlanItem::getDefinitionRef);
           if (itemRef.isPresent() && itemRef.get() instanceof TPlanItemDefinition) {
-            scopedActions.stream()
-                .filter(act -> act.getId().equals(itemWithSentry.getId()))
-                .findFirst()
+            findAction(scopedActions, itemWithSentry.getId())
                 .ifPresent(act -> act.addRelatedAction(
                     new PlanDefinitionActionRelatedActionComponent()
                         .setRelationship(ActionRelationshipType.AFTER)
@@ -376,9 +471,8 @@ public class CmmnToPlanDef {
           TPlanItem sourceItem = (TPlanItem) sourceRef;
           Object sourceDef = sourceItem.getDefinitionRef();
 
-          Optional<PlanDefinitionActionComponent> whiteActOpt = scopedActions.stream()
-              .filter(act -> act.getId().equals(itemWithSentry.getId()))
-              .findFirst();
+          Optional<PlanDefinitionActionComponent> whiteActOpt =
+              findAction(scopedActions, itemWithSentry.getId());
           PlanDefinitionActionComponent whiteAct = whiteActOpt.orElseThrow();
 
           if (sourceDef instanceof TPlanItem) {
@@ -395,18 +489,16 @@ public class CmmnToPlanDef {
                 .setType(TriggerType.NAMEDEVENT);
           } else if (sourceDef instanceof TStage) {
             TStage srcStage = (TStage) sourceDef;
-            PlanDefinitionActionComponent blackAct = scopedActions.stream()
-                .filter(act -> act.getId().equals(srcStage.getId()))
-                .findFirst().orElseThrow();
+            PlanDefinitionActionComponent blackAct =
+                findAction(scopedActions, srcStage.getId()).orElseThrow();
             whiteAct.addRelatedAction(
                 new PlanDefinitionActionRelatedActionComponent()
                     .setRelationship(ActionRelationshipType.AFTER)
                     .setActionId(blackAct.getId()));
           } else if (sourceDef instanceof TTask) {
             TTask srcTask = (TTask) sourceDef;
-            PlanDefinitionActionComponent blackAct = scopedActions.stream()
-                .filter(act -> act.getId().equals(srcTask.getId()))
-                .findFirst().orElseThrow();
+            PlanDefinitionActionComponent blackAct =
+                findAction(scopedActions, srcTask.getId()).orElseThrow();
             whiteAct.addRelatedAction(
                 new PlanDefinitionActionRelatedActionComponent()
                     .setRelationship(ActionRelationshipType.AFTER)
@@ -444,9 +536,8 @@ public class CmmnToPlanDef {
         Object sourceRef = caseFileItemOnPart.getSourceRef();
         if (sourceRef instanceof TCaseFileItem) {
           TCaseFileItem srcCFI = (TCaseFileItem) sourceRef;
-          PlanDefinitionActionComponent whiteAct = scopedActions.stream()
-              .filter(act -> act.getId().equals(itemWithSentry.getId()))
-              .findFirst().orElseThrow();
+          PlanDefinitionActionComponent whiteAct =
+              findAction(scopedActions, itemWithSentry.getId()).orElseThrow();
           whiteAct.addTrigger()
               .setType(TriggerType.DATACHANGED)
               .setName(srcCFI.getName());
@@ -460,9 +551,8 @@ public class CmmnToPlanDef {
           Object sourceDef = sourceRef.getDefinitionRef();
           if (sourceDef instanceof TEventListener) {
             TEventListener eventListener = (TEventListener) sourceDef;
-            PlanDefinitionActionComponent whiteAct = scopedActions.stream()
-                .filter(act -> act.getId().equals(itemWithSentry.getId()))
-                .findFirst().orElseThrow();
+            PlanDefinitionActionComponent whiteAct =
+                findAction(scopedActions, itemWithSentry.getId()).orElseThrow();
             whiteAct.addTrigger()
                 .setType(TriggerType.NAMEDEVENT)
                 .setName(eventListener.getName());
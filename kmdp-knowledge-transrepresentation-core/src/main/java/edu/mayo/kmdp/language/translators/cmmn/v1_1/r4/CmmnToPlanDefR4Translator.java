@@ -25,10 +25,12 @@ import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.PCV;
 import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SNOMED_CT;
 
 import edu.mayo.kmdp.language.translators.AbstractSimpleTranslator;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.CmmnToPlanDefConfig;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import javax.inject.Named;
 import org.hl7.fhir.r4.model.PlanDefinition;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
@@ -48,10 +50,23 @@ public class CmmnToPlanDefR4Translator
   public static final UUID id = UUID.fromString("e39b5b44-d882-4e51-9dc8-0fce1acbb0d0");
   public static final String version = "1.0.0";
 
+  private Executor stageExecutor;
+
   public CmmnToPlanDefR4Translator() {
     setId(SemanticIdentifier.newId(id,version));
   }
 
+  /**
+   * Sets the Executor used to translate sibling Stages, when parallelStages is enabled
+   *
+   * @param stageExecutor the executor, or null to use the common pool
+   * @return this translator
+   */
+  public CmmnToPlanDefR4Translator withStageExecutor(Executor stageExecutor) {
+    this.stageExecutor = stageExecutor;
+    return this;
+  }
+
   @Override
   public List<SyntacticRepresentation> getFrom() {
     return singletonList(rep(CMMN_1_1));
@@ -71,7 +86,10 @@ public class CmmnToPlanDefR4Translator
       SyntacticRepresentation srcRep,
       SyntacticRepresentation tgtRep,
       Properties config) {
-    return Optional.ofNullable(new CmmnToPlanDef().transform(assetId, expression));
+    CmmnToPlanDef translator = CmmnToPlanDefConfig.getStageExecutor(config, stageExecutor)
+        .map(CmmnToPlanDef::new)
+        .orElseGet(CmmnToPlanDef::new);
+    return Optional.ofNullable(translator.transform(assetId, expression));
   }
 
   @Override
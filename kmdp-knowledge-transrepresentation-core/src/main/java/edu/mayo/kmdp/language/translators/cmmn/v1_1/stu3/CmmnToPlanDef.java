@@ -35,9 +35,15 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import javax.xml.bind.JAXBElement;
 import org.hl7.fhir.dstu3.model.Attachment;
@@ -102,8 +108,18 @@ public class CmmnToPlanDef {
   static final String CMIS_DOCUMENT_TYPE = "http://www.omg.org/spec/CMMN/DefinitionType/CMISDocument";
   static final String XSD_ELEMENT_TYPE = "http://www.omg.org/spec/CMMN/DefinitionType/XSDElement";
 
+  private final Executor stageExecutor;
+
   public CmmnToPlanDef() {
-    // nothing to do
+    this(null);
+  }
+
+  /**
+   * @param stageExecutor if not null, the executor used to translate the sibling Stages of the
+   *                      case plan concurrently
+   */
+  public CmmnToPlanDef(Executor stageExecutor) {
+    this.stageExecutor = stageExecutor;
   }
 
   public PlanDefinition transform(
@@ -138,7 +154,7 @@ public class CmmnToPlanDef {
     mapTopic(cpm, caseModel);
 
     try {
-      processStage(tCase.getCasePlanModel(), assetId, caseModel)
+      processStage(tCase.getCasePlanModel(), assetId, caseModel, stageExecutor)
           .forEach(cpm::addAction);
     } catch (Throwable t) {
       t.printStackTrace();
@@ -170,9 +186,10 @@ public class CmmnToPlanDef {
   private List<PlanDefinition.PlanDefinitionActionComponent> processStage(
       TStage stage,
       ResourceIdentifier assetId,
-      TDefinitions caseModel) {
+      TDefinitions caseModel,
+      Executor executor) {
     List<PlanDefinition.PlanDefinitionActionComponent> mappedPlanElements
-        = processStageInternals(stage, assetId, caseModel);
+        = processStageInternals(stage, assetId, caseModel, executor);
 
     var group = new PlanDefinitionActionComponent();
 
@@ -202,12 +219,25 @@ public class CmmnToPlanDef {
 
 
   private List<PlanDefinitionActionComponent> processStageInternals(TStage stage,
-      ResourceIdentifier assetId, TDefinitions caseModel) {
+      ResourceIdentifier assetId, TDefinitions caseModel, Executor executor) {
     List<PlanDefinition.PlanDefinitionActionComponent> mappedPlanElements = new ArrayList<>();
 
-    for (TPlanItem planItem : stage.getPlanItem()) {
-      processPlanItem(planItem, planItem.getDefinitionRef(), assetId, mappedPlanElements,
-          caseModel);
+    Map<TPlanItem, CompletableFuture<List<PlanDefinitionActionComponent>>> subStages =
+        forkSubStages(stage, assetId, caseModel, executor);
+    try {
+      for (TPlanItem planItem : stage.getPlanItem()) {
+        CompletableFuture<List<PlanDefinitionActionComponent>> subStage = subStages.get(planItem);
+        if (subStage != null) {
+          mappedPlanElements.addAll(join(subStage));
+        } else {
+          processPlanItem(planItem, planItem.getDefinitionRef(), assetId, mappedPlanElements,
+              caseModel);
+        }
+      }
+    } catch (RuntimeException e) {
+      // the translation has failed: do not let the sibling Stages run on
+      subStages.values().forEach(pending -> pending.cancel(false));
+      throw e;
     }
 
     for (TDiscretionaryItem discretionaryItem : getDiscretionaryItems(stage.getPlanningTable())) {
@@ -215,13 +245,16 @@ public class CmmnToPlanDef {
           mappedPlanElements, caseModel);
     }
 
+    Map<String, PlanDefinitionActionComponent> actionsById = indexActions(mappedPlanElements);
+    Map<TSentry, TPlanItem> exitSentrySources = indexExitSentries(stage);
+
     for (TPlanItem planItem : stage.getPlanItem()) {
       List<TSentry> entrySentries = collectEntrySentries(planItem);
 
       for (TSentry sentry : entrySentries) {
         if (planItem.getDefinitionRef() instanceof TPlanItemDefinition) {
           processSequentiallyRelated((TPlanItemDefinition) planItem.getDefinitionRef(),
-              mappedPlanElements, stage, sentry);
+              actionsById, exitSentrySources, sentry);
         } else {
           throw new UnsupportedOperationException("Defensive!");
         }
@@ -231,6 +264,50 @@ public class CmmnToPlanDef {
     return mappedPlanElements;
   }
 
+  /**
+   * Starts the translation of the Stages nested in a Stage, if an executor is provided
+   * and there are at least two such Stages. Each nested Stage is translated sequentially,
+   * by one task, so that tasks never wait on other tasks submitted to the same executor.
+   *
+   * @return the pending translations, by plan item
+   */
+  private Map<TPlanItem, CompletableFuture<List<PlanDefinitionActionComponent>>> forkSubStages(
+      TStage stage, ResourceIdentifier assetId, TDefinitions caseModel, Executor executor) {
+    if (executor == null) {
+      return Collections.emptyMap();
+    }
+    List<TPlanItem> stageItems = stage.getPlanItem().stream()
+        .filter(pi -> pi.getDefinitionRef() instanceof TStage)
+        .collect(Collectors.toList());
+    if (stageItems.size() < 2) {
+      return Collections.emptyMap();
+    }
+    Map<TPlanItem, CompletableFuture<List<PlanDefinitionActionComponent>>> subStages =
+        new IdentityHashMap<>();
+    for (TPlanItem planItem : stageItems) {
+      TStage subStage = (TStage) planItem.getDefinitionRef();
+      subStages.put(planItem, CompletableFuture.supplyAsync(
+          () -> processStage(subStage, assetId, caseModel, null), executor));
+    }
+    return subStages;
+  }
+
+  /**
+   * Waits for the translation of a nested Stage, rethrowing the cause of its failure, if any.
+   * The caller is responsible for cancelling the translations of the sibling Stages.
+   */
+  private List<PlanDefinitionActionComponent> join(
+      CompletableFuture<List<PlanDefinitionActionComponent>> subStage) {
+    try {
+      return subStage.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   private List<TDiscretionaryItem> getDiscretionaryItems(TPlanningTable tableItem) {
     if (tableItem == null) {
       return Collections.emptyList();
@@ -250,7 +327,8 @@ public class CmmnToPlanDef {
         mappedPlanElements
             .add(this.processDecisionTask(planItem, (TDecisionTask) definition, caseModel));
       } else if (definition instanceof TStage) {
-        mappedPlanElements.addAll(this.processStage((TStage) definition, assetId, caseModel));
+        mappedPlanElements.addAll(
+            this.processStage((TStage) definition, assetId, caseModel, null));
       } else if (definition instanceof TProcessTask) {
         // Implement mapping of TProcessTask
       } else if (definition instanceof TEventListener) {
@@ -368,14 +446,34 @@ public class CmmnToPlanDef {
     return sentries;
   }
 
-  private List<TSentry> collectExitSentries(TPlanItem planItem) {
-    List<TSentry> sentries = new ArrayList<>();
-    if (!planItem.getExitCriterion().isEmpty()) {
+  private Map<String, PlanDefinitionActionComponent> indexActions(
+      List<PlanDefinitionActionComponent> actions) {
+    Map<String, PlanDefinitionActionComponent> index = new HashMap<>();
+    for (PlanDefinitionActionComponent action : actions) {
+      if (action.getId() != null) {
+        index.putIfAbsent(action.getId(), action);
+      }
+    }
+    return index;
+  }
+
+  private Optional<PlanDefinitionActionComponent> findAction(
+      Map<String, PlanDefinitionActionComponent> scopedActions, String actionId) {
+    return Optional.ofNullable(scopedActions.get(actionId));
+  }
+
+  /**
+   * Maps each exit Sentry in the stage to the (first) plan item it is an exit criterion of.
+   * Sentries are resolved by identity, since criteria reference them via IDREF.
+   */
+  private Map<TSentry, TPlanItem> indexExitSentries(TStage stage) {
+    Map<TSentry, TPlanItem> index = new IdentityHashMap<>();
+    for (TPlanItem planItem : stage.getPlanItem()) {
       for (TExitCriterion exitCriterion : planItem.getExitCriterion()) {
-        sentries.add((TSentry) exitCriterion.getSentryRef());
+        index.putIfAbsent((TSentry) exitCriterion.getSentryRef(), planItem);
       }
     }
-    return sentries;
+    return index;
   }
 
 
@@ -402,8 +500,8 @@ public class CmmnToPlanDef {
 
   private void processSequentiallyRelated(
       TPlanItemDefinition itemWithSentry,
-      List<PlanDefinitionActionComponent> scopedActions,
-      TStage stage, TSentry sentry) {
+      Map<String, PlanDefinitionActionComponent> scopedActions,
+      Map<TSentry, TPlanItem> exitSentrySources, TSentry sentry) {
 
     if (sentry.getOnPart() != null && !sentry.getOnPart().isEmpty()) {
       // TODO - handle sentries with multiple, possibly hybrid, onParts better as needed
@@ -413,13 +511,13 @@ public class CmmnToPlanDef {
         TPlanItemOnPart planItemOnPartPart = (TPlanItemOnPart) onPart;
         Object sourceRef = planItemOnPartPart.getSourceRef();
         if (sourceRef instanceof TSentry) {
-          processPlanItemOnPartWithSentrySource(itemWithSentry, scopedActions, stage,
+          processPlanItemOnPartWithSentrySource(itemWithSentry, scopedActions, exitSentrySources,
               (TSentry) sourceRef);
         } else if (sourceRef instanceof TPlanItem) {
-          processPlanItemOnPartWithPlanItemSource(itemWithSentry, scopedActions, stage,
+          processPlanItemOnPartWithPlanItemSource(itemWithSentry, scopedActions,
               (TPlanItem) sourceRef);
         } else if (sourceRef instanceof TDiscretionaryItem) {
-          processPlanItemOnPartWithDiscretionarySource(itemWithSentry, scopedActions, stage,
+          processPlanItemOnPartWithDiscretionarySource(itemWithSentry, scopedActions,
               (TDiscretionaryItem) sourceRef);
         } else {
           throw new UnsupportedOperationException("Defensive!");
@@ -438,7 +536,7 @@ public class CmmnToPlanDef {
               "Defensive: Unable to handle Sentry with multiple CFI sources not connected to actual CFIs!");
         }
         processCFIOnPartWithCFISource(
-            itemWithSentry, scopedActions, stage, cfiOnParts);
+            itemWithSentry, scopedActions, cfiOnParts);
       } else {
         throw new UnsupportedOperationException("Defensive!");
       }
@@ -446,11 +544,10 @@ public class CmmnToPlanDef {
   }
 
   private void processCFIOnPartWithCFISource(TPlanItemDefinition itemWithSentry,
-      List<PlanDefinitionActionComponent> scopedActions, TStage stage,
+      Map<String, PlanDefinitionActionComponent> scopedActions,
       List<TCaseFileItemOnPart> sourceRef) {
-    PlanDefinitionActionComponent whiteAct = scopedActions.stream()
-        .filter(act -> act.getId().equals(itemWithSentry.getId()))
-        .findFirst().orElseThrow();
+    PlanDefinitionActionComponent whiteAct =
+        findAction(scopedActions, itemWithSentry.getId()).orElseThrow();
 
     var dataReq = new DataRequirement();
     sourceRef.stream()
@@ -500,20 +597,18 @@ public class CmmnToPlanDef {
   }
 
   private void processPlanItemOnPartWithDiscretionarySource(TPlanItemDefinition itemWithSentry,
-      List<PlanDefinitionActionComponent> scopedActions, TStage stage,
+      Map<String, PlanDefinitionActionComponent> scopedActions,
       TDiscretionaryItem sourceRef) {
     Object sourceDef = sourceRef.getDefinitionRef();
 
-    Optional<PlanDefinitionActionComponent> whiteActOpt = scopedActions.stream()
-        .filter(act -> act.getId().equals(itemWithSentry.getId()))
-        .findFirst();
+    Optional<PlanDefinitionActionComponent> whiteActOpt =
+        findAction(scopedActions, itemWithSentry.getId());
     PlanDefinitionActionComponent whiteAct = whiteActOpt.orElseThrow();
 
     if (sourceRef.getDefinitionRef() instanceof TTask) {
       TTask srcTask = (TTask) sourceDef;
-      PlanDefinitionActionComponent blackAct = scopedActions.stream()
-          .filter(act -> act.getId().equals(srcTask.getId()))
-          .findFirst().orElseThrow();
+      PlanDefinitionActionComponent blackAct =
+          findAction(scopedActions, srcTask.getId()).orElseThrow();
       whiteAct.addRelatedAction(
           new PlanDefinitionActionRelatedActionComponent()
               .setRelationship(ActionRelationshipType.AFTER)
@@ -522,12 +617,11 @@ public class CmmnToPlanDef {
   }
 
   private void processPlanItemOnPartWithPlanItemSource(TPlanItemDefinition itemWithSentry,
-      List<PlanDefinitionActionComponent> scopedActions, TStage stage, TPlanItem sourceItem) {
+      Map<String, PlanDefinitionActionComponent> scopedActions, TPlanItem sourceItem) {
     Object sourceDef = sourceItem.getDefinitionRef();
 
-    Optional<PlanDefinitionActionComponent> whiteActOpt = scopedActions.stream()
-        .filter(act -> act.getId().equals(itemWithSentry.getId()))
-        .findFirst();
+    Optional<PlanDefinitionActionComponent> whiteActOpt =
+        findAction(scopedActions, itemWithSentry.getId());
     PlanDefinitionActionComponent whiteAct = whiteActOpt.orElseThrow();
 
     if (sourceDef instanceof TPlanItem) {
@@ -544,18 +638,16 @@ public class CmmnToPlanDef {
           .setType(TriggerType.NAMEDEVENT);
     } else if (sourceDef instanceof TStage) {
       TStage srcStage = (TStage) sourceDef;
-      PlanDefinitionActionComponent blackAct = scopedActions.stream()
-          .filter(act -> act.getId().equals(srcStage.getId()))
-          .findFirst().orElseThrow();
+      PlanDefinitionActionComponent blackAct =
+          findAction(scopedActions, srcStage.getId()).orElseThrow();
       whiteAct.addRelatedAction(
           new PlanDefinitionActionRelatedActionComponent()
               .setRelationship(ActionRelationshipType.AFTER)
               .setActionId(blackAct.getId()));
     } else if (sourceDef instanceof TTask) {
       TTask srcTask = (TTask) sourceDef;
-      PlanDefinitionActionComponent blackAct = scopedActions.stream()
-          .filter(act -> act.getId().equals(srcTask.getId()))
-          .findFirst().orElseThrow();
+      PlanDefinitionActionComponent blackAct =
+          findAction(scopedActions, srcTask.getId()).orElseThrow();
       whiteAct.addRelatedAction(
           new PlanDefinitionActionRelatedActionComponent()
               .setRelationship(ActionRelationshipType.AFTER)
@@ -586,18 +678,14 @@ public class CmmnToPlanDef {
 
   private void processPlanItemOnPartWithSentrySource(
       TPlanItemDefinition itemWithSentry,
-      List<PlanDefinitionActionComponent> scopedActions,
-      TStage stage,
+      Map<String, PlanDefinitionActionComponent> scopedActions,
+      Map<TSentry, TPlanItem> exitSentrySources,
       TSentry sourceRef) {
     TSentry src = sourceRef;
-    Optional<Object> itemRef = stage.getPlanItem().stream()
-        .filter(pi -> collectExitSentries(pi).contains(src))
-        .findFirst()
+    Optional<Object> itemRef = Optional.ofNullable(exitSentrySources.get(src))
         .map(TPlanItem::getDefinitionRef);
     if (itemRef.isPresent() && itemRef.get() instanceof TPlanItemDefinition) {
-      scopedActions.stream()
-          .filter(act -> act.getId().equals(itemWithSentry.getId()))
-          .findFirst()
+      findAction(scopedActions, itemWithSentry.getId())
           .ifPresent(act -> act.addRelatedAction(
               new PlanDefinitionActionRelatedActionComponent()
                   .setRelationship(ActionRelationshipType.AFTER)
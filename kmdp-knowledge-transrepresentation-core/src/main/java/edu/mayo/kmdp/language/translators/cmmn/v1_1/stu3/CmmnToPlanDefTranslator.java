@@ -24,10 +24,12 @@ import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.PCV;
 import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SNOMED_CT;
 
 import edu.mayo.kmdp.language.translators.AbstractSimpleTranslator;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.CmmnToPlanDefConfig;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import javax.inject.Named;
 import org.hl7.fhir.dstu3.model.PlanDefinition;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
@@ -47,10 +49,23 @@ public class CmmnToPlanDefTranslator
   public static final UUID id = UUID.fromString("87402252-a8a1-46a4-be3a-9b04ce45fde7");
   public static final String version = "1.0.0";
 
+  private Executor stageExecutor;
+
   public CmmnToPlanDefTranslator() {
     setId(SemanticIdentifier.newId(id,version));
   }
 
+  /**
+   * Sets the Executor used to translate sibling Stages, when parallelStages is enabled
+   *
+   * @param stageExecutor the executor, or null to use the common pool
+   * @return this translator
+   */
+  public CmmnToPlanDefTranslator withStageExecutor(Executor stageExecutor) {
+    this.stageExecutor = stageExecutor;
+    return this;
+  }
+
   @Override
   public List<SyntacticRepresentation> getFrom() {
     return singletonList(rep(CMMN_1_1));
@@ -71,7 +86,10 @@ public class CmmnToPlanDefTranslator
       SyntacticRepresentation srcRep,
       SyntacticRepresentation tgtRep,
       Properties config) {
-    return Optional.ofNullable(new CmmnToPlanDef()
+    CmmnToPlanDef translator = CmmnToPlanDefConfig.getStageExecutor(config, stageExecutor)
+        .map(CmmnToPlanDef::new)
+        .orElseGet(CmmnToPlanDef::new);
+    return Optional.ofNullable(translator
         .transform(assetId, srcArtifactId, mapArtifactId(assetId, srcArtifactId), expression));
   }
 
@@ -14,17 +14,9 @@
 package edu.mayo.kmdp.language.translators.dmn.v1_2;
 
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.asId;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findBKM;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findDecision;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findInput;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findKnowledgeSource;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.getSubDecisionsClosure;
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.idToLocalRef;
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.idToRef;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.joins;
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.refToId;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.streamDecisionServices;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.streamDecisions;
 import static edu.mayo.kmdp.language.common.fhir.stu3.FHIRPlanDefinitionUtils.setKnowledgeIdentifiers;
 import static edu.mayo.kmdp.language.common.fhir.stu3.FHIRPlanDefinitionUtils.toCodeableConcept;
 import static edu.mayo.kmdp.util.NameUtils.nameToIdentifier;
@@ -38,20 +30,29 @@ import static java.util.Collections.singletonList;
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newVersionId;
 import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeassettype.KnowledgeAssetTypeSeries.Decision_Model;
 
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelDiff;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelIndex;
 import edu.mayo.kmdp.language.common.fhir.stu3.FHIRPlanDefinitionUtils;
 import edu.mayo.kmdp.util.NameUtils.IdentifierType;
 import edu.mayo.kmdp.util.StreamUtil;
 import edu.mayo.kmdp.util.Util;
 import edu.mayo.ontology.taxonomies.kao.decisiontype.DecisionTypeSeries;
 import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.hl7.fhir.dstu3.model.Attachment;
 import org.hl7.fhir.dstu3.model.CodeableConcept;
@@ -75,6 +76,8 @@ import org.omg.spec.api4kp._20200801.taxonomy.knowledgeassettype.KnowledgeAssetT
 import org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries;
 import org.omg.spec.dmn._20180521.model.TAuthorityRequirement;
 import org.omg.spec.dmn._20180521.model.TDMNElement.ExtensionElements;
+import org.omg.spec.dmn._20180521.model.TDMNElementReference;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
 import org.omg.spec.dmn._20180521.model.TDecision;
 import org.omg.spec.dmn._20180521.model.TDecisionService;
 import org.omg.spec.dmn._20180521.model.TDefinitions;
@@ -104,39 +107,121 @@ public class DmnToPlanDef {
     mapName(cpm, decisionModel);
     mapSubject(cpm, decisionModel);
 
-    mapDecisions(cpm, decisionModel);
+    mapDecisions(cpm, DmnModelIndex.of(decisionModel), PreviousActions.none());
 
     log.debug("Finished DMN to PDef  for {} ", decisionModel.getName());
     return cpm;
   }
 
-  private void mapDecisions(PlanDefinition cpm,
+  /**
+   * Incrementally re-translates a Decision Model, after it has been edited.
+   * <p>
+   * The DRG elements of the previous and current versions of the model are compared
+   * (see {@link DmnModelDiff}): only the Decisions and Decision Services that changed, or that
+   * depend on changed Input Data, Knowledge Sources, BKMs or Decision Services, are re-mapped.
+   * The actions of the other Decisions and Decision Services are taken from the previous
+   * PlanDefinition. Model-level properties and contained resources are always re-mapped.
+   * <p>
+   * The previous PlanDefinition is expected to be the translation of the previous model.
+   * Its actions are (deep) copied, so that the two PlanDefinitions do not share any structure.
+   *
+   * @param assetId         the id of the asset
+   * @param srcArtifactId   the id of the (current) source artifact
+   * @param tgtArtifactId   the id of the target artifact
+   * @param previousModel   the previous version of the Decision Model
+   * @param previousPlanDef the translation of the previous version of the Decision Model
+   * @param decisionModel   the current version of the Decision Model
+   * @return the translation of the current version of the Decision Model
+   */
+  public PlanDefinition transform(
+      ResourceIdentifier assetId,
+      ResourceIdentifier srcArtifactId,
+      ResourceIdentifier tgtArtifactId,
+      TDefinitions previousModel,
+      PlanDefinition previousPlanDef,
       TDefinitions decisionModel) {
+    return transform(assetId, srcArtifactId, tgtArtifactId,
+        DmnModelDiff.of(previousModel, decisionModel), previousPlanDef, decisionModel);
+  }
 
-    Collection<TDecisionService> dmnDecisionServices = streamDecisionServices(decisionModel)
-        .collect(Collectors.toList());
+  /**
+   * Incrementally re-translates a Decision Model, after it has been edited, given the diff
+   * between the previous and the current version of the model.
+   * <p>
+   * Allows to build the diff from the retained {@link DmnModelDiff.ElementHashes} of the previous
+   * version, so that only the current version needs to be hashed.
+   *
+   * @param assetId         the id of the asset
+   * @param srcArtifactId   the id of the (current) source artifact
+   * @param tgtArtifactId   the id of the target artifact
+   * @param diff            the diff between the previous and the current version of the model
+   * @param previousPlanDef the translation of the previous version of the Decision Model
+   * @param decisionModel   the current version of the Decision Model
+   * @return the translation of the current version of the Decision Model
+   * @see #transform(ResourceIdentifier, ResourceIdentifier, ResourceIdentifier, TDefinitions,
+   * PlanDefinition, TDefinitions)
+   */
+  public PlanDefinition transform(
+      ResourceIdentifier assetId,
+      ResourceIdentifier srcArtifactId,
+      ResourceIdentifier tgtArtifactId,
+      DmnModelDiff diff,
+      PlanDefinition previousPlanDef,
+      TDefinitions decisionModel) {
+    log.debug("Called incremental Translator DMN to PDF  for {}", decisionModel.getName());
+    var cpm = new PlanDefinition();
+
+    mapIdentity(cpm, assetId, srcArtifactId, tgtArtifactId);
+    mapName(cpm, decisionModel);
+    mapSubject(cpm, decisionModel);
+
+    var index = DmnModelIndex.of(decisionModel);
+    Set<String> stale = collectStale(index, diff.getChangedIds());
+    mapDecisions(cpm, index, new PreviousActions(previousPlanDef.getAction(), stale));
+
+    log.debug("Finished incremental DMN to PDef  for {} ({} stale elements)",
+        decisionModel.getName(), stale.size());
+    return cpm;
+  }
+
+  private void mapDecisions(PlanDefinition cpm,
+      DmnModelIndex index,
+      PreviousActions previous) {
 
-    Collection<TDecision> dmnDecisions = streamDecisions(decisionModel)
-        .filter(dec -> dmnDecisionServices.stream()
-            .noneMatch(ds -> isDecisionServiceScoped(dec, ds)))
+    Collection<TDecisionService> dmnDecisionServices = index.getDecisionServices();
+
+    Collection<TDecision> dmnDecisions = index.getDecisions().stream()
+        .filter(dec -> !index.isDecisionServiceScoped(dec))
         .collect(Collectors.toList());
 
     Map<String, PlanDefinitionActionComponent> mappedDecisions = new HashMap<>();
     dmnDecisions.stream()
-        .map(decision -> processDecision(cpm, cpm::addAction, decisionModel, decision))
+        .map(decision -> previous.reuseDecision(decision)
+            .map(act -> reuseDecision(cpm, index, decision, act))
+            .orElseGet(() -> processDecision(cpm, cpm::addAction, index, decision)))
         .forEach(act -> mappedDecisions.putIfAbsent(act.getId(), act));
 
     Map<String, PlanDefinitionActionComponent> mappedDecisionServices = new HashMap<>();
     dmnDecisionServices.stream()
-        .map(decisionService -> processDecisionService(cpm, decisionModel, decisionService))
+        .map(decisionService -> previous.reuseDecisionService(decisionService)
+            .map(act -> reuseDecisionService(cpm, index, decisionService, act))
+            .orElseGet(() -> processDecisionService(cpm, index, decisionService)))
         .forEach(act -> mappedDecisionServices.putIfAbsent(act.getId(), act));
 
+    // reused actions already carry their dependencies
+    dmnDecisions = dmnDecisions.stream()
+        .filter(decision -> !previous.isReused(decision.getId()))
+        .collect(Collectors.toList());
+    dmnDecisionServices = dmnDecisionServices.stream()
+        .filter(ds -> !previous.isReused(ds.getId()))
+        .collect(Collectors.toList());
+
     dmnDecisions
         .forEach(decision -> processDecisionToDecisionDependencies(
             cpm,
             mappedDecisions,
             decision,
-            decisionModel));
+            index));
 
     dmnDecisions
         .forEach(decision -> processDecisionToDecisionServiceDependencies(
@@ -144,7 +229,7 @@ public class DmnToPlanDef {
             mappedDecisions,
             mappedDecisionServices,
             decision,
-            decisionModel));
+            index));
 
     dmnDecisionServices
         .forEach(ds -> processDecisionServiceToDecisionServiceDependencies(
@@ -152,24 +237,14 @@ public class DmnToPlanDef {
             mappedDecisions,
             mappedDecisionServices,
             ds,
-            decisionModel));
-  }
-
-  private boolean isDecisionServiceScoped(TDecision dec, TDecisionService ds) {
-    boolean isOutput = ds.getOutputDecision().stream()
-        .anyMatch(ref -> joins(dec.getId(), ref.getHref()));
-    boolean isEncapsulated = ds.getEncapsulatedDecision().stream()
-        .anyMatch(ref -> joins(dec.getId(), ref.getHref()));
-    boolean isInput = ds.getInputDecision().stream()
-        .anyMatch(ref -> joins(dec.getId(), ref.getHref()));
-    return isOutput || isEncapsulated || isInput;
+            index));
   }
 
   private void processDecisionToDecisionDependencies(
       PlanDefinition cpm,
       Map<String, PlanDefinitionActionComponent> mappedDecisions,
       TDecision dmnDecision,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
 
     PlanDefinitionActionComponent srcAction =
         mappedDecisions.get(asId(dmnDecision.getId()));
@@ -187,7 +262,7 @@ public class DmnToPlanDef {
       Map<String, PlanDefinitionActionComponent> mappedDecisions,
       Map<String, PlanDefinitionActionComponent> mappedDecisionServices,
       TDecision dmnDecision,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
 
     PlanDefinitionActionComponent srcAction =
         mappedDecisions.get(asId(dmnDecision.getId()));
@@ -196,7 +271,7 @@ public class DmnToPlanDef {
         .stream()
         .filter(know -> know.getRequiredKnowledge() != null)
         .flatMap(ref -> lookupAsDecisionService(ref, mappedDecisionServices)
-            .or(() -> lookupViaBKM(decisionModel, ref, mappedDecisionServices))
+            .or(() -> lookupViaBKM(index, ref, mappedDecisionServices))
             .stream())
         .collect(Collectors.toList());
 
@@ -211,16 +286,14 @@ public class DmnToPlanDef {
       Map<String, PlanDefinitionActionComponent> mappedDecisions,
       Map<String, PlanDefinitionActionComponent> mappedDecisionServices,
       TDecisionService dmnDecisionService,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
 
     PlanDefinitionActionComponent srcAction =
         mappedDecisionServices.get(asId(dmnDecisionService.getId()));
 
     List<TDecision> serviceDecisions = dmnDecisionService.getOutputDecision().stream()
-        .map(out -> streamDecisions(decisionModel)
-            .filter(dec -> joins(dec.getId(), out.getHref()))
-            .findFirst().orElseThrow())
-        .flatMap(dec -> getSubDecisionsClosure(dec, decisionModel))
+        .map(out -> index.findDecision(out).orElseThrow())
+        .flatMap(index::getSubDecisionsClosure)
         .distinct()
         .collect(Collectors.toList());
 
@@ -228,7 +301,7 @@ public class DmnToPlanDef {
         .forEach(subDec -> subDec.getKnowledgeRequirement().stream()
             .filter(know -> know.getRequiredKnowledge() != null)
             .flatMap(ref -> lookupAsDecisionService(ref, mappedDecisionServices)
-                .or(() -> lookupViaBKM(decisionModel, ref, mappedDecisionServices))
+                .or(() -> lookupViaBKM(index, ref, mappedDecisionServices))
                 .stream())
             .forEach(subAct -> {
               addToScope(subAct, srcAction.getAction(), srcAction::addAction);
@@ -238,11 +311,102 @@ public class DmnToPlanDef {
   }
 
 
+  /**
+   * Collects the elements whose mapping is affected by a set of changed elements.
+   * An element depends on the elements it references, except for Decisions, which only
+   * reference their required Decisions by id. Decision Services also depend on the Decisions
+   * they (transitively) encapsulate, whose knowledge requirements are nested in their action.
+   */
+  private Set<String> collectStale(DmnModelIndex index, Set<String> changed) {
+    Map<String, List<String>> dependents = new HashMap<>();
+
+    for (TDecision dec : index.getDecisions()) {
+      dec.getInformationRequirement()
+          .forEach(info -> addDependency(dependents, dec, info.getRequiredInput()));
+      dec.getAuthorityRequirement()
+          .forEach(auth -> addDependency(dependents, dec, auth.getRequiredAuthority()));
+      dec.getKnowledgeRequirement()
+          .forEach(know -> addDependency(dependents, dec, know.getRequiredKnowledge()));
+    }
+    index.getBKMs().forEach(bkm -> bkm.getKnowledgeRequirement()
+        .forEach(know -> addDependency(dependents, bkm, know.getRequiredKnowledge())));
+    index.getKnowledgeSources().forEach(ks -> ks.getAuthorityRequirement()
+        .forEach(auth -> addDependency(dependents, ks, auth.getRequiredAuthority())));
+    for (TDecisionService ds : index.getDecisionServices()) {
+      ds.getInputData()
+          .forEach(input -> addDependency(dependents, ds, input));
+      ds.getOutputDecision().stream()
+          .flatMap(out -> index.findDecision(out).stream())
+          .flatMap(index::getSubDecisionsClosure)
+          .distinct()
+          .forEach(dec -> addDependency(dependents, ds, dec.getId()));
+    }
+
+    Set<String> stale = new HashSet<>(changed);
+    Deque<String> queue = new ArrayDeque<>(changed);
+    while (!queue.isEmpty()) {
+      dependents.getOrDefault(queue.pop(), Collections.emptyList()).stream()
+          .filter(stale::add)
+          .forEach(queue::add);
+    }
+    return stale;
+  }
+
+  private void addDependency(Map<String, List<String>> dependents,
+      TDRGElement element, TDMNElementReference ref) {
+    if (ref != null && ref.getHref() != null) {
+      String href = ref.getHref();
+      addDependency(dependents, element, href.substring(href.indexOf('#') + 1));
+    }
+  }
+
+  private void addDependency(Map<String, List<String>> dependents,
+      TDRGElement element, String requiredId) {
+    if (element.getId() != null && requiredId != null) {
+      dependents.computeIfAbsent(asId(requiredId), k -> new ArrayList<>())
+          .add(asId(element.getId()));
+    }
+  }
+
+  private PlanDefinitionActionComponent reuseDecision(
+      PlanDefinition cpm,
+      DmnModelIndex index,
+      TDecision decision,
+      PlanDefinitionActionComponent decisionAction) {
+    remapContainedKnowledgeSources(cpm, decision.getAuthorityRequirement(), index);
+    addToScope(decisionAction, cpm.getAction(), cpm::addAction);
+    return decisionAction;
+  }
+
+  private PlanDefinitionActionComponent reuseDecisionService(
+      PlanDefinition cpm,
+      DmnModelIndex index,
+      TDecisionService decisionService,
+      PlanDefinitionActionComponent serviceAction) {
+    decisionService.getOutputDecision().forEach(
+        out -> remapContainedKnowledgeSources(cpm,
+            index.findDecision(out).orElseThrow().getAuthorityRequirement(), index));
+    return serviceAction;
+  }
+
+  /**
+   * The Libraries mapped from the Knowledge Sources are contained in the PlanDefinition,
+   * rather than in the (reused) actions, and are re-mapped in the same order as a full
+   * translation would. The documentation mapped into the scratch action is discarded,
+   * since the reused action already has it.
+   */
+  private void remapContainedKnowledgeSources(PlanDefinition cpm,
+      List<TAuthorityRequirement> authorities, DmnModelIndex index) {
+    var scratch = new PlanDefinitionActionComponent();
+    authorities.forEach(know -> mapKnowledgeSource(know, cpm, scratch, index));
+  }
+
+
   private Optional<PlanDefinitionActionComponent> lookupViaBKM(
-      TDefinitions decisionModel,
+      DmnModelIndex index,
       TKnowledgeRequirement ref,
       Map<String, PlanDefinitionActionComponent> mappedDecisionServices) {
-    return findBKM(ref.getRequiredKnowledge(), decisionModel).stream()
+    return index.findBKM(ref.getRequiredKnowledge()).stream()
         .flatMap(bkm -> bkm.getKnowledgeRequirement().stream())
         .map(TKnowledgeRequirement::getRequiredKnowledge)
         .filter(Objects::nonNull)
@@ -280,7 +444,7 @@ public class DmnToPlanDef {
   private PlanDefinitionActionComponent processDecision(
       PlanDefinition cpm,
       Consumer<PlanDefinitionActionComponent> cpmScope,
-      TDefinitions decisionModel, TDecision decision) {
+      DmnModelIndex index, TDecision decision) {
     var decisionAction = new PlanDefinitionActionComponent();
     decisionAction.setTitle(ensureUTF8(decision.getName()));
     decisionAction.setId(asId(decision.getId()));
@@ -297,11 +461,11 @@ public class DmnToPlanDef {
         .forEach(decisionAction::addCode);
 
     decision.getAuthorityRequirement()
-        .forEach(know -> mapKnowledgeSource(know, cpm, decisionAction, decisionModel));
+        .forEach(know -> mapKnowledgeSource(know, cpm, decisionAction, index));
 
     decision.getInformationRequirement().stream()
         .filter(info -> info.getRequiredInput() != null)
-        .map(info -> findInput(info.getRequiredInput(), decisionModel))
+        .map(info -> index.findInput(info.getRequiredInput()))
         .flatMap(StreamUtil::trimStream)
         .map(this::mapInput)
         .forEach(decisionAction::addInput);
@@ -312,7 +476,7 @@ public class DmnToPlanDef {
 
 
   private PlanDefinitionActionComponent processDecisionService(PlanDefinition cpm,
-      TDefinitions decisionModel, TDecisionService decisionService) {
+      DmnModelIndex index, TDecisionService decisionService) {
     var serviceAction = new PlanDefinitionActionComponent();
     serviceAction.setTitle(ensureUTF8(decisionService.getName()));
     serviceAction.setId(asId(decisionService.getId()));
@@ -330,18 +494,18 @@ public class DmnToPlanDef {
 
     decisionService.getOutputDecision().forEach(
         out -> {
-          var outputDecision = findDecision(out, decisionModel)
+          var outputDecision = index.findDecision(out)
               .orElseThrow();
           mapOutput(outputDecision, serviceAction);
           outputDecision.getAuthorityRequirement().forEach(
-              ks -> mapKnowledgeSource(ks, cpm, serviceAction, decisionModel)
+              ks -> mapKnowledgeSource(ks, cpm, serviceAction, index)
           );
         }
     );
 
     decisionService.getInputData().forEach(
         input -> {
-          TInputData inputData = findInput(input, decisionModel)
+          TInputData inputData = index.findInput(input)
               .orElseThrow();
           serviceAction.addInput(mapInput(inputData));
         }
@@ -395,15 +559,15 @@ public class DmnToPlanDef {
 
   private void mapKnowledgeSource(TAuthorityRequirement know,
       PlanDefinition cpm, PlanDefinitionActionComponent decisionAction,
-      TDefinitions decisionModel) {
-    findKnowledgeSource(know.getRequiredAuthority(), decisionModel)
+      DmnModelIndex index) {
+    index.findKnowledgeSource(know.getRequiredAuthority())
         .ifPresent(knowledgeSource ->
-            mapKnowledgeSource(knowledgeSource, cpm, decisionAction, decisionModel));
+            mapKnowledgeSource(knowledgeSource, cpm, decisionAction, index));
   }
 
   private void mapKnowledgeSource(TKnowledgeSource knowledgeSource,
       PlanDefinition cpm, PlanDefinitionActionComponent decisionAction,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
     if (Util.isEmpty(knowledgeSource.getLocationURI())) {
       return;
     }
@@ -439,7 +603,7 @@ public class DmnToPlanDef {
 
       knowledgeSource.getAuthorityRequirement().stream()
           .flatMap(
-              auth -> findKnowledgeSource(auth.getRequiredAuthority(), decisionModel).stream())
+              auth -> index.findKnowledgeSource(auth.getRequiredAuthority()).stream())
           .forEach(
               ks -> lib.addRelatedArtifact()
                   .setType(RelatedArtifactType.COMPOSEDOF)
@@ -532,4 +696,68 @@ public class DmnToPlanDef {
     scope.accept(action);
   }
 
+
+  /**
+   * The actions of a previous translation, which can be reused for the elements that
+   * are not stale. Decision actions are top level, while Decision Service actions are nested
+   * within the actions of their clients. Reused actions are copies of the previous ones.
+   */
+  private static final class PreviousActions {
+
+    private final Map<String, PlanDefinitionActionComponent> decisionActions = new HashMap<>();
+    private final Map<String, PlanDefinitionActionComponent> serviceActions = new HashMap<>();
+    private final Set<String> stale;
+    private final Set<String> reused = new HashSet<>();
+
+    private PreviousActions(List<PlanDefinitionActionComponent> actions, Set<String> stale) {
+      this.stale = stale;
+      Set<PlanDefinitionActionComponent> visited =
+          Collections.newSetFromMap(new IdentityHashMap<>());
+      for (PlanDefinitionActionComponent act : actions) {
+        decisionActions.putIfAbsent(act.getId(), act);
+        collectServiceActions(act.getAction(), visited);
+      }
+    }
+
+    static PreviousActions none() {
+      return new PreviousActions(Collections.emptyList(), Collections.emptySet());
+    }
+
+    Optional<PlanDefinitionActionComponent> reuseDecision(TDecision decision) {
+      // removed, so that any duplicate is mapped afresh
+      return reuse(decision.getId(), decisionActions::remove);
+    }
+
+    Optional<PlanDefinitionActionComponent> reuseDecisionService(TDecisionService ds) {
+      return reuse(ds.getId(), serviceActions::get);
+    }
+
+    boolean isReused(String id) {
+      return id != null && reused.contains(asId(id));
+    }
+
+    private Optional<PlanDefinitionActionComponent> reuse(String id,
+        Function<String, PlanDefinitionActionComponent> lookup) {
+      if (id == null || stale.contains(asId(id))) {
+        return Optional.empty();
+      }
+      Optional<PlanDefinitionActionComponent> act = Optional.ofNullable(lookup.apply(asId(id)))
+          .map(PlanDefinitionActionComponent::copy);
+      act.ifPresent(x -> reused.add(asId(id)));
+      return act;
+    }
+
+    private void collectServiceActions(List<PlanDefinitionActionComponent> actions,
+        Set<PlanDefinitionActionComponent> visited) {
+      for (PlanDefinitionActionComponent act : actions) {
+        if (visited.add(act)) {
+          if (act.hasType() && "DecisionService".equals(act.getType().getCode())) {
+            serviceActions.putIfAbsent(act.getId(), act);
+          }
+          collectServiceActions(act.getAction(), visited);
+        }
+      }
+    }
+  }
+
 }
\ No newline at end of file
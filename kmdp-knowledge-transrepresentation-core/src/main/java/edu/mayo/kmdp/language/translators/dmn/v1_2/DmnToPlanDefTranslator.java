@@ -21,6 +21,10 @@ import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeReprese
 import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.PCV;
 import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SNOMED_CT;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelDiff;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelDiff.ElementHashes;
 import edu.mayo.kmdp.language.translators.AbstractSimpleTranslator;
 import edu.mayo.kmdp.util.Util;
 import java.net.URI;
@@ -30,10 +34,12 @@ import java.util.Properties;
 import java.util.UUID;
 import javax.inject.Named;
 import org.hl7.fhir.dstu3.model.PlanDefinition;
+import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
 import org.omg.spec.api4kp._20200801.id.SemanticIdentifier;
 import org.omg.spec.api4kp._20200801.services.KPOperation;
 import org.omg.spec.api4kp._20200801.services.KPSupport;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
 import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
 import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
 import org.omg.spec.dmn._20180521.model.TDefinitions;
@@ -46,6 +52,16 @@ public class DmnToPlanDefTranslator extends AbstractSimpleTranslator<TDefinition
   public static final UUID id = UUID.fromString("0e990fd3-66ea-45f6-a435-0be83e9654d3");
   public static final String version = "1.0.0";
 
+  /**
+   * The element hashes of the models translated incrementally, so that a model does not need
+   * to be hashed again when it becomes the previous version of the next edit.
+   * Keys are weak, and compared by identity.
+   */
+  private final Cache<TDefinitions, ElementHashes> hashes = CacheBuilder.newBuilder()
+      .weakKeys()
+      .maximumSize(64)
+      .build();
+
   public DmnToPlanDefTranslator() {
     setId(SemanticIdentifier.newId(id, version));
   }
@@ -74,6 +90,53 @@ public class DmnToPlanDefTranslator extends AbstractSimpleTranslator<TDefinition
         .transform(assetId, srcArtifactId, mapArtifactId(assetId, srcArtifactId), expression));
   }
 
+  /**
+   * Re-translates a Decision Model after it has been edited, re-mapping only the elements
+   * affected by the edits (see {@link DmnToPlanDef#transform(ResourceIdentifier,
+   * ResourceIdentifier, ResourceIdentifier, TDefinitions, PlanDefinition, TDefinitions)}).
+   * Falls back to a full translation unless both the previous source and its translation
+   * are available as ASTs.
+   * <p>
+   * The element hashes of the current model are retained, so that, when the model is edited
+   * again and passed back as the previous version, only the new version has to be hashed.
+   * Models are therefore expected not to be modified in place once translated.
+   *
+   * @param previousSrc the previous version of the Decision Model
+   * @param previousTgt the translation of the previous version of the Decision Model
+   * @param src         the current version of the Decision Model
+   * @return the translation of the current version of the Decision Model, or the reason
+   * why the Decision Model could not be translated
+   */
+  public Answer<KnowledgeCarrier> applyIncrementalTransrepresentation(
+      KnowledgeCarrier previousSrc,
+      KnowledgeCarrier previousTgt,
+      KnowledgeCarrier src) {
+    try {
+      SyntacticRepresentation tgtRep = checkTargetRepresentation(src, getInto().get(0));
+      Optional<TDefinitions> previousModel = previousSrc.as(TDefinitions.class);
+      Optional<PlanDefinition> previousPlanDef = previousTgt.as(PlanDefinition.class);
+      Optional<TDefinitions> decisionModel = src.as(TDefinitions.class);
+      if (previousModel.isEmpty() || previousPlanDef.isEmpty() || decisionModel.isEmpty()) {
+        return Answer.of(applyTransrepresentation(src, tgtRep, new Properties()));
+      }
+
+      ResourceIdentifier tgtArtifactId = mapArtifactId(src.getAssetId(), src.getArtifactId());
+      ElementHashes previousHashes = hashes.getIfPresent(previousModel.get());
+      DmnModelDiff diff = previousHashes != null
+          ? DmnModelDiff.of(previousHashes, decisionModel.get())
+          : DmnModelDiff.of(previousModel.get(), decisionModel.get());
+      hashes.put(decisionModel.get(), diff.getCurrentHashes());
+
+      PlanDefinition planDef = new DmnToPlanDef().transform(
+          src.getAssetId(), src.getArtifactId(), tgtArtifactId,
+          diff, previousPlanDef.get(), decisionModel.get());
+      return Answer.of(wrap(
+          tgtRep, planDef, mapAssetId(src.getAssetId()), tgtArtifactId, src.getLabel()));
+    } catch (RuntimeException e) {
+      return Answer.failed(e);
+    }
+  }
+
   @Override
   public KnowledgeRepresentationLanguage getSupportedLanguage() {
     return DMN_1_2;
@@ -14,17 +14,9 @@
 package edu.mayo.kmdp.language.translators.dmn.v1_2.r4;
 
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.asId;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findBKM;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findDecision;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findInput;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.findKnowledgeSource;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.getSubDecisionsClosure;
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.idToLocalRef;
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.idToRef;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.joins;
 import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.refToId;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.streamDecisionServices;
-import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.streamDecisions;
 import static edu.mayo.kmdp.language.common.fhir.r4.FHIRPlanDefinitionUtils.toCodeableConcept;
 import static edu.mayo.kmdp.util.NameUtils.nameToIdentifier;
 import static edu.mayo.kmdp.util.StreamUtil.filterAs;
@@ -35,6 +27,7 @@ import static edu.mayo.ontology.taxonomies.kmdo.semanticannotationreltype.Semant
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newVersionId;
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.DMN_1_2_XML_Syntax;
 
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelIndex;
 import edu.mayo.kmdp.language.common.fhir.r4.FHIRPlanDefinitionUtils;
 import edu.mayo.kmdp.util.NameUtils.IdentifierType;
 import edu.mayo.kmdp.util.StreamUtil;
@@ -96,31 +89,29 @@ public class DmnToPlanDefR4 {
     mapName(cpm, decisionModel);
     mapSubject(cpm, decisionModel);
 
-    mapDecisions(cpm, decisionModel);
+    mapDecisions(cpm, DmnModelIndex.of(decisionModel));
 
     log.debug("Finished DMN to PDef  for {} ", decisionModel.getName());
     return cpm;
   }
 
   private void mapDecisions(PlanDefinition cpm,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
 
-    Collection<TDecisionService> dmnDecisionServices = streamDecisionServices(decisionModel)
-        .collect(Collectors.toList());
+    Collection<TDecisionService> dmnDecisionServices = index.getDecisionServices();
 
-    Collection<TDecision> dmnDecisions = streamDecisions(decisionModel)
-        .filter(dec -> dmnDecisionServices.stream()
-            .noneMatch(ds -> isDecisionServiceScoped(dec, ds)))
+    Collection<TDecision> dmnDecisions = index.getDecisions().stream()
+        .filter(dec -> !index.isDecisionServiceScoped(dec))
         .collect(Collectors.toList());
 
     Map<String, PlanDefinitionActionComponent> mappedDecisions = new HashMap<>();
     dmnDecisions.stream()
-        .map(decision -> processDecision(cpm, cpm::addAction, decisionModel, decision))
+        .map(decision -> processDecision(cpm, cpm::addAction, index, decision))
         .forEach(act -> mappedDecisions.putIfAbsent(act.getId(), act));
 
     Map<String, PlanDefinitionActionComponent> mappedDecisionServices = new HashMap<>();
     dmnDecisionServices.stream()
-        .map(decisionService -> processDecisionService(cpm, decisionModel, decisionService))
+        .map(decisionService -> processDecisionService(cpm, index, decisionService))
         .forEach(act -> mappedDecisionServices.putIfAbsent(act.getId(), act));
 
     dmnDecisions
@@ -128,7 +119,7 @@ public class DmnToPlanDefR4 {
             cpm,
             mappedDecisions,
             decision,
-            decisionModel));
+            index));
 
     dmnDecisions
         .forEach(decision -> processDecisionToDecisionServiceDependencies(
@@ -136,7 +127,7 @@ public class DmnToPlanDefR4 {
             mappedDecisions,
             mappedDecisionServices,
             decision,
-            decisionModel));
+            index));
 
     dmnDecisionServices
         .forEach(ds -> processDecisionServiceToDecisionServiceDependencies(
@@ -144,24 +135,14 @@ public class DmnToPlanDefR4 {
             mappedDecisions,
             mappedDecisionServices,
             ds,
-            decisionModel));
-  }
-
-  private boolean isDecisionServiceScoped(TDecision dec, TDecisionService ds) {
-    boolean isOutput = ds.getOutputDecision().stream()
-        .anyMatch(ref -> joins(dec.getId(), ref.getHref()));
-    boolean isEncapsulated = ds.getEncapsulatedDecision().stream()
-        .anyMatch(ref -> joins(dec.getId(), ref.getHref()));
-    boolean isInput = ds.getInputDecision().stream()
-        .anyMatch(ref -> joins(dec.getId(), ref.getHref()));
-    return isOutput || isEncapsulated || isInput;
+            index));
   }
 
   private void processDecisionToDecisionDependencies(
       PlanDefinition cpm,
       Map<String, PlanDefinitionActionComponent> mappedDecisions,
       TDecision dmnDecision,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
 
     PlanDefinitionActionComponent srcAction =
         mappedDecisions.get(asId(dmnDecision.getId()));
@@ -179,7 +160,7 @@ public class DmnToPlanDefR4 {
       Map<String, PlanDefinitionActionComponent> mappedDecisions,
       Map<String, PlanDefinitionActionComponent> mappedDecisionServices,
       TDecision dmnDecision,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
 
     PlanDefinitionActionComponent srcAction =
         mappedDecisions.get(asId(dmnDecision.getId()));
@@ -188,7 +169,7 @@ public class DmnToPlanDefR4 {
         .stream()
         .filter(know -> know.getRequiredKnowledge() != null)
         .flatMap(ref -> lookupAsDecisionService(ref, mappedDecisionServices)
-            .or(() -> lookupViaBKM(decisionModel, ref, mappedDecisionServices))
+            .or(() -> lookupViaBKM(index, ref, mappedDecisionServices))
             .stream())
         .collect(Collectors.toList());
 
@@ -203,16 +184,14 @@ public class DmnToPlanDefR4 {
       Map<String, PlanDefinitionActionComponent> mappedDecisions,
       Map<String, PlanDefinitionActionComponent> mappedDecisionServices,
       TDecisionService dmnDecisionService,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
 
     PlanDefinitionActionComponent srcAction =
         mappedDecisionServices.get(asId(dmnDecisionService.getId()));
 
     List<TDecision> serviceDecisions = dmnDecisionService.getOutputDecision().stream()
-        .map(out -> streamDecisions(decisionModel)
-            .filter(dec -> joins(dec.getId(), out.getHref()))
-            .findFirst().orElseThrow())
-        .flatMap(dec -> getSubDecisionsClosure(dec, decisionModel))
+        .map(out -> index.findDecision(out).orElseThrow())
+        .flatMap(index::getSubDecisionsClosure)
         .distinct()
         .collect(Collectors.toList());
 
@@ -220,7 +199,7 @@ public class DmnToPlanDefR4 {
         .forEach(subDec -> subDec.getKnowledgeRequirement().stream()
             .filter(know -> know.getRequiredKnowledge() != null)
             .flatMap(ref -> lookupAsDecisionService(ref, mappedDecisionServices)
-                .or(() -> lookupViaBKM(decisionModel, ref, mappedDecisionServices))
+                .or(() -> lookupViaBKM(index, ref, mappedDecisionServices))
                 .stream())
             .forEach(subAct -> {
               addToScope(subAct, srcAction.getAction(), srcAction::addAction);
@@ -231,10 +210,10 @@ public class DmnToPlanDefR4 {
 
 
   private Optional<PlanDefinitionActionComponent> lookupViaBKM(
-      TDefinitions decisionModel,
+      DmnModelIndex index,
       TKnowledgeRequirement ref,
       Map<String, PlanDefinitionActionComponent> mappedDecisionServices) {
-    return findBKM(ref.getRequiredKnowledge(), decisionModel).stream()
+    return index.findBKM(ref.getRequiredKnowledge()).stream()
         .flatMap(bkm -> bkm.getKnowledgeRequirement().stream())
         .map(TKnowledgeRequirement::getRequiredKnowledge)
         .filter(Objects::nonNull)
@@ -265,7 +244,7 @@ public class DmnToPlanDefR4 {
   private PlanDefinitionActionComponent processDecision(
       PlanDefinition cpm,
       Consumer<PlanDefinitionActionComponent> cpmScope,
-      TDefinitions decisionModel, TDecision decision) {
+      DmnModelIndex index, TDecision decision) {
     PlanDefinitionActionComponent decisionAction = new PlanDefinitionActionComponent();
     decisionAction.setTitle(decision.getName());
     decisionAction.setId(asId(decision.getId()));
@@ -279,11 +258,11 @@ public class DmnToPlanDefR4 {
         .forEach(decisionAction::addCode);
 
     decision.getAuthorityRequirement()
-        .forEach(know -> mapKnowledgeSource(know, cpm, decisionAction, decisionModel));
+        .forEach(know -> mapKnowledgeSource(know, cpm, decisionAction, index));
 
     decision.getInformationRequirement().stream()
         .filter(info -> info.getRequiredInput() != null)
-        .map(info -> findInput(info.getRequiredInput(), decisionModel))
+        .map(info -> index.findInput(info.getRequiredInput()))
         .flatMap(StreamUtil::trimStream)
         .map(this::mapInput)
         .forEach(decisionAction::addInput);
@@ -294,7 +273,7 @@ public class DmnToPlanDefR4 {
 
 
   private PlanDefinitionActionComponent processDecisionService(PlanDefinition cpm,
-      TDefinitions decisionModel, TDecisionService decisionService) {
+      DmnModelIndex index, TDecisionService decisionService) {
     PlanDefinitionActionComponent serviceAction = new PlanDefinitionActionComponent();
     serviceAction.setTitle(decisionService.getName());
     serviceAction.setId(asId(decisionService.getId()));
@@ -310,18 +289,18 @@ public class DmnToPlanDefR4 {
 
     decisionService.getOutputDecision().forEach(
         out -> {
-          TDecision outputDecision = findDecision(out, decisionModel)
+          TDecision outputDecision = index.findDecision(out)
               .orElseThrow();
           mapOutput(outputDecision, serviceAction);
           outputDecision.getAuthorityRequirement().forEach(
-              ks -> mapKnowledgeSource(ks, cpm, serviceAction, decisionModel)
+              ks -> mapKnowledgeSource(ks, cpm, serviceAction, index)
           );
         }
     );
 
     decisionService.getInputData().forEach(
         input -> {
-          TInputData inputData = findInput(input, decisionModel)
+          TInputData inputData = index.findInput(input)
               .orElseThrow();
           serviceAction.addInput(mapInput(inputData));
         }
@@ -380,15 +359,15 @@ public class DmnToPlanDefR4 {
 
   private void mapKnowledgeSource(TAuthorityRequirement know,
       PlanDefinition cpm, PlanDefinitionActionComponent decisionAction,
-      TDefinitions decisionModel) {
-    findKnowledgeSource(know.getRequiredAuthority(), decisionModel)
+      DmnModelIndex index) {
+    index.findKnowledgeSource(know.getRequiredAuthority())
         .ifPresent(knowledgeSource ->
-            mapKnowledgeSource(knowledgeSource, cpm, decisionAction, decisionModel));
+            mapKnowledgeSource(knowledgeSource, cpm, decisionAction, index));
   }
 
   private void mapKnowledgeSource(TKnowledgeSource knowledgeSource,
       PlanDefinition cpm, PlanDefinitionActionComponent decisionAction,
-      TDefinitions decisionModel) {
+      DmnModelIndex index) {
     if (Util.isEmpty(knowledgeSource.getLocationURI())) {
       return;
     }
@@ -424,7 +403,7 @@ public class DmnToPlanDefR4 {
 
       knowledgeSource.getAuthorityRequirement().stream()
           .flatMap(
-              auth -> findKnowledgeSource(auth.getRequiredAuthority(), decisionModel).stream())
+              auth -> index.findKnowledgeSource(auth.getRequiredAuthority()).stream())
           .forEach(
               ks -> lib.addRelatedArtifact()
                   .setType(RelatedArtifactType.COMPOSEDOF)
@@ -8,6 +8,7 @@ import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeoperation.Knowledg
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.Knowledge_Asset_Surrogate_2_0;
 
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelIndex;
 import edu.mayo.kmdp.language.validators.cmmn.v1_1.CCPMComponentValidator;
 import edu.mayo.kmdp.util.StreamUtil;
 import edu.mayo.kmdp.util.URIUtil;
@@ -21,7 +22,6 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Named;
-import javax.xml.bind.JAXBElement;
 import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.Severity;
 import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
@@ -38,7 +38,6 @@ import org.omg.spec.dmn._20180521.model.TDMNElementReference;
 import org.omg.spec.dmn._20180521.model.TDRGElement;
 import org.omg.spec.dmn._20180521.model.TDecision;
 import org.omg.spec.dmn._20180521.model.TDecisionService;
-import org.omg.spec.dmn._20180521.model.TDefinitions;
 import org.omg.spec.dmn._20180521.model.TImport;
 import org.omg.spec.dmn._20180521.model.TInputData;
 import org.omg.spec.dmn._20180521.model.TKnowledgeSource;
@@ -85,12 +84,13 @@ public class CCPMProfileDMNValidator extends CCPMComponentValidator {
   @Override
   protected Answer<Void> validate(org.omg.spec.dmn._20180521.model.TDefinitions decisionModel,
       KnowledgeCarrier carrier) {
+    DmnModelIndex index = DmnModelIndex.of(decisionModel);
     return allOf(
-        validateNoImports(decisionModel, carrier),
-        validateAnnotatedInputs(decisionModel, carrier),
-        validateAnnotatedDecisionServices(decisionModel, carrier),
-        validateDecisionServiceInputs(decisionModel, carrier),
-        validateKnowledgeSources(decisionModel, carrier)
+        validateNoImports(index, carrier),
+        validateAnnotatedInputs(index, carrier),
+        validateAnnotatedDecisionServices(index, carrier),
+        validateDecisionServiceInputs(index, carrier),
+        validateKnowledgeSources(index, carrier)
     );
   }
 
@@ -98,17 +98,15 @@ public class CCPMProfileDMNValidator extends CCPMComponentValidator {
    * Checks for DMN to DMN imports other than Decision Service inputs At this point, any other
    * import should have been 'flattened'
    *
-   * @param decisionModel
+   * @param index
    * @param carrier
    * @return
    */
-  private Answer<Void> validateNoImports(TDefinitions decisionModel, KnowledgeCarrier carrier) {
-    Set<String> imports = decisionModel.getImport().stream()
+  private Answer<Void> validateNoImports(DmnModelIndex index, KnowledgeCarrier carrier) {
+    Set<String> imports = index.getModel().getImport().stream()
         .map(TImport::getNamespace)
         .collect(Collectors.toSet());
-    Set<String> bkmReqs = decisionModel.getDrgElement().stream()
-        .map(JAXBElement::getValue)
-        .flatMap(StreamUtil.filterAs(TDecision.class))
+    Set<String> bkmReqs = index.getDecisions().stream()
         .flatMap(dec -> dec.getKnowledgeRequirement().stream())
         .map(kr -> kr.getRequiredKnowledge().getHref())
         .map(URI::create)
@@ -129,16 +127,13 @@ public class CCPMProfileDMNValidator extends CCPMComponentValidator {
   /**
    * Checks for CSO annotations on InputData elements
    *
-   * @param decisionModel
+   * @param index
    * @param carrier
    * @return
    */
-  private Answer<Void> validateAnnotatedInputs(TDefinitions decisionModel,
+  private Answer<Void> validateAnnotatedInputs(DmnModelIndex index,
       KnowledgeCarrier carrier) {
-    Set<TInputData> inputs = decisionModel.getDrgElement().stream()
-        .map(JAXBElement::getValue)
-        .flatMap(StreamUtil.filterAs(TInputData.class))
-        .collect(Collectors.toSet());
+    Set<TInputData> inputs = new HashSet<>(index.getInputs());
     Set<TInputData> annotated = inputs.stream()
         .filter(input -> hasCSOAnnotation(input))
         .collect(Collectors.toSet());
@@ -158,16 +153,13 @@ public class CCPMProfileDMNValidator extends CCPMComponentValidator {
   /**
    * Checks for Annotations on Decision Services
    *
-   * @param decisionModel
+   * @param index
    * @param carrier
    * @return
    */
-  private Answer<Void> validateDecisionServiceInputs(TDefinitions decisionModel,
+  private Answer<Void> validateDecisionServiceInputs(DmnModelIndex index,
       KnowledgeCarrier carrier) {
-    Set<TDecisionService> decServices = decisionModel.getDrgElement().stream()
-        .map(JAXBElement::getValue)
-        .flatMap(StreamUtil.filterAs(TDecisionService.class))
-        .collect(Collectors.toSet());
+    Set<TDecisionService> decServices = new HashSet<>(index.getDecisionServices());
 
     Set<TDecisionService> withDecisionsAsInputs = decServices.stream()
         .filter(ds -> ! ds.getInputDecision().isEmpty())
@@ -185,27 +177,24 @@ public class CCPMProfileDMNValidator extends CCPMComponentValidator {
   /**
    * Ensures that decision services inputs are only inputdata
    *
-   * @param decisionModel
+   * @param index
    * @param carrier
    * @return
    */
-  private Answer<Void> validateAnnotatedDecisionServices(TDefinitions decisionModel,
+  private Answer<Void> validateAnnotatedDecisionServices(DmnModelIndex index,
       KnowledgeCarrier carrier) {
-    Set<TDecisionService> decServices = decisionModel.getDrgElement().stream()
-        .map(JAXBElement::getValue)
-        .flatMap(StreamUtil.filterAs(TDecisionService.class))
-        .collect(Collectors.toSet());
+    Set<TDecisionService> decServices = new HashSet<>(index.getDecisionServices());
     Set<TDecisionService> semantic = decServices.stream()
         .filter(ds -> ! ds.getOutputDecision().isEmpty())
         .filter(ds -> ds.getOutputDecision().stream()
-            .flatMap(ref -> lookup(ref, decisionModel, TDecision.class))
+            .flatMap(ref -> lookupDecision(ref, index))
             .anyMatch(out -> hasCSOAnnotation(out)))
         .collect(Collectors.toSet());
     Set<TDecisionService> withDEK = decServices.stream()
         .filter(ds -> ! ds.getOutputDecision().isEmpty())
         .filter(ds -> ds.getOutputDecision().stream()
-            .flatMap(ref -> lookup(ref, decisionModel, TDecision.class))
-            .anyMatch(out -> hasDEK(out, decisionModel)))
+            .flatMap(ref -> lookupDecision(ref, index))
+            .anyMatch(out -> hasDEK(out, index)))
         .collect(Collectors.toSet());
     Set<TDecisionService> incomplete = new HashSet<>(decServices);
     incomplete.removeAll(semantic);
@@ -230,16 +219,13 @@ public class CCPMProfileDMNValidator extends CCPMComponentValidator {
    * IKR - application/fhir+json
    * External Link - <star>/</star>
    *
-   * @param decisionModel
+   * @param index
    * @param carrier
    * @return
    */
-  private Answer<Void> validateKnowledgeSources(TDefinitions decisionModel,
+  private Answer<Void> validateKnowledgeSources(DmnModelIndex index,
       KnowledgeCarrier carrier) {
-    Set<TKnowledgeSource> knowSources = decisionModel.getDrgElement().stream()
-        .map(JAXBElement::getValue)
-        .flatMap(StreamUtil.filterAs(TKnowledgeSource.class))
-        .collect(Collectors.toSet());
+    Set<TKnowledgeSource> knowSources = new HashSet<>(index.getKnowledgeSources());
     Set<TKnowledgeSource> incomplete = knowSources.stream()
         .filter(ks -> !isValidKSMime(ks.getType()) || !isValidAssetId(ks.getLocationURI(), ks.getType()))
         .collect(Collectors.toSet());
@@ -265,20 +251,15 @@ public class CCPMProfileDMNValidator extends CCPMComponentValidator {
   }
 
 
-  private boolean hasDEK(TDecision out, TDefinitions decisionModel) {
+  private boolean hasDEK(TDecision out, DmnModelIndex index) {
     return out.getAuthorityRequirement().stream()
         .map(TAuthorityRequirement::getRequiredAuthority)
-        .flatMap(ref -> lookup(ref, decisionModel, TKnowledgeSource.class))
+        .flatMap(ref -> index.findKnowledgeSource(URI.create(ref.getHref())).stream())
         .anyMatch(ks -> ks.getType().equalsIgnoreCase("application/dita+xml"));
   }
 
-  private <T extends TDRGElement> Stream<T> lookup(
-      TDMNElementReference ref, TDefinitions decisionModel, Class<T> type) {
-    return decisionModel.getDrgElement().stream()
-        .map(JAXBElement::getValue)
-        .flatMap(StreamUtil.filterAs(type))
-        .filter(d -> d.getId().equals(URI.create(ref.getHref()).getFragment()))
-        .findFirst().stream();
+  private Stream<TDecision> lookupDecision(TDMNElementReference ref, DmnModelIndex index) {
+    return index.findDecision(URI.create(ref.getHref())).stream();
   }
 
 
@@ -0,0 +1,89 @@
+package edu.mayo.kmdp.language;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+
+class AsyncOperationTest {
+
+  @Test
+  void testAsyncLift() throws Exception {
+    LanguageDeSerializer deserializer = new LanguageDeSerializer(
+        singletonList(new DMN12Parser()));
+    AtomicInteger tasks = new AtomicInteger();
+    deserializer.setAsyncExecutor(r -> {
+      tasks.incrementAndGet();
+      new Thread(r).start();
+    });
+
+    KnowledgeCarrier dmn = of(AsyncOperationTest.class
+        .getResourceAsStream("/fhir.stu3/DMNService.dmn.xml"))
+        .withRepresentation(rep(DMN_1_2, XML_1_1, Charset.defaultCharset()));
+
+    Answer<KnowledgeCarrier> lifted = deserializer
+        .applyLiftAsync(dmn, Abstract_Knowledge_Expression, null, null)
+        .get(30, TimeUnit.SECONDS);
+    assertTrue(lifted.flatOpt(kc -> kc.as(TDefinitions.class)).isSuccess());
+    assertEquals(1, tasks.get());
+  }
+
+  @Test
+  void testTimeoutInterruptsOperation() throws Exception {
+    AbstractOperatorDispatcher<DeserializeApiOperator> dispatcher =
+        new AbstractOperatorDispatcher<>(Collections.emptyList()) { };
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    dispatcher.setAsyncExecutor(pool);
+
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CompletableFuture<Answer<Void>> future = dispatcher.applyAsync(() -> {
+      try {
+        Thread.sleep(60_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        Thread.currentThread().interrupt();
+      }
+      return Answer.succeed();
+    }, Duration.ofMillis(50));
+
+    ExecutionException ex = assertThrows(ExecutionException.class,
+        () -> future.get(30, TimeUnit.SECONDS));
+    assertTrue(ex.getCause() instanceof TimeoutException);
+    assertTrue(interrupted.await(30, TimeUnit.SECONDS));
+    pool.shutdown();
+  }
+
+  @Test
+  void testExceptionsAreFailedAnswers() throws Exception {
+    AbstractOperatorDispatcher<DeserializeApiOperator> dispatcher =
+        new AbstractOperatorDispatcher<>(Collections.emptyList()) { };
+
+    Answer<Void> answer = dispatcher.<Void>applyAsync(() -> {
+      throw new UnsupportedOperationException();
+    }).get(30, TimeUnit.SECONDS);
+    assertTrue(answer.isFailure());
+  }
+
+}
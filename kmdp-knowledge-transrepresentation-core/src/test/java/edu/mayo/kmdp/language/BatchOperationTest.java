@@ -0,0 +1,146 @@
+package edu.mayo.kmdp.language;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDefTranslator;
+import edu.mayo.kmdp.util.FileUtil;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hl7.fhir.dstu3.model.PlanDefinition;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+
+class BatchOperationTest {
+
+  @Test
+  void testBatchLiftPreservesOrderAndIsolatesFailures() {
+    LanguageDeSerializer deserializer = new LanguageDeSerializer(
+        singletonList(new DMN12Parser()));
+
+    List<KnowledgeCarrier> batch = new ArrayList<>();
+    for (int j = 0; j < 20; j++) {
+      batch.add(j % 5 == 3 ? serializedDMN("<not a dmn model>") : serializedDMN(dmn()));
+    }
+    batch.add(null);
+
+    List<Answer<KnowledgeCarrier>> results = deserializer.applyBatchLift(
+        batch, Abstract_Knowledge_Expression, null, null, 4);
+
+    assertEquals(batch.size(), results.size());
+    for (int j = 0; j < 20; j++) {
+      Answer<KnowledgeCarrier> result = results.get(j);
+      if (j % 5 == 3) {
+        assertTrue(result.isFailure());
+      } else {
+        assertTrue(result.flatOpt(kc -> kc.as(TDefinitions.class)).isSuccess());
+        assertEquals(batch.get(j).getAssetId(), result.get().getAssetId());
+      }
+    }
+    assertTrue(results.get(20).isFailure());
+  }
+
+  @Test
+  void testBatchRunsOnAsyncExecutor() {
+    LanguageDeSerializer deserializer = new LanguageDeSerializer(
+        singletonList(new DMN12Parser()));
+    AtomicInteger tasks = new AtomicInteger();
+    deserializer.setAsyncExecutor(r -> {
+      tasks.incrementAndGet();
+      new Thread(r).start();
+    });
+
+    List<KnowledgeCarrier> batch = new ArrayList<>();
+    for (int j = 0; j < 20; j++) {
+      batch.add(serializedDMN(dmn()));
+    }
+
+    List<Answer<KnowledgeCarrier>> results = deserializer.applyBatchLift(
+        batch, Abstract_Knowledge_Expression, null, null, 4);
+    // one group, split into 4 chunks of 5 carriers
+    assertEquals(4, tasks.get());
+    assertEquals(batch.size(), results.size());
+    results.forEach(result ->
+        assertTrue(result.flatOpt(kc -> kc.as(TDefinitions.class)).isSuccess()));
+  }
+
+  @Test
+  void testBatchTransrepresent() {
+    TransrepresentationExecutor executor = new TransrepresentationExecutor(
+        singletonList(new DmnToPlanDefTranslator()),
+        singletonList(new DMN12Parser()));
+
+    List<KnowledgeCarrier> batch = new ArrayList<>();
+    for (int j = 0; j < 6; j++) {
+      batch.add(serializedDMN(dmn()));
+    }
+
+    List<Answer<KnowledgeCarrier>> sequential =
+        executor.applyBatchTransrepresent(batch, codedRep(FHIR_STU3), null, 1);
+    List<Answer<KnowledgeCarrier>> parallel =
+        executor.applyBatchTransrepresent(batch, codedRep(FHIR_STU3), null);
+
+    assertEquals(batch.size(), sequential.size());
+    assertEquals(batch.size(), parallel.size());
+    for (int j = 0; j < batch.size(); j++) {
+      assertTrue(sequential.get(j).flatOpt(kc -> kc.as(PlanDefinition.class)).isSuccess());
+      assertTrue(parallel.get(j).flatOpt(kc -> kc.as(PlanDefinition.class)).isSuccess());
+    }
+  }
+
+  @Test
+  void testBatchTransrepresentMatchesSingleCall() {
+    TransrepresentationExecutor executor = new TransrepresentationExecutor(
+        singletonList(new DmnToPlanDefTranslator()),
+        singletonList(new DMN12Parser()));
+
+    List<KnowledgeCarrier> batch = new ArrayList<>();
+    batch.add(serializedDMN(dmn()));
+    batch.add(serializedDMN("<not a dmn model>"));
+
+    // includes a request with no target representation, which must not break the routing
+    for (String xAccept : new String[]{codedRep(FHIR_STU3), null}) {
+      List<Answer<KnowledgeCarrier>> results =
+          executor.applyBatchTransrepresent(batch, xAccept, null);
+      for (int j = 0; j < batch.size(); j++) {
+        assertEquals(succeeds(executor, batch.get(j), xAccept), results.get(j).isSuccess());
+      }
+    }
+  }
+
+  private boolean succeeds(TransrepresentationExecutor executor, KnowledgeCarrier kc,
+      String xAccept) {
+    try {
+      return executor.applyTransrepresent(kc, xAccept, null).isSuccess();
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private String dmn() {
+    return FileUtil.read(BatchOperationTest.class
+        .getResourceAsStream("/fhir.stu3/DMNService.dmn.xml"))
+        .orElse("");
+  }
+
+  private KnowledgeCarrier serializedDMN(String dmn) {
+    return of(dmn)
+        .withRepresentation(rep(DMN_1_2, XML_1_1, Charset.defaultCharset()))
+        .withAssetId(randomId());
+  }
+
+}
@@ -1,20 +1,29 @@
 package edu.mayo.kmdp.language;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
 import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.HTML;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
 
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
 import edu.mayo.kmdp.language.parsers.html.HtmlDeserializer;
+import edu.mayo.kmdp.util.FileUtil;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.omg.spec.api4kp._20200801.AbstractCarrier.Encodings;
+import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
 
 public class ByteOrderMarkDecodeTest {
 
@@ -41,4 +50,74 @@ public class ByteOrderMarkDecodeTest {
     assertEquals(html, decoded);
   }
 
+  @Test
+  void testUTF16BOM() throws IOException {
+    String html = "<html><p>\u00e9t\u00e9</p></html>";
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    baos.write(new byte[] {(byte) 0xFF, (byte) 0xFE});
+    baos.write(html.getBytes(StandardCharsets.UTF_16LE));
+
+    KnowledgeCarrier kc = of(baos.toByteArray())
+        .withRepresentation(rep(HTML, TXT, StandardCharsets.UTF_8, Encodings.DEFAULT));
+
+    String decoded = new HtmlDeserializer().innerDecode(kc, null)
+        .orElseGet(Assertions::fail)
+        .asString()
+        .orElseGet(Assertions::fail);
+
+    assertEquals(html, decoded);
+  }
+
+  @Test
+  void testDeclaredCharset() {
+    String html = "<html><p>\u00e9t\u00e9</p></html>";
+    String enc = Base64.getEncoder().encodeToString(html.getBytes(StandardCharsets.ISO_8859_1));
+
+    KnowledgeCarrier kc = of(enc, rep(HTML, TXT, StandardCharsets.ISO_8859_1, Encodings.DEFAULT));
+
+    String decoded = new HtmlDeserializer().innerDecode(kc, null)
+        .orElseGet(Assertions::fail)
+        .asString()
+        .orElseGet(Assertions::fail);
+
+    assertEquals(html, decoded);
+  }
+
+  @Test
+  void testBOMParseBinary() throws IOException {
+    String dmn = FileUtil
+        .read(ByteOrderMarkDecodeTest.class.getResourceAsStream("/dmn12example.dmn"))
+        .orElseGet(Assertions::fail);
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    baos.write(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
+    baos.write(dmn.getBytes());
+
+    KnowledgeCarrier kc = of(baos.toByteArray())
+        .withRepresentation(rep(DMN_1_2, XML_1_1, Charset.defaultCharset(), Encodings.DEFAULT));
+
+    Answer<KnowledgeCarrier> ast = new DMN12Parser()
+        .applyLift(kc, Abstract_Knowledge_Expression, null, null);
+    assertTrue(ast.isSuccess());
+    assertTrue(ast.get().is(TDefinitions.class));
+  }
+
+  @Test
+  void testBase64ParseBinary() {
+    String dmn = FileUtil
+        .read(ByteOrderMarkDecodeTest.class.getResourceAsStream("/dmn12example.dmn"))
+        .orElseGet(Assertions::fail);
+    byte[] enc = Base64.getEncoder().encode(dmn.getBytes(StandardCharsets.UTF_8));
+
+    KnowledgeCarrier kc = of(enc)
+        .withRepresentation(rep(DMN_1_2, XML_1_1, StandardCharsets.UTF_8)
+            .withEncoding("base64"));
+
+    Answer<KnowledgeCarrier> ast = new DMN12Parser()
+        .applyLift(kc, Abstract_Knowledge_Expression, null, null);
+    assertTrue(ast.isSuccess());
+    assertTrue(ast.get().is(TDefinitions.class));
+  }
+
 }
@@ -0,0 +1,90 @@
+package edu.mayo.kmdp.language;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.surrogate.SurrogateBuilder.randomAssetId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.CMMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Encoded_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.parsers.cmmn.v1_1.CMMN11Parser;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.parsers.surrogate.v2.Surrogate2Parser;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.AbstractCarrier;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguage;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+
+class DeserializerRoutingTest {
+
+  private final DMN12Parser dmnParser = new DMN12Parser();
+  private final CMMN11Parser cmmnParser = new CMMN11Parser();
+  private final Surrogate2Parser surrParser = new Surrogate2Parser();
+
+  private final List<DeserializeApiOperator> parsers =
+      Arrays.asList(surrParser, cmmnParser, dmnParser);
+
+  @Test
+  void testRouteLiftByLanguage() {
+    DeserializerRoutingTable routes = new DeserializerRoutingTable(parsers);
+
+    List<DeserializeApiOperator> dmnRoute = routes
+        .routeLift(encoded("/dmn12example.dmn", DMN_1_2), Abstract_Knowledge_Expression)
+        .orElseGet(Collections::emptyList);
+    assertEquals(1, dmnRoute.size());
+    assertTrue(dmnRoute.contains(dmnParser));
+
+    List<DeserializeApiOperator> cmmnRoute = routes
+        .routeLift(encoded("/cmmn11Example.cmmn", CMMN_1_1), Abstract_Knowledge_Expression)
+        .orElseGet(Collections::emptyList);
+    assertEquals(1, cmmnRoute.size());
+    assertTrue(cmmnRoute.contains(cmmnParser));
+  }
+
+  @Test
+  void testNoLiftRouteForInconsistentLevels() {
+    DeserializerRoutingTable routes = new DeserializerRoutingTable(parsers);
+
+    KnowledgeCarrier ast = AbstractCarrier.ofAst(new Object())
+        .withRepresentation(rep(DMN_1_2));
+    assertTrue(routes.routeLift(ast, Encoded_Knowledge_Expression).isEmpty());
+  }
+
+  @Test
+  void testLowerRouteForAbstractCarriers() {
+    DeserializerRoutingTable routes = new DeserializerRoutingTable(parsers);
+
+    KnowledgeCarrier ast = AbstractCarrier.ofAst(new Object())
+        .withRepresentation(rep(DMN_1_2));
+    List<DeserializeApiOperator> dmnRoute = routes
+        .routeLower(ast, Encoded_Knowledge_Expression, null)
+        .orElseGet(Collections::emptyList);
+    assertTrue(dmnRoute.contains(dmnParser));
+  }
+
+  @Test
+  void testRoutedLift() {
+    LanguageDeSerializer deserializer = new LanguageDeSerializer(parsers);
+
+    Answer<KnowledgeCarrier> parsed = deserializer
+        .applyLift(encoded("/dmn12example.dmn", DMN_1_2), Abstract_Knowledge_Expression, null,
+            null);
+
+    assertTrue(parsed.isSuccess());
+    assertTrue(parsed.get().is(TDefinitions.class));
+  }
+
+  private KnowledgeCarrier encoded(String path, KnowledgeRepresentationLanguage lang) {
+    return AbstractCarrier.of(DeserializerRoutingTest.class.getResourceAsStream(path))
+        .withRepresentation(rep(lang, XML_1_1))
+        .withAssetId(randomAssetId());
+  }
+}
@@ -1,10 +1,23 @@
 package edu.mayo.kmdp.language;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
 
+import edu.mayo.kmdp.language.detectors.DetectionCache;
+import edu.mayo.kmdp.language.detectors.SniffedContent;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Kind;
+import edu.mayo.kmdp.language.detectors.SniffedContent.Match;
+import edu.mayo.kmdp.language.detectors.dmn.v1_1.DMN11Detector;
+import edu.mayo.kmdp.language.detectors.dmn.v1_2.DMN12Detector;
 import edu.mayo.kmdp.language.detectors.html.HTMLDetector;
+import edu.mayo.kmdp.language.detectors.owl2.OWLDetector;
 import edu.mayo.kmdp.language.detectors.surrogate.v2.Surrogate2Detector;
+import edu.mayo.kmdp.util.FileUtil;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.omg.spec.api4kp._20200801.Answer;
 import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
@@ -61,4 +74,93 @@ public class DetectorTest {
     assertTrue(rep.isSuccess());
   }
 
+  @Test
+  void testSniffXmlRoot() {
+    SniffedContent content = SniffedContent.sniff(
+        FileUtil.read(DetectorTest.class.getResourceAsStream("/dmn12example.dmn")).orElse(""));
+
+    assertEquals(Kind.XML, content.getKind());
+    assertEquals("definitions", content.getRootName().orElse(null));
+    assertEquals("http://www.omg.org/spec/DMN/20180521/MODEL/",
+        content.getRootNamespace().orElse(null));
+
+    assertEquals(Match.LIKELY, new DMN12Detector().match(content));
+    assertEquals(Match.UNLIKELY, new DMN11Detector().match(content));
+    assertEquals(Match.UNLIKELY, new OWLDetector().match(content));
+    assertEquals(Match.UNLIKELY, new HTMLDetector().match(content));
+  }
+
+  @Test
+  void testSniffOtherSyntaxes() {
+    SniffedContent json = SniffedContent.sniff("{ \"name\" : \"x\", \"nested\" : { \"inner\" : 1 } }");
+    assertEquals(Kind.JSON, json.getKind());
+    assertEquals(Arrays.asList("name", "nested"), Arrays.asList(json.getJsonKeys().toArray()));
+
+    SniffedContent ttl = SniffedContent.sniff(
+        "# comment\n@prefix owl: <http://www.w3.org/2002/07/owl#> .\n<a> a owl:Ontology .");
+    assertEquals(Kind.TURTLE, ttl.getKind());
+    assertEquals("http://www.w3.org/2002/07/owl#", ttl.getPrefixes().get("owl"));
+
+    SniffedContent html = SniffedContent.sniff("<!DOCTYPE html>\n<html><body></body></html>");
+    assertEquals(Kind.HTML, html.getKind());
+
+    assertEquals(Kind.UNKNOWN, SniffedContent.sniff("blah blah blah").getKind());
+  }
+
+  @Test
+  void testSniffedDispatch() {
+    LanguageDetector detector = new LanguageDetector(Arrays.asList(
+        new HTMLDetector(), new OWLDetector(), new DMN11Detector(), new DMN12Detector()));
+
+    Answer<SyntacticRepresentation> rep = detector.applyDetect(
+        of(DetectorTest.class.getResourceAsStream("/dmn12example.dmn")), null)
+        .map(KnowledgeCarrier::getRepresentation);
+    assertTrue(rep.isSuccess());
+    assertTrue(DMN_1_2.sameAs(rep.get().getLanguage()));
+  }
+
+  @Test
+  void testCachedDetection() {
+    DetectionCache cache = new DetectionCache();
+    LanguageDetector detector = new LanguageDetector(Arrays.asList(
+        new OWLDetector(), new DMN12Detector()))
+        .withCache(cache);
+
+    String dmn = FileUtil.read(DetectorTest.class.getResourceAsStream("/dmn12example.dmn"))
+        .orElse("");
+    assertTrue(detector.applyDetect(of(dmn), null).isSuccess());
+
+    KnowledgeCarrier source = of(dmn);
+    Answer<KnowledgeCarrier> cached = detector.applyDetect(source, null);
+    assertTrue(cached.isSuccess());
+    assertNotSame(source, cached.get());
+    assertNull(source.getRepresentation());
+    assertTrue(DMN_1_2.sameAs(cached.get().getRepresentation().getLanguage()));
+
+    assertTrue(detector.applyDetect(of("blah blah blah"), null).isFailure());
+
+    assertEquals(1, cache.getStats().hitCount());
+    assertEquals(2, cache.getStats().missCount());
+    // failures are not cached
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void testStreamingXmlDetection() {
+    String dmn = FileUtil.read(DetectorTest.class.getResourceAsStream("/dmn12example.dmn"))
+        .orElse("");
+    // only the root element is read
+    String truncated = "<definitions xmlns=\"http://www.omg.org/spec/DMN/20180521/MODEL/\">"
+        + "<decision name=";
+
+    assertTrue(new DMN12Detector().applyDetect(of(dmn), null).isSuccess());
+    assertTrue(new DMN12Detector().applyDetect(of(truncated), null).isSuccess());
+    assertTrue(new DMN11Detector().applyDetect(of(dmn), null).isFailure());
+
+    assertTrue(new DMN12Detector().withFullUnmarshal(true)
+        .applyDetect(of(dmn), null).isSuccess());
+    assertTrue(new DMN12Detector().withFullUnmarshal(true)
+        .applyDetect(of(truncated), null).isFailure());
+  }
+
 }
@@ -0,0 +1,76 @@
+package edu.mayo.kmdp.language;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.parsers.cmmn.v1_1.CMMN11Parser;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.parsers.surrogate.v2.Surrogate2Parser;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.services.transrepresentation.DeserializationOperator;
+
+class OperatorDispatcherTest {
+
+  private final DMN12Parser dmnParser = new DMN12Parser();
+  private final CMMN11Parser cmmnParser = new CMMN11Parser();
+  private final Surrogate2Parser surrParser = new Surrogate2Parser();
+
+  @Test
+  void testOperatorsInRegistrationOrder() {
+    List<DeserializeApiOperator> parsers = Arrays.asList(surrParser, cmmnParser, dmnParser);
+    AbstractOperatorDispatcher<DeserializeApiOperator> dispatcher =
+        new AbstractOperatorDispatcher<>(parsers) { };
+
+    assertEquals(parsers, new ArrayList<>(dispatcher.getOperators()));
+  }
+
+  @Test
+  void testLookupByUuid() {
+    AbstractOperatorDispatcher<DeserializeApiOperator> dispatcher =
+        new AbstractOperatorDispatcher<>(Arrays.asList(surrParser, cmmnParser, dmnParser)) { };
+
+    assertEquals(dmnParser,
+        dispatcher.getOperator(dmnParser.getOperatorId().getUuid()).orElse(null));
+    assertEquals(cmmnParser,
+        dispatcher.getOperator(cmmnParser.getOperatorId().getUuid()).orElse(null));
+    assertTrue(dispatcher.getOperator(UUID.randomUUID()).isEmpty());
+    assertTrue(dispatcher.getOperator(null).isEmpty());
+  }
+
+  @Test
+  void testNamedOperationsByUuid() {
+    LanguageDeSerializer deserializer = new LanguageDeSerializer(
+        Arrays.asList(surrParser, cmmnParser, dmnParser));
+
+    DeserializationOperator descriptor = deserializer
+        .getLiftOperator(dmnParser.getOperatorId().getUuid())
+        .orElseGet(Assertions::fail);
+    assertEquals(dmnParser.getOperatorId(), descriptor.getOperatorId());
+
+    assertTrue(deserializer.getLiftOperator(UUID.randomUUID()).isFailure());
+    assertTrue(deserializer.applyNamedLift(UUID.randomUUID(),
+        of(OperatorDispatcherTest.class.getResourceAsStream("/dmn12example.dmn"))
+            .withRepresentation(rep(DMN_1_2, XML_1_1, Charset.defaultCharset())),
+        Abstract_Knowledge_Expression, null, null)
+        .isFailure());
+  }
+
+  @Test
+  void testDuplicateOperatorsAreRejected() {
+    List<DeserializeApiOperator> parsers = Arrays.asList(dmnParser, new DMN12Parser());
+    assertThrows(IllegalStateException.class, () -> new LanguageDeSerializer(parsers));
+  }
+
+}
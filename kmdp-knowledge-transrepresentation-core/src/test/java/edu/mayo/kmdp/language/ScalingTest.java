@@ -0,0 +1,218 @@
+package edu.mayo.kmdp.language;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.surrogate.SurrogateBuilder.defaultArtifactId;
+import static org.omg.spec.api4kp._20200801.taxonomy.knowledgeresourceoutcome.KnowledgeResourceOutcomeSeries.Style_Conformance;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.Knowledge_Asset_Surrogate_2_0;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.lexicon.LexiconSeries.SKOS;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Serialized_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.common.cmmn.CMMN11ModelGenerator;
+import edu.mayo.kmdp.language.common.cmmn.CMMN11Utils;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DMN12ModelGenerator;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils;
+import edu.mayo.kmdp.language.common.owl2.SKOSModelGenerator;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.parsers.surrogate.v2.Surrogate2Parser;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.stu3.CmmnToPlanDef;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDef;
+import edu.mayo.kmdp.language.translators.skos.SKOStoCodeSystemTranscreator;
+import edu.mayo.kmdp.language.validators.dmn.v1_2.CCPMProfileDMNValidator;
+import java.nio.charset.Charset;
+import java.util.function.IntFunction;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+
+/**
+ * Checks that the cost of lifting, translating and validating synthetic models grows
+ * no faster than a stated bound, as the models grow.
+ * <p>
+ * Each operation is timed at a base size N, and at SCALE * N. The ratio between the two
+ * (per operation) times is expected not to exceed SCALE^k (times a tolerance factor,
+ * to absorb noise), where k is the exponent of the stated complexity bound.
+ * <p>
+ * Timing based, hence excluded from the default test run: use the 'bench' profile
+ * (mvn -P bench test) to include it.
+ */
+@Tag("scaling")
+class ScalingTest {
+
+  private static final int SCALE = 8;
+
+  private static final double TOLERANCE = 2.5;
+
+  private static final long MIN_SAMPLE_NANOS = 50_000_000L;
+
+  enum Complexity {
+    LINEAR(1),
+    QUADRATIC(2);
+
+    final int exponent;
+
+    Complexity(int exponent) {
+      this.exponent = exponent;
+    }
+  }
+
+  @Test
+  void testGeneratorsAtProductionSize() {
+    assertEquals(10_000, DMN12Utils.streamDecisions(
+        DMN12ModelGenerator.decisionModel(10_000)).count());
+
+    assertEquals(51, CMMN11Utils.streamStages(
+        CMMN11ModelGenerator.caseModel(50, 1, 2)).count());
+    assertEquals(100, CMMN11Utils.streamTasks(
+        CMMN11ModelGenerator.caseModel(49, 1, 2)).count());
+
+    Model skos = SKOSModelGenerator.conceptScheme(100_000, 10);
+    assertEquals(100_001,
+        skos.listSubjectsWithProperty(RDF.type, org.apache.jena.vocabulary.SKOS.Concept)
+            .toList().size());
+
+    assertEquals(5_000, SurrogateModelGenerator.knowledgeAsset(5_000).getAnnotation().size());
+  }
+
+  @Test
+  void testDMNLiftScaling() {
+    DMN12Parser parser = new DMN12Parser();
+    assertScaling("DMN lift", Complexity.LINEAR, 250, n -> {
+      KnowledgeCarrier serialized = of(serialize(DMN12ModelGenerator.decisionModel(n)))
+          .withRepresentation(rep(DMN_1_2, XML_1_1, Charset.defaultCharset()));
+      return () -> assertTrue(parser
+          .applyLift(serialized, Abstract_Knowledge_Expression, codedRep(DMN_1_2), null)
+          .isSuccess());
+    });
+  }
+
+  @Test
+  void testDMNTranslationScaling() {
+    ResourceIdentifier assetId = randomId();
+    ResourceIdentifier srcId = randomId();
+    ResourceIdentifier tgtId = defaultArtifactId(assetId, FHIR_STU3, srcId.getVersionTag());
+    assertScaling("DMN to PlanDefinition", Complexity.LINEAR, 100, n -> {
+      TDefinitions dmn = DMN12ModelGenerator.decisionModel(n, 2, 10, true);
+      return () -> new DmnToPlanDef().transform(assetId, srcId, tgtId, dmn);
+    });
+  }
+
+  @Test
+  void testDMNValidationScaling() {
+    CCPMProfileDMNValidator validator = new CCPMProfileDMNValidator();
+    assertScaling("DMN CCPM validation", Complexity.LINEAR, 100, n -> {
+      KnowledgeCarrier kc = ofAst(DMN12ModelGenerator.decisionModel(n))
+          .withRepresentation(rep(DMN_1_2))
+          .withAssetId(randomId())
+          .withArtifactId(randomId());
+      return () -> {
+        Answer<Void> ans = validator.applyValidate(kc, null);
+        assertTrue(ans.isSuccess());
+        assertTrue(Style_Conformance.refersTo(ans.getExplanationAsProblem().getType()));
+      };
+    });
+  }
+
+  @Test
+  void testCMMNTranslationScaling() {
+    ResourceIdentifier assetId = randomId();
+    ResourceIdentifier srcId = randomId();
+    ResourceIdentifier tgtId = defaultArtifactId(assetId, FHIR_STU3, srcId.getVersionTag());
+    assertScaling("CMMN to PlanDefinition", Complexity.LINEAR, 50, n -> {
+      org.omg.spec.cmmn._20151109.model.TDefinitions cmmn = CMMN11ModelGenerator.caseModel(n);
+      return () -> new CmmnToPlanDef().transform(assetId, srcId, tgtId, cmmn);
+    });
+  }
+
+  @Test
+  void testSKOSTranslationScaling() {
+    SKOStoCodeSystemTranscreator translator = new SKOStoCodeSystemTranscreator();
+    assertScaling("SKOS to CodeSystem", Complexity.LINEAR, 500, n -> {
+      KnowledgeCarrier kc = ofAst(SKOSModelGenerator.conceptScheme(n, 10))
+          .withRepresentation(rep(OWL_2).withLexicon(SKOS))
+          .withAssetId(randomId())
+          .withArtifactId(randomId());
+      return () -> assertTrue(translator.applyTransrepresent(kc, null, null).isSuccess());
+    });
+  }
+
+  @Test
+  void testSurrogateLowerScaling() {
+    Surrogate2Parser parser = new Surrogate2Parser();
+    assertScaling("Surrogate lower", Complexity.LINEAR, 250, n -> {
+      KnowledgeCarrier kc = ofAst(SurrogateModelGenerator.knowledgeAsset(n))
+          .withRepresentation(rep(Knowledge_Asset_Surrogate_2_0));
+      return () -> assertTrue(parser
+          .applyLower(kc, Serialized_Knowledge_Expression, null, null)
+          .isSuccess());
+    });
+  }
+
+  private static String serialize(TDefinitions dmn) {
+    return new DMN12Parser()
+        .applyLower(ofAst(dmn).withRepresentation(rep(DMN_1_2)),
+            Serialized_Knowledge_Expression, null, null)
+        .flatOpt(KnowledgeCarrier::asString)
+        .orElseGet(Assertions::fail);
+  }
+
+  /**
+   * Times an operation on inputs of base size, and of SCALE times the base size,
+   * and asserts that the growth does not exceed the stated complexity bound
+   *
+   * @param label    the operation, for reporting
+   * @param bound    the complexity bound
+   * @param baseSize the base size
+   * @param op       prepares the operation, for a given input size
+   */
+  private static void assertScaling(String label, Complexity bound, int baseSize,
+      IntFunction<Runnable> op) {
+    Runnable small = op.apply(baseSize);
+    Runnable large = op.apply(baseSize * SCALE);
+    // warm up
+    small.run();
+    large.run();
+
+    double ratio = nanosPerOp(large) / nanosPerOp(small);
+    double limit = Math.pow(SCALE, bound.exponent) * TOLERANCE;
+    assertTrue(ratio <= limit, String.format(
+        "%s: cost grew %.1fx for a %dx larger input, exceeding the %s bound (%.1fx)",
+        label, ratio, SCALE, bound, limit));
+  }
+
+  /**
+   * @return the best (least) average time per operation, across 3 samples
+   */
+  private static double nanosPerOp(Runnable op) {
+    double best = Double.MAX_VALUE;
+    for (int sample = 0; sample < 3; sample++) {
+      int count = 0;
+      long start = System.nanoTime();
+      long elapsed;
+      do {
+        op.run();
+        count++;
+        elapsed = System.nanoTime() - start;
+      } while (elapsed < MIN_SAMPLE_NANOS);
+      best = Math.min(best, (double) elapsed / count);
+    }
+    return best;
+  }
+
+}
@@ -0,0 +1,43 @@
+package edu.mayo.kmdp.language;
+
+import static edu.mayo.ontology.taxonomies.kmdo.semanticannotationreltype.SemanticAnnotationRelTypeSeries.Has_Focus;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.omg.spec.api4kp._20200801.id.Term;
+import org.omg.spec.api4kp._20200801.surrogate.Annotation;
+import org.omg.spec.api4kp._20200801.surrogate.KnowledgeAsset;
+
+/**
+ * Generates synthetic Knowledge Asset surrogates with large annotation lists,
+ * for scaling tests and benchmarks. See also {@link MockSurrogateKnowledgeAsset}.
+ */
+public final class SurrogateModelGenerator {
+
+  private SurrogateModelGenerator() {
+    // functions only
+  }
+
+  /**
+   * @param annotations the number of (distinct) semantic annotations
+   * @return a synthetic surrogate
+   */
+  public static KnowledgeAsset knowledgeAsset(int annotations) {
+    KnowledgeAsset asset = new KnowledgeAsset()
+        .withAssetId(newId(uuid("asset", annotations), "1.0.0"))
+        .withName("Synthetic Asset " + annotations)
+        .withDescription("Synthetic asset with " + annotations + " annotations");
+    for (int j = 0; j < annotations; j++) {
+      asset.withAnnotation(new Annotation()
+          .withRel(Has_Focus.asConceptIdentifier())
+          .withRef(Term.mock("Concept " + j, Integer.toString(j)).asConceptIdentifier()));
+    }
+    return asset;
+  }
+
+  private static UUID uuid(String type, int j) {
+    return UUID.nameUUIDFromBytes((type + j).getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -0,0 +1,123 @@
+package edu.mayo.kmdp.language;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.CMMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+
+import edu.mayo.kmdp.language.TransrepresentationPlanner.Step;
+import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDefTranslator;
+import java.nio.charset.Charset;
+import java.util.List;
+import org.hl7.fhir.dstu3.model.PlanDefinition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.AbstractCarrier.Encodings;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevel;
+
+class TransrepresentationPlannerTest {
+
+  private final DMN12Parser parser = new DMN12Parser();
+  private final DmnToPlanDefTranslator translator = new DmnToPlanDefTranslator();
+
+  @Test
+  void testPlanLiftThenTranslate() {
+    TransrepresentationPlanner planner = new TransrepresentationPlanner(
+        singletonList(translator), singletonList(parser));
+
+    List<Step> plan = planner.plan(encodedDMN(), rep(FHIR_STU3))
+        .orElseGet(Assertions::fail);
+    assertEquals(2, plan.size());
+    assertEquals(parser, plan.get(0).getOperator());
+    assertTrue(DMN_1_2.sameAs(plan.get(0).getTarget().getLanguage()));
+    assertEquals(translator, plan.get(1).getOperator());
+
+    assertFalse(planner.plan(encodedDMN(), rep(CMMN_1_1)).isPresent());
+  }
+
+  @Test
+  void testExecutorFallsBackToChain() {
+    TransrepresentationExecutor executor = new TransrepresentationExecutor(
+        singletonList(translator), singletonList(parser));
+
+    Answer<KnowledgeCarrier> planDef =
+        executor.applyTransrepresent(encodedDMN(), codedRep(FHIR_STU3), null);
+    assertTrue(planDef.isSuccess());
+    assertTrue(planDef.flatOpt(kc -> kc.as(PlanDefinition.class)).isSuccess());
+  }
+
+  @Test
+  void testLatenciesAreRecorded() {
+    TransrepresentationPlanner planner = new TransrepresentationPlanner(
+        singletonList(translator), singletonList(parser));
+    List<Step> plan = planner.plan(encodedDMN(), rep(FHIR_STU3))
+        .orElseGet(Assertions::fail);
+    plan.forEach(step ->
+        assertEquals(TransrepresentationPlanner.DEFAULT_COST, step.getCost()));
+
+    assertTrue(planner.execute(plan, encodedDMN(), codedRep(FHIR_STU3), null).isSuccess());
+    plan.forEach(step ->
+        assertNotEquals(TransrepresentationPlanner.DEFAULT_COST, step.getCost()));
+    assertEquals(plan, planner.plan(encodedDMN(), rep(FHIR_STU3)).orElseGet(Assertions::fail));
+  }
+
+  @Test
+  void testFailuresArePenalized() {
+    Step failing = new Step(parser, rep(DMN_1_2), rep(FHIR_STU3),
+        (kc, target, cfg) -> Answer.failed(new IllegalStateException()));
+    assertTrue(failing.apply(encodedDMN(), null, null).isFailure());
+    assertEquals(TransrepresentationPlanner.FAILURE_PENALTY, failing.getCost());
+
+    Step unsupported = new Step(parser, rep(DMN_1_2), rep(FHIR_STU3),
+        (kc, target, cfg) -> {
+          throw new UnsupportedOperationException();
+        });
+    assertTrue(unsupported.apply(encodedDMN(), null, null).isFailure());
+    assertEquals(TransrepresentationPlanner.FAILURE_PENALTY, unsupported.getCost());
+  }
+
+  @Test
+  void testReplanWithoutFailedSteps() {
+    DMN12Parser failingParser = new DMN12Parser() {
+      @Override
+      public Answer<KnowledgeCarrier> applyLift(KnowledgeCarrier knowledgeCarrier,
+          ParsingLevel parsingLevel, String into, String properties) {
+        return Answer.failed(new IllegalStateException("Broken parser"));
+      }
+    };
+    TransrepresentationPlanner planner = new TransrepresentationPlanner(
+        singletonList(translator), asList(failingParser, parser));
+    assertEquals(failingParser, planner.plan(encodedDMN(), rep(FHIR_STU3))
+        .orElseGet(Assertions::fail).get(0).getOperator());
+
+    Answer<KnowledgeCarrier> planDef = planner
+        .executeChain(encodedDMN(), rep(FHIR_STU3), codedRep(FHIR_STU3), null)
+        .orElseGet(Assertions::fail);
+    assertTrue(planDef.flatOpt(kc -> kc.as(PlanDefinition.class)).isSuccess());
+
+    // the failed parser is no longer the cheapest option
+    assertEquals(parser, planner.plan(encodedDMN(), rep(FHIR_STU3))
+        .orElseGet(Assertions::fail).get(0).getOperator());
+  }
+
+  private KnowledgeCarrier encodedDMN() {
+    return of(TransrepresentationPlannerTest.class
+        .getResourceAsStream("/fhir.stu3/DMNService.dmn.xml"))
+        .withRepresentation(rep(DMN_1_2, XML_1_1, Charset.defaultCharset(), Encodings.DEFAULT))
+        .withAssetId(randomId());
+  }
+
+}
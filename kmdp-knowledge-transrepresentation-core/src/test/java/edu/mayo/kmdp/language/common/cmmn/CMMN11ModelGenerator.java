@@ -0,0 +1,109 @@
+package edu.mayo.kmdp.language.common.cmmn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.omg.spec.cmmn._20151109.model.ObjectFactory;
+import org.omg.spec.cmmn._20151109.model.TCase;
+import org.omg.spec.cmmn._20151109.model.TDefinitions;
+import org.omg.spec.cmmn._20151109.model.TEntryCriterion;
+import org.omg.spec.cmmn._20151109.model.THumanTask;
+import org.omg.spec.cmmn._20151109.model.TPlanItem;
+import org.omg.spec.cmmn._20151109.model.TPlanItemOnPart;
+import org.omg.spec.cmmn._20151109.model.TSentry;
+import org.omg.spec.cmmn._20151109.model.TStage;
+
+/**
+ * Generates synthetic CMMN 1.1 case models of arbitrary size, for scaling tests and benchmarks.
+ * <p>
+ * The case plan model is a tree of stages, with the given depth and branching factor.
+ * Each stage contains the given number of human tasks, in sequence: each task (but the first)
+ * has an entry sentry, triggered by the completion of the previous task.
+ * <p>
+ * Plan items reference their definitions, and sentries their sources, as object references,
+ * consistent with the (IDREF) models produced by the CMMN parser, and navigable with
+ * {@link CMMN11Utils}. Models are deterministic for a given configuration.
+ */
+public final class CMMN11ModelGenerator {
+
+  private static final ObjectFactory of = new ObjectFactory();
+
+  private CMMN11ModelGenerator() {
+    // functions only
+  }
+
+  /**
+   * @param tasks the number of tasks, in a single (flat) case plan model
+   * @return a synthetic case model
+   */
+  public static TDefinitions caseModel(int tasks) {
+    return caseModel(0, 0, tasks);
+  }
+
+  /**
+   * @param depth          the depth of the stage tree (0 = case plan model only)
+   * @param stagesPerStage the number of sub-stages per stage
+   * @param tasksPerStage  the number of tasks per stage
+   * @return a synthetic case model
+   */
+  public static TDefinitions caseModel(int depth, int stagesPerStage, int tasksPerStage) {
+    int[] counter = new int[1];
+    TStage plan = stage(depth, stagesPerStage, tasksPerStage, counter);
+    plan.setName("Synthetic Case Plan");
+    return new TDefinitions()
+        .withId(id("definitions", depth * 31 + stagesPerStage * 17 + tasksPerStage))
+        .withName("Synthetic Case Model")
+        .withTargetNamespace("http://kmdp.mayo.edu/synthetic/cmmn")
+        .withCase(new TCase()
+            .withId(id("case", 0))
+            .withName("Synthetic Case")
+            .withCasePlanModel(plan));
+  }
+
+  private static TStage stage(int depth, int stagesPerStage, int tasksPerStage, int[] counter) {
+    int s = counter[0]++;
+    TStage stage = new TStage()
+        .withId(id("stage", s))
+        .withName("Stage " + s);
+
+    TPlanItem previous = null;
+    for (int j = 0; j < tasksPerStage; j++) {
+      int t = counter[0]++;
+      THumanTask task = new THumanTask()
+          .withId(id("task", t))
+          .withName("Task " + t);
+      TPlanItem item = new TPlanItem()
+          .withId(id("item", t))
+          .withDefinitionRef(task);
+      if (previous != null) {
+        TSentry sentry = new TSentry()
+            .withId(id("sentry", t));
+        sentry.getOnPart().add(of.createPlanItemOnPart(new TPlanItemOnPart()
+            .withId(id("onPart", t))
+            .withSourceRef(previous)));
+        stage.getSentry().add(sentry);
+        item.getEntryCriterion().add(new TEntryCriterion()
+            .withId(id("entry", t))
+            .withSentryRef(sentry));
+      }
+      stage.getPlanItem().add(item);
+      stage.getPlanItemDefinition().add(of.createHumanTask(task));
+      previous = item;
+    }
+
+    if (depth > 0) {
+      for (int k = 0; k < stagesPerStage; k++) {
+        TStage sub = stage(depth - 1, stagesPerStage, tasksPerStage, counter);
+        stage.getPlanItem().add(new TPlanItem()
+            .withId(id("item", counter[0]++))
+            .withDefinitionRef(sub));
+        stage.getPlanItemDefinition().add(of.createStage(sub));
+      }
+    }
+    return stage;
+  }
+
+  static String id(String type, int j) {
+    return "_" + UUID.nameUUIDFromBytes((type + j).getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -0,0 +1,135 @@
+package edu.mayo.kmdp.language.common.dmn.v1_2;
+
+import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.idToRef;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.omg.spec.dmn._20180521.model.ObjectFactory;
+import org.omg.spec.dmn._20180521.model.TAuthorityRequirement;
+import org.omg.spec.dmn._20180521.model.TBusinessKnowledgeModel;
+import org.omg.spec.dmn._20180521.model.TDMNElementReference;
+import org.omg.spec.dmn._20180521.model.TDecision;
+import org.omg.spec.dmn._20180521.model.TDecisionService;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.omg.spec.dmn._20180521.model.TInformationRequirement;
+import org.omg.spec.dmn._20180521.model.TInputData;
+import org.omg.spec.dmn._20180521.model.TKnowledgeRequirement;
+import org.omg.spec.dmn._20180521.model.TKnowledgeSource;
+
+/**
+ * Generates synthetic DMN 1.2 decision models of arbitrary size, for scaling tests and benchmarks.
+ * <p>
+ * Decisions are arranged in groups: each decision requires one input data, and (up to) 'fanIn'
+ * of the preceding decisions in the same group. Each group has a knowledge source, which is the
+ * authority of all the group's decisions. Optionally, each group is wrapped in a decision
+ * service, which outputs the last decision of the group, and is invoked (via a BKM) by the
+ * first decision of the next group.
+ * <p>
+ * Ids and references follow the conventions of {@link DMN12Utils}; models are deterministic
+ * for a given configuration.
+ */
+public final class DMN12ModelGenerator {
+
+  private static final ObjectFactory of = new ObjectFactory();
+
+  private DMN12ModelGenerator() {
+    // functions only
+  }
+
+  public static TDefinitions decisionModel(int decisions) {
+    return decisionModel(decisions, 2, 10, false);
+  }
+
+  /**
+   * @param decisions    the total number of decisions
+   * @param fanIn        the number of decisions required by each decision (within the group)
+   * @param groupSize    the number of decisions per group
+   * @param withServices if true, wraps each group in a decision service
+   * @return a synthetic decision model
+   */
+  public static TDefinitions decisionModel(
+      int decisions, int fanIn, int groupSize, boolean withServices) {
+    TDefinitions dmn = new TDefinitions()
+        .withId(id("definitions", decisions))
+        .withName("Synthetic Decision Model " + decisions)
+        .withNamespace("http://kmdp.mayo.edu/synthetic/dmn/" + decisions);
+
+    List<TDecision> group = new ArrayList<>(groupSize);
+    for (int j = 0; j < decisions; j++) {
+      int g = j / groupSize;
+      if (j % groupSize == 0) {
+        group.clear();
+        dmn.withDrgElement(of.createKnowledgeSource(new TKnowledgeSource()
+            .withId(id("ks", g))
+            .withName("Source " + g)
+            .withLocationURI("http://kmdp.mayo.edu/synthetic/sources/" + g)));
+      }
+
+      TInputData input = new TInputData()
+          .withId(id("in", j))
+          .withName("Input " + j);
+      TDecision decision = new TDecision()
+          .withId(id("dec", j))
+          .withName("Decision " + j)
+          .withInformationRequirement(new TInformationRequirement()
+              .withRequiredInput(ref(input.getId())))
+          .withAuthorityRequirement(new TAuthorityRequirement()
+              .withRequiredAuthority(ref(id("ks", g))));
+      for (int k = 1; k <= fanIn && k <= group.size(); k++) {
+        decision.withInformationRequirement(new TInformationRequirement()
+            .withRequiredDecision(ref(group.get(group.size() - k).getId())));
+      }
+      if (withServices && g > 0 && group.isEmpty()) {
+        decision.withKnowledgeRequirement(new TKnowledgeRequirement()
+            .withRequiredKnowledge(ref(id("bkm", g - 1))));
+      }
+      group.add(decision);
+      dmn.withDrgElement(of.createInputData(input));
+      dmn.withDrgElement(of.createDecision(decision));
+
+      boolean lastOfGroup = (j + 1) % groupSize == 0 || j + 1 == decisions;
+      if (withServices && lastOfGroup) {
+        decisionService(dmn, group, g);
+      }
+    }
+    return dmn;
+  }
+
+  private static void decisionService(
+      TDefinitions dmn, List<TDecision> group, int g) {
+    TDecisionService service = new TDecisionService()
+        .withId(id("ds", g))
+        .withName("Service " + g);
+    for (int k = 0; k < group.size(); k++) {
+      TDecision dec = group.get(k);
+      if (k == group.size() - 1) {
+        service.withOutputDecision(ref(dec.getId()));
+      } else {
+        service.withEncapsulatedDecision(ref(dec.getId()));
+      }
+      dec.getInformationRequirement().stream()
+          .map(TInformationRequirement::getRequiredInput)
+          .filter(Objects::nonNull)
+          .forEach(in -> service.withInputData(new TDMNElementReference().withHref(in.getHref())));
+    }
+    TBusinessKnowledgeModel bkm = new TBusinessKnowledgeModel()
+        .withId(id("bkm", g))
+        .withName("Service Client " + g)
+        .withKnowledgeRequirement(new TKnowledgeRequirement()
+            .withRequiredKnowledge(ref(service.getId())));
+    dmn.withDrgElement(of.createDecisionService(service));
+    dmn.withDrgElement(of.createBusinessKnowledgeModel(bkm));
+  }
+
+  private static TDMNElementReference ref(String id) {
+    return new TDMNElementReference().withHref(idToRef(id));
+  }
+
+  static String id(String type, int j) {
+    return "_" + UUID.nameUUIDFromBytes((type + j).getBytes(StandardCharsets.UTF_8));
+  }
+
+}
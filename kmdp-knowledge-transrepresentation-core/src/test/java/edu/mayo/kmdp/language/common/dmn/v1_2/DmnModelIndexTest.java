@@ -0,0 +1,110 @@
+package edu.mayo.kmdp.language.common.dmn.v1_2;
+
+import static edu.mayo.kmdp.language.common.dmn.v1_2.DMN12Utils.idToRef;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.dmn._20180521.model.TDecision;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+
+class DmnModelIndexTest {
+
+  @Test
+  void testIndexAgreesWithUtils() {
+    TDefinitions dmn = DMN12ModelGenerator.decisionModel(50, 2, 10, true);
+    DmnModelIndex index = DmnModelIndex.of(dmn);
+
+    assertEquals(DMN12Utils.streamDecisions(dmn).collect(Collectors.toList()),
+        index.getDecisions());
+    assertEquals(DMN12Utils.streamInputs(dmn).collect(Collectors.toList()),
+        index.getInputs());
+    assertEquals(DMN12Utils.streamBKM(dmn).collect(Collectors.toList()),
+        index.getBKMs());
+    assertEquals(DMN12Utils.streamDecisionServices(dmn).collect(Collectors.toList()),
+        index.getDecisionServices());
+    assertEquals(DMN12Utils.streamKnowledgeSources(dmn).collect(Collectors.toList()),
+        index.getKnowledgeSources());
+
+    for (TDecision dec : index.getDecisions()) {
+      String href = idToRef(dec.getId());
+      assertSame(DMN12Utils.findDecision(href, dmn).orElseThrow(),
+          index.findDecision(href).orElseThrow());
+      assertEquals(
+          DMN12Utils.getSubDecisionsClosure(dec, dmn).distinct().collect(Collectors.toList()),
+          index.getSubDecisionsClosure(dec).collect(Collectors.toList()));
+      dec.getInformationRequirement().stream()
+          .filter(info -> info.getRequiredInput() != null)
+          .forEach(info -> assertSame(
+              DMN12Utils.findInput(info.getRequiredInput(), dmn).orElseThrow(),
+              index.findInput(info.getRequiredInput()).orElseThrow()));
+      dec.getAuthorityRequirement()
+          .forEach(auth -> assertSame(
+              DMN12Utils.findKnowledgeSource(auth.getRequiredAuthority(), dmn).orElseThrow(),
+              index.findKnowledgeSource(auth.getRequiredAuthority()).orElseThrow()));
+    }
+  }
+
+  @Test
+  void testLookupByURIAndNormalizedId() {
+    TDefinitions dmn = DMN12ModelGenerator.decisionModel(5);
+    DmnModelIndex index = DmnModelIndex.of(dmn);
+    TDecision dec = index.getDecisions().get(3);
+
+    assertSame(dec,
+        index.findDecision(URI.create(dmn.getNamespace() + "#" + dec.getId())).orElseThrow());
+    assertSame(dec, index.findDecision("#" + dec.getId()).orElseThrow());
+    assertSame(dec, index.findDecision(idToRef(dec.getId())).orElseThrow());
+
+    assertFalse(index.findInput(idToRef(dec.getId())).isPresent());
+    assertFalse(index.findDecision("#unknown").isPresent());
+    assertFalse(index.findDecision(URI.create(dmn.getNamespace())).isPresent());
+  }
+
+  @Test
+  void testClosureWithSharedSubDecisions() {
+    // each decision requires the previous two: the number of paths grows exponentially
+    TDefinitions dmn = DMN12ModelGenerator.decisionModel(200, 2, 200, false);
+    DmnModelIndex index = DmnModelIndex.of(dmn);
+    List<TDecision> decisions = index.getDecisions();
+
+    TDecision mid = decisions.get(99);
+    List<TDecision> midClosure = index.getSubDecisionsClosure(mid)
+        .collect(Collectors.toList());
+    assertEquals(100, midClosure.size());
+    assertSame(mid, midClosure.get(0));
+
+    TDecision last = decisions.get(199);
+    List<TDecision> closure = index.getSubDecisionsClosure(last)
+        .collect(Collectors.toList());
+    assertEquals(200, closure.size());
+    assertSame(last, closure.get(0));
+    assertTrue(closure.containsAll(midClosure));
+    assertEquals(closure, index.getSubDecisionsClosure(last).collect(Collectors.toList()));
+
+    List<TDecision> small = DmnModelIndex.of(dmn).getSubDecisionsClosure(decisions.get(15))
+        .collect(Collectors.toList());
+    assertEquals(
+        DMN12Utils.getSubDecisionsClosure(decisions.get(15), dmn)
+            .distinct().collect(Collectors.toList()),
+        small);
+  }
+
+  @Test
+  void testDecisionServiceScope() {
+    TDefinitions dmn = DMN12ModelGenerator.decisionModel(20, 2, 10, true);
+    DmnModelIndex index = DmnModelIndex.of(dmn);
+    assertTrue(index.getDecisions().stream().allMatch(index::isDecisionServiceScoped));
+
+    DmnModelIndex plain = DmnModelIndex.of(DMN12ModelGenerator.decisionModel(20));
+    List<TDecision> decisions = plain.getDecisions();
+    assertEquals(20, decisions.size());
+    assertTrue(decisions.stream().noneMatch(plain::isDecisionServiceScoped));
+  }
+
+}
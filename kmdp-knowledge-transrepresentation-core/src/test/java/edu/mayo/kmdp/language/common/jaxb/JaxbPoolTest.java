@@ -0,0 +1,112 @@
+package edu.mayo.kmdp.language.common.jaxb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.mayo.kmdp.util.FileUtil;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.dmn._20180521.model.ObjectFactory;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+
+class JaxbPoolTest {
+
+  private static final String DMN = FileUtil.read(JaxbPoolTest.class
+      .getResourceAsStream("/dmn12example.dmn"))
+      .orElse("");
+
+  // a class context not used by the parsers and detectors, so that the pool is not shared
+  private final JaxbPool pool = JaxbPool
+      .of(Arrays.asList(TDefinitions.class, ObjectFactory.class))
+      .orElseGet(Assertions::fail);
+
+  @Test
+  void testPoolsAreSharedPerClassContext() {
+    assertSame(pool,
+        JaxbPool.of(Arrays.asList(ObjectFactory.class, TDefinitions.class)).orElse(null));
+  }
+
+  @Test
+  void testUnmarshallersAreReused() throws JAXBException {
+    drain();
+    for (int j = 0; j < 3; j++) {
+      assertTrue(pool.unmarshall(TDefinitions.class, DMN.getBytes(StandardCharsets.UTF_8))
+          .isPresent());
+      assertEquals(1, pool.idleUnmarshallers());
+    }
+
+    Unmarshaller u = pool.borrowUnmarshaller();
+    pool.releaseUnmarshaller(u);
+    assertSame(u, pool.borrowUnmarshaller());
+  }
+
+  @Test
+  void testIdleUnmarshallersAreBounded() throws JAXBException {
+    drain();
+    List<Unmarshaller> borrowed = new ArrayList<>();
+    for (int j = 0; j < JaxbPool.MAX_IDLE + 3; j++) {
+      borrowed.add(pool.borrowUnmarshaller());
+    }
+    borrowed.forEach(pool::releaseUnmarshaller);
+    assertEquals(JaxbPool.MAX_IDLE, pool.idleUnmarshallers());
+  }
+
+  @Test
+  void testConcurrentBorrowAndReturn() throws Exception {
+    ExecutorService exec = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Optional<String>>> results = new ArrayList<>();
+      for (int j = 0; j < 200; j++) {
+        results.add(exec.submit(() -> pool.unmarshall(TDefinitions.class, DMN)
+            .map(TDefinitions::getName)));
+      }
+      for (Future<Optional<String>> result : results) {
+        assertTrue(result.get().isPresent());
+      }
+    } finally {
+      exec.shutdown();
+    }
+    assertTrue(pool.idleUnmarshallers() > 0);
+    assertTrue(pool.idleUnmarshallers() <= JaxbPool.MAX_IDLE);
+  }
+
+  @Test
+  void testExternalEntitiesAreNotResolved() throws IOException {
+    Path secret = Files.createTempFile("jaxb", ".txt");
+    secret.toFile().deleteOnExit();
+    Files.write(secret, "SECRET".getBytes(StandardCharsets.UTF_8));
+
+    String xml = "<?xml version=\"1.0\"?>\n"
+        + "<!DOCTYPE definitions [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>\n"
+        + "<definitions xmlns=\"http://www.omg.org/spec/DMN/20180521/MODEL/\" "
+        + "id=\"x\" name=\"x\" namespace=\"http://test.org/x\">"
+        + "<description>&xxe;</description>"
+        + "</definitions>";
+
+    Optional<String> description = pool.unmarshall(TDefinitions.class, xml)
+        .map(TDefinitions::getDescription);
+    assertFalse(description.filter(d -> d.contains("SECRET")).isPresent());
+  }
+
+  private void drain() throws JAXBException {
+    while (pool.idleUnmarshallers() > 0) {
+      pool.borrowUnmarshaller();
+    }
+  }
+
+}
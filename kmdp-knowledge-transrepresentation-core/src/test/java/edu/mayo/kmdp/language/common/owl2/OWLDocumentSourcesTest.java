@@ -0,0 +1,60 @@
+package edu.mayo.kmdp.language.common.owl2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Functional_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Manchester_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.RDF_XML_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
+
+import edu.mayo.kmdp.util.FileUtil;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+class OWLDocumentSourcesTest {
+
+  private final byte[] manchester = read("/owlExample.owl");
+  private final byte[] rdfXml = read("/owlExample.rdf");
+
+  @Test
+  void testSniffSerialization() {
+    assertTrue(OWLDocumentSources.sniff(manchester)
+        .filter(OWL_Manchester_Syntax::sameAs).isPresent());
+    assertTrue(OWLDocumentSources.sniff(rdfXml)
+        .filter(RDF_XML_Syntax::sameAs).isPresent());
+    assertTrue(OWLDocumentSources.sniff(
+        "Prefix(:=<http://ex.com/>)\nOntology(<http://ex.com/o>)".getBytes())
+        .filter(OWL_Functional_Syntax::sameAs).isPresent());
+    assertTrue(OWLDocumentSources.sniff(
+        "@prefix : <http://ex.com/> .\n".getBytes())
+        .filter(Turtle::sameAs).isPresent());
+    assertFalse(OWLDocumentSources.sniff("Not an ontology".getBytes()).isPresent());
+  }
+
+  @Test
+  void testLoadWithHint() throws OWLOntologyCreationException {
+    OWLOntologyManager manager = OWLManagerPool.newManager();
+    OWLOntology onto = OWLDocumentSources.loadOntology(manager, rdfXml, RDF_XML_Syntax);
+    assertTrue(manager.getOntologyFormat(onto) instanceof RDFXMLDocumentFormat);
+  }
+
+  @Test
+  void testLoadWithWrongHintFallsBack() throws OWLOntologyCreationException {
+    OWLOntologyManager manager = OWLManagerPool.newManager();
+    OWLOntology onto = OWLDocumentSources.loadOntology(manager, manchester, Turtle);
+    assertTrue(manager.getOntologyFormat(onto) instanceof ManchesterSyntaxDocumentFormat);
+    assertEquals(1, manager.ontologies().count());
+  }
+
+  private byte[] read(String path) {
+    return FileUtil.read(OWLDocumentSourcesTest.class.getResourceAsStream(path))
+        .orElse("")
+        .getBytes();
+  }
+
+}
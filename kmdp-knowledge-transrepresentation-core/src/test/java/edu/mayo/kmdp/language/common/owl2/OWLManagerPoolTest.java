@@ -0,0 +1,66 @@
+package edu.mayo.kmdp.language.common.owl2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.mayo.kmdp.util.FileUtil;
+import java.io.ByteArrayInputStream;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+class OWLManagerPoolTest {
+
+  private final byte[] owl = FileUtil.read(OWLManagerPoolTest.class
+      .getResourceAsStream("/owlExample.owl"))
+      .orElse("")
+      .getBytes();
+
+  @Test
+  void testPooledManagersAreClearedAndReused() {
+    OWLManagerPool pool = OWLManagerPool.of(true, null);
+    assertSame(pool, OWLManagerPool.of(true, ""));
+    assertNotSame(pool, OWLManagerPool.of(false, null));
+
+    AtomicReference<OWLOntologyManager> used = new AtomicReference<>();
+    for (int j = 0; j < 3; j++) {
+      Optional<Long> axioms = pool.apply(manager -> {
+        used.set(manager);
+        return load(manager).map(OWLOntology::getAxiomCount).map(Integer::longValue);
+      });
+      assertTrue(axioms.isPresent());
+      assertTrue(axioms.get() > 0);
+      assertEquals(0, used.get().ontologies().count());
+    }
+
+    OWLOntologyManager first = used.get();
+    pool.apply(manager -> {
+      used.set(manager);
+      return Optional.empty();
+    });
+    assertSame(first, used.get());
+  }
+
+  @Test
+  void testDedicatedManagersKeepTheirOntologies() {
+    OWLOntologyManager manager = OWLManagerPool.of(false, null).newConfiguredManager();
+    Optional<OWLOntology> onto = load(manager);
+    assertTrue(onto.isPresent());
+    assertSame(manager, onto.get().getOWLOntologyManager());
+    assertEquals(1, manager.ontologies().count());
+  }
+
+  private Optional<OWLOntology> load(OWLOntologyManager manager) {
+    try {
+      return Optional.of(manager.loadOntologyFromOntologyDocument(new ByteArrayInputStream(owl)));
+    } catch (OWLOntologyCreationException e) {
+      return Optional.empty();
+    }
+  }
+
+}
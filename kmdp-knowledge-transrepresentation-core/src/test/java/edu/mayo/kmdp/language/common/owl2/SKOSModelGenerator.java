@@ -0,0 +1,82 @@
+package edu.mayo.kmdp.language.common.owl2;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.apache.jena.vocabulary.SKOS;
+
+/**
+ * Generates synthetic SKOS concept schemes and OWL class hierarchies of arbitrary size,
+ * for scaling tests and benchmarks.
+ * <p>
+ * Concepts (resp. classes) are arranged in a balanced tree with the given fan out.
+ * Models are deterministic for a given configuration.
+ */
+public final class SKOSModelGenerator {
+
+  public static final String NS = "http://kmdp.mayo.edu/synthetic/terms#";
+
+  private SKOSModelGenerator() {
+    // functions only
+  }
+
+  /**
+   * A SKOS concept scheme, with a top concept, and concepts with a notation, a preferred label,
+   * and a broader concept
+   *
+   * @param concepts the number of concepts (excluding the top concept)
+   * @param fanOut   the number of narrower concepts per concept
+   * @return the model
+   */
+  public static Model conceptScheme(int concepts, int fanOut) {
+    Model model = ModelFactory.createDefaultModel();
+    Resource scheme = model.createResource(NS + "Scheme")
+        .addProperty(RDF.type, SKOS.ConceptScheme)
+        .addProperty(RDFS.label, "Synthetic Scheme " + concepts);
+    Resource top = model.createResource(NS + "Top")
+        .addProperty(RDF.type, SKOS.Concept)
+        .addProperty(SKOS.inScheme, scheme);
+    scheme.addProperty(SKOS.hasTopConcept, top);
+
+    Resource[] all = new Resource[concepts];
+    for (int j = 0; j < concepts; j++) {
+      Resource parent = j < fanOut ? top : all[(j / fanOut) - 1];
+      all[j] = model.createResource(NS + "C" + j)
+          .addProperty(RDF.type, SKOS.Concept)
+          .addProperty(SKOS.inScheme, scheme)
+          .addProperty(SKOS.notation, "C" + j)
+          .addProperty(SKOS.prefLabel, "Concept " + j)
+          .addProperty(SKOS.broader, parent);
+    }
+    return model;
+  }
+
+  /**
+   * An OWL ontology, with a hierarchy of labeled, named classes
+   *
+   * @param classes the number of classes
+   * @param fanOut  the number of subclasses per class
+   * @return the model
+   */
+  public static Model classHierarchy(int classes, int fanOut) {
+    Model model = ModelFactory.createDefaultModel();
+    model.setNsPrefix("syn", NS);
+    model.createResource(NS.substring(0, NS.length() - 1))
+        .addProperty(RDF.type, OWL.Ontology);
+
+    Resource[] all = new Resource[classes];
+    for (int j = 0; j < classes; j++) {
+      all[j] = model.createResource(NS + "K" + j)
+          .addProperty(RDF.type, OWL.Class)
+          .addProperty(RDFS.label, "Class " + j);
+      if (j >= fanOut) {
+        all[j].addProperty(RDFS.subClassOf, all[(j / fanOut) - 1]);
+      }
+    }
+    return model;
+  }
+
+}
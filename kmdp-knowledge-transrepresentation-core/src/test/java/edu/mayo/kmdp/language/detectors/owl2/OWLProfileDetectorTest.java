@@ -0,0 +1,100 @@
+package edu.mayo.kmdp.language.detectors.owl2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_DL;
+import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresentationLanguageProfileSeries.OWL2_EL;
+
+import edu.mayo.kmdp.language.common.owl2.OWLManagerPool;
+import edu.mayo.kmdp.language.detectors.owl2.OWLDetectorConfig.DetectorParams;
+import edu.mayo.kmdp.util.PropertiesUtil;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.api4kp._20200801.services.SyntacticRepresentation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+class OWLProfileDetectorTest {
+
+  private static final String NS = "http://test.org/profiles#";
+
+  @Test
+  void testSinglePassRulesOutProfiles() throws OWLOntologyCreationException {
+    OWLOntology o = elOntology(null);
+    assertEquals(Collections.singleton(OWL2_EL), OWLProfileDetector.candidateProfiles(o));
+    assertEquals(OWL2_EL, OWLProfileDetector.detectProfile(o));
+  }
+
+  @Test
+  void testProfilesAreCachedByVersion() throws OWLOntologyCreationException {
+    OWLProfileDetector.invalidateAll();
+    OWLOntology o = elOntology(IRI.create(NS + "v1"));
+    assertEquals(OWL2_EL, OWLProfileDetector.detectProfile(o));
+
+    // universal restrictions are not allowed in EL, but the version is unchanged
+    OWLDataFactory df = o.getOWLOntologyManager().getOWLDataFactory();
+    o.getOWLOntologyManager().addAxiom(o, df.getOWLSubClassOfAxiom(cls(df, "C"),
+        df.getOWLObjectAllValuesFrom(prop(df, "p"), cls(df, "A"))));
+    assertEquals(OWL2_EL, OWLProfileDetector.detectProfile(o));
+
+    OWLProfileDetector.invalidateAll();
+    assertEquals(OWL2_DL, OWLProfileDetector.detectProfile(o));
+  }
+
+  @Test
+  void testProfileDetectionIsOptIn() throws OWLOntologyCreationException {
+    OWLOntology o = elOntology(null);
+    OWLDetector detector = new OWLDetector();
+
+    Optional<SyntacticRepresentation> plain = detector.applyDetect(ofAst(o), null)
+        .map(KnowledgeCarrier::getRepresentation)
+        .getOptionalValue();
+    assertTrue(plain.isPresent());
+    assertNull(plain.get().getProfile());
+
+    String config = PropertiesUtil.serializeProps(
+        new OWLDetectorConfig().with(DetectorParams.DETECT_PROFILE, "true"));
+    Optional<SyntacticRepresentation> profiled = detector.applyDetect(ofAst(o), config)
+        .map(KnowledgeCarrier::getRepresentation)
+        .getOptionalValue();
+    assertTrue(profiled.isPresent());
+    assertEquals(OWL2_EL, profiled.get().getProfile());
+  }
+
+  private OWLOntology elOntology(IRI version) throws OWLOntologyCreationException {
+    OWLOntologyManager manager = OWLManagerPool.newManager();
+    OWLDataFactory df = manager.getOWLDataFactory();
+    OWLOntology o = manager.createOntology(
+        new OWLOntologyID(Optional.of(IRI.create(NS)), Optional.ofNullable(version)));
+    OWLObjectProperty p = prop(df, "p");
+    Stream.of(
+        df.getOWLDeclarationAxiom(cls(df, "A")),
+        df.getOWLDeclarationAxiom(cls(df, "B")),
+        df.getOWLDeclarationAxiom(cls(df, "C")),
+        df.getOWLDeclarationAxiom(p),
+        df.getOWLTransitiveObjectPropertyAxiom(p),
+        df.getOWLSubClassOfAxiom(cls(df, "A"), df.getOWLObjectSomeValuesFrom(p, cls(df, "B"))))
+        .forEach(axiom -> manager.addAxiom(o, axiom));
+    return o;
+  }
+
+  private OWLClass cls(OWLDataFactory df, String name) {
+    return df.getOWLClass(IRI.create(NS + name));
+  }
+
+  private OWLObjectProperty prop(OWLDataFactory df, String name) {
+    return df.getOWLObjectProperty(IRI.create(NS + name));
+  }
+
+}
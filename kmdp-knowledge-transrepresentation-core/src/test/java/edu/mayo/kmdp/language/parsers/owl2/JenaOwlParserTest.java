@@ -0,0 +1,67 @@
+package edu.mayo.kmdp.language.parsers.owl2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParserConfig;
+import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParserConfig.JenaRdfParams;
+import edu.mayo.kmdp.util.PropertiesUtil;
+import java.nio.charset.Charset;
+import org.apache.jena.ontology.OntModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.Answer;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+
+class JenaOwlParserTest {
+
+  private static final String OWL = "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+      + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .\n"
+      + "<http://test.org/onto> a owl:Ontology ;\n"
+      + "  owl:versionIRI <http://test.org/onto/1.0.0> ;\n"
+      + "  rdfs:label \"Test Ontology\" .\n"
+      + "<http://test.org/onto#A> a owl:Class .\n"
+      + "<http://test.org/onto#B> a owl:Class ; rdfs:subClassOf <http://test.org/onto#A> .\n";
+
+  private final JenaOwlParser parser = new JenaOwlParser();
+
+  @Test
+  void testDefaultSpecHasNoReasoner() {
+    KnowledgeCarrier kc = lift(null).orElseGet(Assertions::fail);
+
+    assertEquals("Test Ontology", kc.getLabel());
+    assertNotNull(kc.getAssetId());
+
+    OntModel model = kc.as(OntModel.class).orElseGet(Assertions::fail);
+    assertNull(model.getReasoner());
+    assertEquals(1, model.listOntologies().toList().size());
+  }
+
+  @Test
+  void testConfigurableSpec() {
+    OntModel model = lift(PropertiesUtil.serializeProps(
+        new JenaRdfParserConfig().with(JenaRdfParams.ONT_MODEL_SPEC, "OWL_MEM_RDFS_INF")))
+        .flatOpt(kc -> kc.as(OntModel.class))
+        .orElseGet(Assertions::fail);
+    assertNotNull(model.getReasoner());
+
+    assertTrue(lift(PropertiesUtil.serializeProps(
+        new JenaRdfParserConfig().with(JenaRdfParams.ONT_MODEL_SPEC, "NOT_A_SPEC")))
+        .isFailure());
+  }
+
+  private Answer<KnowledgeCarrier> lift(String config) {
+    return parser.applyLift(
+        of(OWL).withRepresentation(rep(OWL_2, Turtle, TXT, Charset.defaultCharset())),
+        Abstract_Knowledge_Expression, null, config);
+  }
+
+}
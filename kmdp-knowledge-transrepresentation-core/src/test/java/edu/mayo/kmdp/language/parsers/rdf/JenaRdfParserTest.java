@@ -0,0 +1,125 @@
+package edu.mayo.kmdp.language.parsers.rdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.TXT;
+import static org.omg.spec.api4kp._20200801.taxonomy.krformat.SerializationFormatSeries.XML_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.OWL_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.RDF_XML_Syntax;
+import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.Turtle;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Encoded_Knowledge_Expression;
+import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Serialized_Knowledge_Expression;
+
+import edu.mayo.kmdp.language.parsers.rdf.JenaRdfParserConfig.JenaRdfParams;
+import edu.mayo.kmdp.util.PropertiesUtil;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.apache.jena.rdf.model.Model;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+
+class JenaRdfParserTest {
+
+  private static final String TTL = "@prefix ex: <http://test.org/rdf#> .\n"
+      + "ex:a ex:p ex:b ; ex:q \"èé\" .\n"
+      + "ex:b ex:p ex:c .\n";
+
+  private final JenaRdfParser parser = new JenaRdfParser();
+
+  @Test
+  void testStreamingRoundTrip() {
+    Model model = lift(null);
+    assertEquals(3, model.size());
+
+    byte[] bytes = parser.applyLower(
+        ofAst(model).withRepresentation(rep(OWL_2)),
+        Encoded_Knowledge_Expression,
+        codedRep(rep(OWL_2, Turtle, TXT, StandardCharsets.UTF_8)),
+        null)
+        .flatOpt(KnowledgeCarrier::asBinary)
+        .orElseGet(Assertions::fail);
+
+    Model relifted = parser.applyLift(
+        of(bytes).withRepresentation(rep(OWL_2, Turtle, TXT, StandardCharsets.UTF_8)),
+        Abstract_Knowledge_Expression, null, null)
+        .flatOpt(kc -> kc.as(Model.class))
+        .orElseGet(Assertions::fail);
+    assertTrue(model.isIsomorphicWith(relifted));
+  }
+
+  @Test
+  void testModelBackends() {
+    Model reference = lift(null);
+    for (String backend : new String[]{
+        JenaRdfParserConfig.GRAPH_MEM2_BACKEND, JenaRdfParserConfig.DATASET_BACKEND}) {
+      Model model = lift(PropertiesUtil.serializeProps(
+          new JenaRdfParserConfig().with(JenaRdfParams.MODEL_BACKEND, backend)));
+      assertTrue(reference.isIsomorphicWith(model));
+    }
+    Model legacy = lift(PropertiesUtil.serializeProps(
+        new JenaRdfParserConfig().with(JenaRdfParams.STREAMING, "false")));
+    assertTrue(reference.isIsomorphicWith(legacy));
+  }
+
+  @Test
+  void testBase64Lift() {
+    byte[] enc = Base64.getEncoder().encode(TTL.getBytes(StandardCharsets.UTF_8));
+    Model model = parser.applyLift(
+        of(enc).withRepresentation(rep(OWL_2, Turtle, TXT, StandardCharsets.UTF_8)
+            .withEncoding("base64")),
+        Abstract_Knowledge_Expression, null, null)
+        .flatOpt(kc -> kc.as(Model.class))
+        .orElseGet(Assertions::fail);
+    assertTrue(lift(null).isIsomorphicWith(model));
+  }
+
+  @Test
+  void testSerializedTurtleIsNotAffectedByStreaming() {
+    Model model = lift(null);
+    String streaming = serialize(model, null);
+    String legacy = serialize(model, PropertiesUtil.serializeProps(
+        new JenaRdfParserConfig().with(JenaRdfParams.STREAMING, "false")));
+    assertEquals(legacy, streaming);
+  }
+
+  @Test
+  void testWriteToConsumer() {
+    Model model = lift(null);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    parser.writeModel(model, rep(OWL_2, RDF_XML_Syntax, XML_1_1), out);
+
+    Model relifted = parser.applyLift(
+        of(out.toByteArray()).withRepresentation(rep(OWL_2, RDF_XML_Syntax, XML_1_1)),
+        Abstract_Knowledge_Expression, null, null)
+        .flatOpt(kc -> kc.as(Model.class))
+        .orElseGet(Assertions::fail);
+    assertTrue(model.isIsomorphicWith(relifted));
+  }
+
+  private String serialize(Model model, String config) {
+    return parser.applyLower(
+        ofAst(model).withRepresentation(rep(OWL_2)),
+        Serialized_Knowledge_Expression,
+        codedRep(rep(OWL_2, Turtle, TXT)),
+        config)
+        .flatOpt(KnowledgeCarrier::asString)
+        .orElseGet(Assertions::fail);
+  }
+
+  private Model lift(String config) {
+    return parser.applyLift(
+        of(TTL.getBytes(StandardCharsets.UTF_8))
+            .withRepresentation(rep(OWL_2, Turtle, TXT, StandardCharsets.UTF_8)),
+        Abstract_Knowledge_Expression, null, config)
+        .flatOpt(kc -> kc.as(Model.class))
+        .orElseGet(Assertions::fail);
+  }
+
+}
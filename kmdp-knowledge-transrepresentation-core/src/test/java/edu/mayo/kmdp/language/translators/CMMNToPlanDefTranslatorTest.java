@@ -0,0 +1,180 @@
+package edu.mayo.kmdp.language.translators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.surrogate.SurrogateBuilder.defaultArtifactId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.CMMN_1_1;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+
+import edu.mayo.kmdp.language.common.cmmn.CMMN11ModelGenerator;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.CmmnToPlanDefConfig;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.CmmnToPlanDefConfig.CmmnToPlanDefParams;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.r4.CmmnToPlanDefR4Translator;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.stu3.CmmnToPlanDef;
+import edu.mayo.kmdp.language.translators.cmmn.v1_1.stu3.CmmnToPlanDefTranslator;
+import edu.mayo.kmdp.util.PropertiesUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hl7.fhir.dstu3.model.PlanDefinition;
+import org.hl7.fhir.dstu3.model.PlanDefinition.PlanDefinitionActionComponent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+import org.omg.spec.cmmn._20151109.model.TDefinitions;
+
+class CMMNToPlanDefTranslatorTest {
+
+  @Test
+  void testParallelStagesMatchSequential() {
+    TDefinitions caseModel = CMMN11ModelGenerator.caseModel(2, 4, 5);
+    ResourceIdentifier assetId = randomId();
+    ResourceIdentifier srcArtifactId = randomId();
+    ResourceIdentifier tgtArtifactId =
+        defaultArtifactId(assetId, FHIR_STU3, srcArtifactId.getVersionTag());
+
+    PlanDefinition sequential = new CmmnToPlanDef()
+        .transform(assetId, srcArtifactId, tgtArtifactId, caseModel);
+
+    AtomicInteger tasks = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      PlanDefinition parallel = new CmmnToPlanDef(r -> {
+        tasks.incrementAndGet();
+        pool.execute(r);
+      }).transform(assetId, srcArtifactId, tgtArtifactId, caseModel);
+
+      assertEquals(4, tasks.get());
+      assertEquals(describe(sequential.getAction()), describe(parallel.getAction()));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testParallelStagesMatchSequentialR4() {
+    TDefinitions caseModel = CMMN11ModelGenerator.caseModel(2, 4, 5);
+    ResourceIdentifier assetId = randomId();
+
+    org.hl7.fhir.r4.model.PlanDefinition sequential =
+        new edu.mayo.kmdp.language.translators.cmmn.v1_1.r4.CmmnToPlanDef()
+            .transform(assetId, caseModel);
+
+    AtomicInteger tasks = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      org.hl7.fhir.r4.model.PlanDefinition parallel =
+          new edu.mayo.kmdp.language.translators.cmmn.v1_1.r4.CmmnToPlanDef(r -> {
+            tasks.incrementAndGet();
+            pool.execute(r);
+          }).transform(assetId, caseModel);
+
+      assertEquals(4, tasks.get());
+      assertEquals(describeR4(sequential.getAction()), describeR4(parallel.getAction()));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testParallelStagesViaProperties() {
+    TDefinitions caseModel = CMMN11ModelGenerator.caseModel(1, 3, 4);
+    KnowledgeCarrier kc = ofAst(caseModel)
+        .withRepresentation(rep(CMMN_1_1))
+        .withAssetId(randomId())
+        .withArtifactId(randomId());
+
+    AtomicInteger tasks = new AtomicInteger();
+    Properties config = new Properties();
+    config.setProperty("parallelStages", "true");
+    config.put(CmmnToPlanDefConfig.STAGE_EXECUTOR,
+        (Executor) r -> {
+          tasks.incrementAndGet();
+          r.run();
+        });
+
+    assertTrue(CmmnToPlanDefConfig.getStageExecutor(config).isPresent());
+    assertTrue(CmmnToPlanDefConfig.getStageExecutor(new Properties()).isEmpty());
+
+    PlanDefinition planDef = new CmmnToPlanDefTranslator()
+        .applyTransrepresentation(kc, rep(FHIR_STU3), config)
+        .flatMap(out -> out.as(PlanDefinition.class))
+        .orElseGet(Assertions::fail);
+    assertEquals(3, tasks.get());
+    assertEquals(1, planDef.getAction().size());
+    assertEquals(3 + 4, planDef.getActionFirstRep().getAction().size());
+  }
+
+  @Test
+  void testStageExecutorViaPublicApi() {
+    TDefinitions caseModel = CMMN11ModelGenerator.caseModel(1, 3, 4);
+    KnowledgeCarrier kc = ofAst(caseModel)
+        .withRepresentation(rep(CMMN_1_1))
+        .withAssetId(randomId())
+        .withArtifactId(randomId());
+    String parallel = PropertiesUtil.serializeProps(new CmmnToPlanDefConfig()
+        .with(CmmnToPlanDefParams.PARALLEL_STAGES, "true"));
+
+    AtomicInteger tasks = new AtomicInteger();
+    Executor counting = r -> {
+      tasks.incrementAndGet();
+      r.run();
+    };
+
+    PlanDefinition planDef = new CmmnToPlanDefTranslator()
+        .withStageExecutor(counting)
+        .applyTransrepresent(kc, null, parallel)
+        .flatOpt(out -> out.as(PlanDefinition.class))
+        .orElseGet(Assertions::fail);
+    assertEquals(3, tasks.get());
+    assertEquals(3 + 4, planDef.getActionFirstRep().getAction().size());
+
+    org.hl7.fhir.r4.model.PlanDefinition r4PlanDef = new CmmnToPlanDefR4Translator()
+        .withStageExecutor(counting)
+        .applyTransrepresent(kc, null, parallel)
+        .flatOpt(out -> out.as(org.hl7.fhir.r4.model.PlanDefinition.class))
+        .orElseGet(Assertions::fail);
+    assertEquals(6, tasks.get());
+    assertEquals(3 + 4, r4PlanDef.getActionFirstRep().getAction().size());
+
+    // not used unless parallelStages is enabled
+    new CmmnToPlanDefTranslator()
+        .withStageExecutor(counting)
+        .applyTransrepresent(kc, null, null);
+    assertEquals(6, tasks.get());
+  }
+
+  private List<String> describe(List<PlanDefinitionActionComponent> actions) {
+    List<String> desc = new ArrayList<>();
+    for (PlanDefinitionActionComponent act : actions) {
+      desc.add(act.getId() + " " + act.getTitle());
+      act.getRelatedAction().forEach(rel -> desc.add(" after " + rel.getActionId()));
+      desc.add("(");
+      desc.addAll(describe(act.getAction()));
+      desc.add(")");
+    }
+    return desc;
+  }
+
+  private List<String> describeR4(
+      List<org.hl7.fhir.r4.model.PlanDefinition.PlanDefinitionActionComponent> actions) {
+    List<String> desc = new ArrayList<>();
+    for (org.hl7.fhir.r4.model.PlanDefinition.PlanDefinitionActionComponent act : actions) {
+      desc.add(act.getId() + " " + act.getTitle());
+      act.getRelatedAction().forEach(rel -> desc.add(" after " + rel.getActionId()));
+      desc.add("(");
+      desc.addAll(describeR4(act.getAction()));
+      desc.add(")");
+    }
+    return desc;
+  }
+
+}
@@ -5,9 +5,12 @@ import static edu.mayo.kmdp.language.common.fhir.stu3.FHIRPlanDefinitionUtils.ge
 import static edu.mayo.kmdp.util.StreamUtil.filterAs;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.codedRep;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.of;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
 import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newId;
 import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
@@ -19,8 +22,13 @@ import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeReprese
 import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
 import static org.omg.spec.api4kp._20200801.taxonomy.parsinglevel.ParsingLevelSeries.Abstract_Knowledge_Expression;
 
+import edu.mayo.kmdp.language.common.dmn.v1_2.DMN12ModelGenerator;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelDiff;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelDiff.ElementHashes;
+import edu.mayo.kmdp.language.common.dmn.v1_2.DmnModelIndex;
 import edu.mayo.kmdp.language.parsers.dmn.v1_2.DMN12Parser;
 import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDef;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDefTranslator;
 import edu.mayo.kmdp.registry.Registry;
 import java.nio.charset.Charset;
 import java.util.List;
@@ -167,6 +175,148 @@ class DMNToPlanDefTranslatorTest {
     assertEquals(RelatedArtifactType.DERIVEDFROM, planDef.getRelatedArtifactFirstRep().getType());
   }
 
+  @Test
+  void testIncrementalTranslation() {
+    DmnToPlanDef translator = new DmnToPlanDef();
+    ResourceIdentifier assetId = randomId();
+    ResourceIdentifier srcArtifactId = randomId();
+    ResourceIdentifier tgtArtifactId =
+        defaultArtifactId(assetId, FHIR_STU3, srcArtifactId.getVersionTag());
+
+    TDefinitions previous = DMN12ModelGenerator.decisionModel(30);
+    PlanDefinition previousPlanDef =
+        translator.transform(assetId, srcArtifactId, tgtArtifactId, previous);
+
+    TDefinitions current = DMN12ModelGenerator.decisionModel(30);
+    DmnModelIndex.of(current).getDecisions().get(15).setName("Edited Decision");
+    DmnModelIndex.of(current).getKnowledgeSources().get(2).setLocationURI("http://edited");
+
+    PlanDefinition planDef = translator.transform(
+        assetId, srcArtifactId, tgtArtifactId, previous, previousPlanDef, current);
+    PlanDefinition expected = translator.transform(assetId, srcArtifactId, tgtArtifactId, current);
+    assertTrue(expected.equalsDeep(planDef));
+
+    assertEquals(30, planDef.getAction().size());
+    for (int j = 0; j < 30; j++) {
+      PlanDefinitionActionComponent act = planDef.getAction().get(j);
+      assertNotSame(previousPlanDef.getAction().get(j), act);
+      if (j == 15 || j >= 20) {
+        // edited, or depends on the edited Knowledge Source
+        assertFalse(previousPlanDef.getAction().get(j).equalsDeep(act));
+      } else {
+        assertTrue(previousPlanDef.getAction().get(j).equalsDeep(act));
+      }
+    }
+    assertEquals("Edited Decision", planDef.getAction().get(15).getTitle());
+
+    // the two translations do not share any action
+    previousPlanDef.getAction().get(0).setTitle("Edited Previous");
+    assertNotEquals("Edited Previous", planDef.getAction().get(0).getTitle());
+  }
+
+  @Test
+  void testIncrementalDiffFromRetainedHashes() {
+    TDefinitions previous = DMN12ModelGenerator.decisionModel(30);
+    TDefinitions current = DMN12ModelGenerator.decisionModel(30);
+    DmnModelIndex.of(current).getDecisions().get(15).setName("Edited Decision");
+
+    DmnModelDiff full = DmnModelDiff.of(previous, current);
+    DmnModelDiff incremental = DmnModelDiff.of(ElementHashes.of(previous), current);
+    assertEquals(full.getChangedIds(), incremental.getChangedIds());
+    assertEquals(1, incremental.getModifiedIds().size());
+
+    // the hashes of the current model are the previous hashes of the next edit
+    TDefinitions next = DMN12ModelGenerator.decisionModel(30);
+    DmnModelIndex.of(next).getDecisions().get(15).setName("Edited Decision");
+    DmnModelIndex.of(next).getDecisions().get(3).setName("Edited Again");
+    assertEquals(DmnModelDiff.of(current, next).getChangedIds(),
+        DmnModelDiff.of(incremental.getCurrentHashes(), next).getChangedIds());
+    assertEquals(1, DmnModelDiff.of(incremental.getCurrentHashes(), next).getModifiedIds().size());
+  }
+
+  @Test
+  void testChainedIncrementalTranslation() {
+    DmnToPlanDefTranslator translator = new DmnToPlanDefTranslator();
+    ResourceIdentifier assetId = randomId();
+    ResourceIdentifier artifactId = randomId();
+    KnowledgeCarrier v1 = ofAst(DMN12ModelGenerator.decisionModel(10))
+        .withRepresentation(rep(DMN_1_2))
+        .withAssetId(assetId)
+        .withArtifactId(artifactId);
+    KnowledgeCarrier planDef1 = translator
+        .applyTransrepresentation(v1, rep(FHIR_STU3), null)
+        .orElseGet(Assertions::fail);
+
+    TDefinitions edit2 = DMN12ModelGenerator.decisionModel(10);
+    DmnModelIndex.of(edit2).getDecisions().get(2).setName("Edited Decision");
+    KnowledgeCarrier v2 = ofAst(edit2)
+        .withRepresentation(rep(DMN_1_2))
+        .withAssetId(assetId)
+        .withArtifactId(artifactId);
+    KnowledgeCarrier planDef2 = translator
+        .applyIncrementalTransrepresentation(v1, planDef1, v2)
+        .orElseGet(Assertions::fail);
+
+    TDefinitions edit3 = DMN12ModelGenerator.decisionModel(10);
+    DmnModelIndex.of(edit3).getDecisions().get(2).setName("Edited Decision");
+    DmnModelIndex.of(edit3).getDecisions().get(7).setName("Edited Again");
+    KnowledgeCarrier v3 = ofAst(edit3)
+        .withRepresentation(rep(DMN_1_2))
+        .withAssetId(assetId)
+        .withArtifactId(artifactId);
+    PlanDefinition planDef3 = translator
+        .applyIncrementalTransrepresentation(v2, planDef2, v3)
+        .flatOpt(kc -> kc.as(PlanDefinition.class))
+        .orElseGet(Assertions::fail);
+
+    PlanDefinition expected = new DmnToPlanDef().transform(assetId, artifactId,
+        DmnToPlanDefTranslator.mapArtifactToArtifactId(artifactId), edit3);
+    assertTrue(expected.equalsDeep(planDef3));
+    assertEquals("Edited Decision", planDef3.getAction().get(2).getTitle());
+    assertEquals("Edited Again", planDef3.getAction().get(7).getTitle());
+  }
+
+  @Test
+  void testIncrementalTranslationWithDecisionService() {
+    DmnToPlanDefTranslator translator = new DmnToPlanDefTranslator();
+    KnowledgeCarrier previous = ofAst(loadDMN("/fhir.stu3/DMNService.dmn.xml"))
+        .withRepresentation(rep(DMN_1_2))
+        .withAssetId(randomId())
+        .withArtifactId(randomId());
+    KnowledgeCarrier previousPlanDef = translator
+        .applyTransrepresentation(previous, rep(FHIR_STU3), null)
+        .orElseGet(Assertions::fail);
+
+    TDefinitions edited = loadDMN("/fhir.stu3/DMNService.dmn.xml");
+    TDecision client = DmnModelIndex.of(edited).getDecisions().stream()
+        .filter(dec -> dec.getKnowledgeRequirement().stream()
+            .anyMatch(know -> know.getRequiredKnowledge() != null))
+        .findFirst()
+        .orElseGet(Assertions::fail);
+    client.setName("Edited Client");
+    KnowledgeCarrier current = ofAst(edited)
+        .withRepresentation(rep(DMN_1_2))
+        .withAssetId(previous.getAssetId())
+        .withArtifactId(previous.getArtifactId());
+
+    PlanDefinition before = previousPlanDef.as(PlanDefinition.class)
+        .orElseGet(Assertions::fail);
+    PlanDefinition after = translator
+        .applyIncrementalTransrepresentation(previous, previousPlanDef, current)
+        .flatOpt(kc -> kc.as(PlanDefinition.class))
+        .orElseGet(Assertions::fail);
+
+    assertEquals(1, after.getAction().size());
+    PlanDefinitionActionComponent clientAct = after.getActionFirstRep();
+    assertEquals("Edited Client", clientAct.getTitle());
+    assertNotSame(before.getActionFirstRep(), clientAct);
+    // the Decision Service is not affected by the edit
+    assertNotSame(before.getActionFirstRep().getActionFirstRep(), clientAct.getActionFirstRep());
+    assertTrue(before.getActionFirstRep().getActionFirstRep()
+        .equalsDeep(clientAct.getActionFirstRep()));
+    assertEquals(3, clientAct.getActionFirstRep().getInput().size());
+  }
+
   private Stream<RelatedArtifact> getKnowledgeSources(PlanDefinition x) {
     return getSubActions(x)
         .flatMap(act -> act.getDocumentation().stream());
@@ -0,0 +1,196 @@
+package edu.mayo.kmdp.language.translators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.ofAst;
+import static org.omg.spec.api4kp._20200801.AbstractCarrier.rep;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.newId;
+import static org.omg.spec.api4kp._20200801.id.SemanticIdentifier.randomId;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.DMN_1_2;
+import static org.omg.spec.api4kp._20200801.taxonomy.krlanguage.KnowledgeRepresentationLanguageSeries.FHIR_STU3;
+
+import edu.mayo.kmdp.language.common.dmn.v1_2.DMN12ModelGenerator;
+import edu.mayo.kmdp.language.translators.TranslationCacheConfig.TranslationCacheParams;
+import edu.mayo.kmdp.language.translators.dmn.v1_2.DmnToPlanDefTranslator;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.hl7.fhir.dstu3.model.PlanDefinition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.omg.spec.api4kp._20200801.id.ResourceIdentifier;
+import org.omg.spec.api4kp._20200801.services.KnowledgeCarrier;
+
+class TranslationCacheTest {
+
+  @Test
+  void testCachedTranslationOfVersionedArtifact() {
+    TranslationCache cache = new TranslationCache(new TranslationCacheConfig()
+        .with(TranslationCacheParams.CACHE_PARSED, "true"));
+    DmnToPlanDefTranslator translator = new DmnToPlanDefTranslator();
+    translator.withCache(cache);
+
+    KnowledgeCarrier src = dmn(newId(UUID.randomUUID(), "1.0.0"));
+    KnowledgeCarrier out1 = translate(translator, src, new Properties());
+    KnowledgeCarrier out2 = translate(translator, src, new Properties());
+    assertEquals(1, cache.getStats().missCount());
+    assertEquals(1, cache.getStats().hitCount());
+
+    // clients get copies, which do not affect the cached entry
+    assertNotSame(out1, out2);
+    out1.withLabel("Edited");
+    out2.withLabel("Edited");
+    KnowledgeCarrier out3 = translate(translator, src, new Properties());
+    assertEquals(2, cache.getStats().hitCount());
+    assertNotEquals("Edited", out3.getLabel());
+
+    Properties config = new Properties();
+    config.setProperty("foo", "bar");
+    assertNotSame(out1, translate(translator, src, config));
+    assertEquals(2, cache.getStats().missCount());
+
+    KnowledgeCarrier newVersion = dmn(newId(src.getArtifactId().getUuid(), "1.0.1"));
+    assertNotSame(out1, translate(translator, newVersion, new Properties()));
+    assertEquals(3, cache.getStats().missCount());
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  void testCachedPlanDefinitionsAreNotShared() {
+    TranslationCache cache = new TranslationCache(new TranslationCacheConfig()
+        .with(TranslationCacheParams.CACHE_PARSED, "true"));
+    DmnToPlanDefTranslator translator = new DmnToPlanDefTranslator();
+    translator.withCache(cache);
+
+    KnowledgeCarrier src = dmn(newId(UUID.randomUUID(), "1.0.0"));
+    PlanDefinition first = translate(translator, src).as(PlanDefinition.class)
+        .orElseGet(Assertions::fail);
+    PlanDefinition hit = translate(translator, src).as(PlanDefinition.class)
+        .orElseGet(Assertions::fail);
+    assertEquals(1, cache.getStats().hitCount());
+    assertNotSame(first, hit);
+    String title = hit.getTitle();
+
+    first.setTitle("Edited");
+    hit.setTitle("Edited");
+    hit.getActionFirstRep().setTitle("Edited");
+
+    PlanDefinition next = translate(translator, src).as(PlanDefinition.class)
+        .orElseGet(Assertions::fail);
+    assertEquals(2, cache.getStats().hitCount());
+    assertEquals(title, next.getTitle());
+    assertNotEquals("Edited", next.getActionFirstRep().getTitle());
+  }
+
+  @Test
+  void testUncacheableTranslations() {
+    TranslationCache cache = new TranslationCache();
+    DmnToPlanDefTranslator translator = new DmnToPlanDefTranslator();
+    translator.withCache(cache);
+
+    // parsed expressions are not cached by default
+    KnowledgeCarrier src = dmn(newId(UUID.randomUUID(), "1.0.0"));
+    assertNotSame(
+        translate(translator, src, new Properties()),
+        translate(translator, src, new Properties()));
+
+    TranslationCache parsedCache = new TranslationCache(new TranslationCacheConfig()
+        .with(TranslationCacheParams.CACHE_PARSED, "true"));
+    translator.withCache(parsedCache);
+    Properties config = new Properties();
+    config.put("executor", (Executor) Runnable::run);
+    assertNotSame(
+        translate(translator, src, config),
+        translate(translator, src, config));
+
+    assertEquals(0, cache.getStats().requestCount());
+    assertEquals(0, parsedCache.getStats().requestCount());
+  }
+
+  @Test
+  void testDiskTier(@TempDir Path dir) {
+    TranslationCacheConfig cfg = new TranslationCacheConfig()
+        .with(TranslationCacheParams.CACHE_PARSED, "true")
+        .with(TranslationCacheParams.DISK_DIRECTORY, dir.toString());
+    KnowledgeCarrier src = dmn(newId(UUID.randomUUID(), "1.0.0"));
+
+    TranslationCache cache = new TranslationCache(cfg);
+    PlanDefinition planDef = translate(new DmnToPlanDefTranslator().withCache(cache), src)
+        .as(PlanDefinition.class)
+        .orElseGet(Assertions::fail);
+    assertEquals(1, cache.getDiskMissCount());
+
+    // a new cache, e.g. after a restart, reads the translation back from disk
+    TranslationCache restarted = new TranslationCache(cfg);
+    PlanDefinition stored = translate(new DmnToPlanDefTranslator().withCache(restarted), src)
+        .as(PlanDefinition.class)
+        .orElseGet(Assertions::fail);
+    assertEquals(1, restarted.getDiskHitCount());
+    assertEquals(0, restarted.getDiskMissCount());
+    assertNotSame(planDef, stored);
+    assertTrue(planDef.equalsDeep(stored));
+
+    translate(new DmnToPlanDefTranslator().withCache(restarted), src);
+    assertEquals(1, restarted.getStats().hitCount());
+    assertEquals(1, restarted.getDiskHitCount());
+  }
+
+  @Test
+  void testDiskTierOnlyReadsAllowedClasses(@TempDir Path dir) {
+    TranslationCacheConfig cfg = new TranslationCacheConfig()
+        .with(TranslationCacheParams.CACHE_PARSED, "true")
+        .with(TranslationCacheParams.DISK_DIRECTORY, dir.toString());
+    KnowledgeCarrier src = dmn(newId(UUID.randomUUID(), "1.0.0"));
+    translate(new DmnToPlanDefTranslator().withCache(new TranslationCache(cfg)), src);
+
+    // FHIR resources are not allowed: the stored translation is ignored, and redone
+    TranslationCache restricted = new TranslationCache(new TranslationCacheConfig()
+        .with(TranslationCacheParams.CACHE_PARSED, "true")
+        .with(TranslationCacheParams.DISK_DIRECTORY, dir.toString())
+        .with(TranslationCacheParams.DISK_CLASS_FILTER,
+            "java.lang.*;java.util.**;java.net.URI;org.omg.spec.**;edu.mayo.**"));
+    assertTrue(translate(new DmnToPlanDefTranslator().withCache(restricted), src)
+        .as(PlanDefinition.class)
+        .isPresent());
+    assertEquals(0, restricted.getDiskHitCount());
+    assertEquals(1, restricted.getDiskMissCount());
+  }
+
+  @Test
+  void testEviction() {
+    TranslationCache cache = new TranslationCache(new TranslationCacheConfig()
+        .with(TranslationCacheParams.CACHE_PARSED, "true")
+        .with(TranslationCacheParams.MAX_SIZE, "2"));
+    DmnToPlanDefTranslator translator = new DmnToPlanDefTranslator();
+    translator.withCache(cache);
+
+    for (int j = 0; j < 5; j++) {
+      translate(translator, dmn(newId(UUID.randomUUID(), "1.0.0")), new Properties());
+    }
+    assertEquals(2, cache.size());
+    assertEquals(3, cache.getStats().evictionCount());
+  }
+
+  private KnowledgeCarrier dmn(ResourceIdentifier artifactId) {
+    return ofAst(DMN12ModelGenerator.decisionModel(5))
+        .withRepresentation(rep(DMN_1_2))
+        .withAssetId(randomId())
+        .withArtifactId(artifactId);
+  }
+
+  private KnowledgeCarrier translate(AbstractSimpleTranslator<?, ?> translator,
+      KnowledgeCarrier src) {
+    return translate(translator, src, new Properties());
+  }
+
+  private KnowledgeCarrier translate(AbstractSimpleTranslator<?, ?> translator,
+      KnowledgeCarrier src, Properties config) {
+    return translator.applyTransrepresentation(src, rep(FHIR_STU3), config)
+        .orElseGet(Assertions::fail);
+  }
+
+}
@@ -28,7 +28,10 @@ import static org.omg.spec.api4kp._20200801.taxonomy.krprofile.KnowledgeRepresen
 import static org.omg.spec.api4kp._20200801.taxonomy.krserialization.KnowledgeRepresentationLanguageSerializationSeries.OWL_Functional_Syntax;
 
 import edu.mayo.kmdp.language.config.LocalTestConfig;
+import edu.mayo.kmdp.language.detectors.owl2.OWLDetectorConfig;
+import edu.mayo.kmdp.language.detectors.owl2.OWLDetectorConfig.DetectorParams;
 import edu.mayo.kmdp.util.FileUtil;
+import edu.mayo.kmdp.util.PropertiesUtil;
 import java.io.InputStream;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -109,7 +112,9 @@ public class DetectorTest {
     KnowledgeCarrier carrier = AbstractCarrier.of(is)
         .withRepresentation(rep(OWL_2,OWL_Functional_Syntax,TXT));
 
-    Optional<SyntacticRepresentation> orep = detector.applyDetect(carrier)
+    String config = PropertiesUtil.serializeProps(
+        new OWLDetectorConfig().with(DetectorParams.DETECT_PROFILE, "true"));
+    Optional<SyntacticRepresentation> orep = detector.applyDetect(carrier, config)
         .map(KnowledgeCarrier::getRepresentation)
         .getOptionalValue();
 